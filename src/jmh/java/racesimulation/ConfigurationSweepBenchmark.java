@@ -0,0 +1,51 @@
+package racesimulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full 729-car sweep on Monaco, on pools of increasing size to track multi-core scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConfigurationSweepBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private ConfigurationSweep sweep;
+    private RaceTrack raceTrack;
+    private RaceConditions raceConditions;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        sweep = new ConfigurationSweep(assetProvider, null); // Measure planning, not cache hits
+        raceTrack = assetProvider.getTrackVariations().get(0);
+        raceConditions = assetProvider.getConditionVariations().get(0);
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<SweepResult> sweepMonaco() {
+        return sweep.run(raceTrack, raceConditions, 10, pool);
+    }
+}
@@ -0,0 +1,52 @@
+package racesimulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Car-laps per second of the FleetState lap kernel on a fleet built from the whole catalog.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FleetStateBenchmark {
+    private static final int FLEET_SIZE = 10_000;
+
+    private FleetState fleet;
+
+    @Setup
+    public void setUp() {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        fleet = new FleetState(FLEET_SIZE);
+        int index = 0;
+        while (fleet.size() < FLEET_SIZE) {
+            Engine engine = assetProvider.getEngineVariations().get(index % 3);
+            Tyres tyres = assetProvider.getTyreVariations().get((index / 3) % 3);
+            AerodynamicKit aeroKit = assetProvider.getAeroKitVariations().get((index / 9) % 9);
+            fleet.add(new RaceCar(engine, tyres, aeroKit, 1000.0, 70.0));
+            index++;
+        }
+        fleet.prepare(assetProvider.getTrackVariations().get(0), assetProvider.getConditionVariations().get(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public void advanceLap() {
+        fleet.advanceLap();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FLEET_SIZE)
+    public int advanceLapAndPit() {
+        fleet.advanceLap();
+        return fleet.performPitStops();
+    }
+}
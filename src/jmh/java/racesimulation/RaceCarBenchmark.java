@@ -0,0 +1,41 @@
+package racesimulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of building a RaceCar from catalog components.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RaceCarBenchmark {
+    private Engine engine;
+    private Tyres tyres;
+    private AerodynamicKit aeroKit;
+
+    @Setup
+    public void setUp() {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        engine = assetProvider.getEngineVariations().get(0);
+        tyres = assetProvider.getTyreVariations().get(0);
+        aeroKit = assetProvider.getAeroKitVariations().get(0);
+    }
+
+    @Benchmark
+    public RaceCar construct() {
+        return new RaceCar(engine, tyres, aeroKit, 900.0, 80.0);
+    }
+
+    @Benchmark
+    public RaceCarMetrics calculateMetricsUncached() {
+        return new RaceCarMetrics(engine, tyres, aeroKit, 900.0);
+    }
+}
@@ -0,0 +1,110 @@
+package racesimulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lap physics, pit stop decisions and pit stop planning on each GameAssetProvider track.
+ * State is per thread, so the Threads.MAX variants measure how planning scales across cores.
+ * Run with -prof gc to check that stepping a race with CarState does not allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RaceStrategyOptimiserBenchmark {
+
+    @Param({"Monaco", "Monza", "Silverstone"})
+    public String trackName;
+
+    private RaceCar raceCar;
+    private RaceTrack raceTrack;
+    private RaceConditions raceConditions;
+    private RaceStrategyOptimiser raceOptimiser;
+    private CarState state;
+    private List<Integer> plannedPitStopLaps;
+    private List<Tyres> compounds;
+    private PitStrategyPlanner strategyPlanner;
+    private ConditionsTimeline wetFromHalfDistance;
+
+    @Setup
+    public void setUp() {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        raceCar = new RaceCar(assetProvider.getEngineVariations().get(0), assetProvider.getTyreVariations().get(1),
+                assetProvider.getAeroKitVariations().get(0), 1000.0, 70.0);
+        raceTrack = assetProvider.getTrackVariations().stream()
+                .filter(track -> track.getName().equals(trackName))
+                .findFirst()
+                .orElseThrow();
+        raceConditions = assetProvider.getConditionVariations().get(0);
+        raceOptimiser = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
+        state = CarState.start(raceCar);
+        plannedPitStopLaps = raceOptimiser.planPitStops();
+        compounds = assetProvider.getTyreVariations();
+        strategyPlanner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, compounds);
+        wetFromHalfDistance = strategyPlanner.getConditionsTimeline()
+                .withConditionsFrom(raceTrack.getNumberOfLaps() / 2, assetProvider.getConditionVariations().get(1));
+    }
+
+    @Benchmark
+    public double simulateLap() {
+        return raceOptimiser.simulateLap(state).getFuel();
+    }
+
+    @Benchmark
+    public String simulateLapAndCheckPitStop() {
+        return raceOptimiser.pitStopReason(raceOptimiser.simulateLap(state), raceTrack.getNumberOfLaps());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public CarState finalState() {
+        return raceOptimiser.finalState(plannedPitStopLaps);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Integer> planPitStops() {
+        return raceOptimiser.planPitStops();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Integer> planPitStopsAllThreads() {
+        return raceOptimiser.planPitStops();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double calculateRaceTime() {
+        return raceOptimiser.calculateRaceTime(plannedPitStopLaps);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public PitStrategy optimiseStrategy() {
+        return raceOptimiser.optimiseStrategy(compounds);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public PitStrategy replanFromHalfDistance() {
+        return strategyPlanner.withConditions(wetFromHalfDistance).plan();
+    }
+}
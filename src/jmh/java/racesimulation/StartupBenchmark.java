@@ -0,0 +1,128 @@
+package racesimulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Wall-clock start-up time of a fresh JVM, with and without a class data sharing archive.
+ * The batch launcher plans one race with the BatchRunner; the gui launcher opens the JavaFX application
+ * with the start-up probe, which exits once the assets are shown, and needs a display.
+ * The application classes are packed into a jar first, since class data sharing only archives classes
+ * loaded from jars, and the archive is recorded once per trial from a run of the same launcher.
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args="StartupBenchmark -p launcher=batch"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StartupBenchmark {
+
+    @Param({"batch", "gui"})
+    public String launcher;
+
+    @Param({"none", "appcds"})
+    public String archive;
+
+    private Path applicationJar;
+    private Path archiveFile;
+    private List<String> command;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        String classes = null;
+        StringJoiner javafxModules = new StringJoiner(File.pathSeparator);
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (entry.endsWith("classes") && !entry.endsWith("test-classes")) {
+                classes = entry;
+            } else if (new File(entry).getName().startsWith("javafx-")) {
+                javafxModules.add(entry);
+            }
+        }
+        if (classes == null) {
+            throw new IllegalStateException("The application classes are not on the class path.");
+        }
+
+        applicationJar = packClasses(Path.of(classes));
+
+        List<String> application = new ArrayList<>();
+        if (launcher.equals("batch")) {
+            application.addAll(List.of("-cp", applicationJar.toString(), "racesimulation.BatchRunner", "--track", "Monaco",
+                    "--conditions", "Dry", "--engine", "Standard V6", "--tyres", "Soft Compound",
+                    "--aero-kit", "Standard Kit", "--weight", "900", "--fuel-capacity", "60"));
+        } else {
+            application.addAll(List.of("-D" + Main.STARTUP_PROBE_PROPERTY + "=true",
+                    "--module-path", applicationJar + File.pathSeparator + javafxModules,
+                    "-m", "racesimulation/racesimulation.Main"));
+        }
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        command = new ArrayList<>(List.of(java));
+        if (archive.equals("appcds")) {
+            archiveFile = Files.createTempFile("startup", ".jsa");
+            Files.delete(archiveFile); // The JVM creates it on exit
+            List<String> record = new ArrayList<>(command);
+            record.add("-XX:ArchiveClassesAtExit=" + archiveFile);
+            record.addAll(application);
+            launch(record);
+            command.add("-XX:SharedArchiveFile=" + archiveFile);
+        }
+        command.addAll(application);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (archiveFile != null) {
+            Files.deleteIfExists(archiveFile);
+        }
+        Files.deleteIfExists(applicationJar);
+    }
+
+    @Benchmark
+    public int startUp() throws IOException, InterruptedException {
+        return launch(command);
+    }
+
+    private static Path packClasses(Path classes) throws IOException {
+        Path jar = Files.createTempFile("racesimulation", ".jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(classes)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                out.putNextEntry(new JarEntry(classes.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, out);
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static int launch(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Start-up run exited with " + exitCode + ": " + command);
+        }
+        return exitCode;
+    }
+}
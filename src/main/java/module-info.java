@@ -5,6 +5,12 @@ module racesimulation {
     requires javafx.graphics;
     requires javafx.base;
 
+    // Simulation metrics are published over JMX
+    requires java.management;
+
+    // Custom Java Flight Recorder events
+    requires jdk.jfr;
+
     // Open the package containing your main application class to javafx.graphics
     // This is necessary for the JavaFX launcher to access your Main class via reflection
     opens racesimulation to javafx.graphics;
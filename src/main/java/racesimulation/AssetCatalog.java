@@ -0,0 +1,394 @@
+package racesimulation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-only catalog of engines, tyres, aerodynamic kits, tracks and race conditions stored in a binary file
+ * written by AssetCatalog.write. The file is mapped rather than read, and each kind of asset carries its own
+ * open-addressing hash table of names, so opening a catalog reads only the header and its cost does not grow
+ * with the number of assets. An asset is decoded the first time it is asked for and the instance is kept,
+ * so every later lookup of it, by index or by name, returns the same instance without allocating.
+ * <p>
+ * File layout (little-endian): a header of magic and version followed by one section descriptor per kind
+ * (entry count, hash slot count, entry table offset, slot table offset). Each kind has an entry table of
+ * record offsets in catalog order and a slot table holding the entry index + 1 of each name, or 0 for an
+ * empty slot. A record starts with the String hash of its name, the name's length and its UTF-16 chars,
+ * so a lookup can compare names in the mapped file, followed by the asset's fields.
+ * This class is thread-safe.
+ */
+final class AssetCatalog {
+    static final int MAGIC = 0x31544143; // "CAT1"
+    static final int VERSION = 1;
+
+    // Kinds of asset, in section order
+    static final int ENGINE = 0;
+    static final int TYRES = 1;
+    static final int AERO_KIT = 2;
+    static final int TRACK = 3;
+    static final int CONDITIONS = 4;
+    static final int KIND_COUNT = 5;
+
+    static final int SECTION_SIZE = 24; // entry count (4), slot count (4), entry table offset (8), slot table offset (8)
+    static final int HEADER_SIZE = 8 + KIND_COUNT * SECTION_SIZE;
+
+    private static final String[] KIND_NAMES = {"engine", "tyres", "aero kit", "track", "conditions"};
+    private static final int[] FIELD_SIZES = {20, 28, 28, 28, 25}; // Bytes of each kind's fields after the name
+
+    private final ByteBuffer buffer;
+    private final int[] counts = new int[KIND_COUNT];
+    private final int[] slotCounts = new int[KIND_COUNT];
+    private final int[] entryTables = new int[KIND_COUNT];
+    private final int[] slotTables = new int[KIND_COUNT];
+    private final List<AtomicReferenceArray<Object>> decoded = new ArrayList<>(KIND_COUNT);
+
+    private AssetCatalog(ByteBuffer buffer, Path path) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not an asset catalog: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported asset catalog version " + buffer.getInt(4) + ": " + path);
+        }
+        for (int kind = 0; kind < KIND_COUNT; kind++) {
+            int section = 8 + kind * SECTION_SIZE;
+            counts[kind] = buffer.getInt(section);
+            slotCounts[kind] = buffer.getInt(section + 4);
+            long entryTable = buffer.getLong(section + 8);
+            long slotTable = buffer.getLong(section + 16);
+            // At least one slot must stay empty, or a lookup of a missing name would probe every slot
+            if (counts[kind] < 0 || Integer.bitCount(slotCounts[kind]) != 1 || slotCounts[kind] <= counts[kind]
+                    || entryTable + 4L * counts[kind] > buffer.capacity()
+                    || slotTable + 4L * slotCounts[kind] > buffer.capacity()) {
+                throw new IOException("Corrupt asset catalog " + KIND_NAMES[kind] + " section: " + path);
+            }
+            entryTables[kind] = (int) entryTable;
+            slotTables[kind] = (int) slotTable;
+            decoded.add(new AtomicReferenceArray<>(counts[kind]));
+        }
+    }
+
+    /**
+     * Opens and maps a catalog file. No asset is read until it is asked for.
+     *
+     * @param path The catalog file.
+     * @return The catalog.
+     * @throws IOException If the file cannot be read or is not an asset catalog.
+     */
+    public static AssetCatalog open(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null.");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Asset catalog larger than 2 GB: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new AssetCatalog(buffer.order(ByteOrder.LITTLE_ENDIAN), path);
+        }
+    }
+
+    /**
+     * Writes the assets of a GameAssetProvider to a catalog file, replacing any existing file at the path.
+     *
+     * @see #write(Path, List, List, List, List, List)
+     */
+    public static void write(Path path, GameAssetProvider assetProvider) throws IOException {
+        if (assetProvider == null) {
+            throw new IllegalArgumentException("GameAssetProvider cannot be null.");
+        }
+        write(path, assetProvider.getEngineVariations(), assetProvider.getTyreVariations(),
+                assetProvider.getAeroKitVariations(), assetProvider.getTrackVariations(),
+                assetProvider.getConditionVariations());
+    }
+
+    /**
+     * Writes assets to a catalog file, replacing any existing file at the path.
+     * Assets keep their order; names must be unique within each kind.
+     *
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Path path, List<Engine> engines, List<Tyres> tyres, List<AerodynamicKit> aeroKits,
+                             List<RaceTrack> tracks, List<RaceConditions> conditions) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null.");
+        }
+        if (engines == null || tyres == null || aeroKits == null || tracks == null || conditions == null) {
+            throw new IllegalArgumentException("Asset lists cannot be null.");
+        }
+        List<List<?>> assets = List.of(engines, tyres, aeroKits, tracks, conditions);
+
+        // Lay out every section, then fill in a buffer of the final size
+        long size = HEADER_SIZE;
+        int[] slotCounts = new int[KIND_COUNT];
+        for (int kind = 0; kind < KIND_COUNT; kind++) {
+            List<?> kindAssets = assets.get(kind);
+            slotCounts[kind] = Math.max(2, Integer.highestOneBit(Math.max(1, kindAssets.size())) << 2); // Load <= 1/2
+            size += 4L * kindAssets.size() + 4L * slotCounts[kind];
+            for (Object asset : kindAssets) {
+                size += recordSize(kind, asset);
+            }
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Asset catalog would be larger than 2 GB.");
+        }
+
+        ByteBuffer out = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION);
+        int offset = HEADER_SIZE;
+        for (int kind = 0; kind < KIND_COUNT; kind++) {
+            List<?> kindAssets = assets.get(kind);
+            int entryTable = offset;
+            int slotTable = entryTable + 4 * kindAssets.size();
+            int slotMask = slotCounts[kind] - 1;
+            out.putInt(8 + kind * SECTION_SIZE, kindAssets.size());
+            out.putInt(8 + kind * SECTION_SIZE + 4, slotCounts[kind]);
+            out.putLong(8 + kind * SECTION_SIZE + 8, entryTable);
+            out.putLong(8 + kind * SECTION_SIZE + 16, slotTable);
+
+            int record = slotTable + 4 * slotCounts[kind];
+            for (int index = 0; index < kindAssets.size(); index++) {
+                Object asset = kindAssets.get(index);
+                String name = nameOf(kind, asset);
+                int slot = mix(name.hashCode()) & slotMask;
+                while (out.getInt(slotTable + 4 * slot) != 0) {
+                    int other = out.getInt(entryTable + 4 * (out.getInt(slotTable + 4 * slot) - 1));
+                    if (nameMatches(out, other, name)) {
+                        throw new IllegalArgumentException("Duplicate " + KIND_NAMES[kind] + " name '" + name + "'.");
+                    }
+                    slot = (slot + 1) & slotMask;
+                }
+                out.putInt(slotTable + 4 * slot, index + 1);
+                out.putInt(entryTable + 4 * index, record);
+                out.position(record);
+                writeRecord(out, kind, asset);
+                record = out.position();
+            }
+            offset = record;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.clear();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * @return The number of assets of a kind in the catalog.
+     */
+    public int size(int kind) {
+        return counts[kind];
+    }
+
+    public Engine getEngine(int index) {
+        return (Engine) get(ENGINE, index);
+    }
+
+    public Tyres getTyres(int index) {
+        return (Tyres) get(TYRES, index);
+    }
+
+    public AerodynamicKit getAeroKit(int index) {
+        return (AerodynamicKit) get(AERO_KIT, index);
+    }
+
+    public RaceTrack getTrack(int index) {
+        return (RaceTrack) get(TRACK, index);
+    }
+
+    public RaceConditions getConditions(int index) {
+        return (RaceConditions) get(CONDITIONS, index);
+    }
+
+    /**
+     * @return The engine with the given name, or null if the catalog has none.
+     */
+    public Engine findEngine(String name) {
+        return (Engine) find(ENGINE, name);
+    }
+
+    public Tyres findTyres(String compound) {
+        return (Tyres) find(TYRES, compound);
+    }
+
+    public AerodynamicKit findAeroKit(String kitName) {
+        return (AerodynamicKit) find(AERO_KIT, kitName);
+    }
+
+    public RaceTrack findTrack(String name) {
+        return (RaceTrack) find(TRACK, name);
+    }
+
+    public RaceConditions findConditions(String name) {
+        return (RaceConditions) find(CONDITIONS, name);
+    }
+
+    /**
+     * Returns the asset of a kind at an index in catalog order, decoding it on first use.
+     */
+    Object get(int kind, int index) {
+        if (index < 0 || index >= counts[kind]) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for " + counts[kind] + " " + KIND_NAMES[kind] + " assets.");
+        }
+        AtomicReferenceArray<Object> instances = decoded.get(kind);
+        Object asset = instances.get(index);
+        if (asset == null) {
+            // Two threads decoding the same asset at once keep whichever instance is stored first
+            Object fresh = readRecord(kind, buffer.getInt(entryTables[kind] + 4 * index));
+            asset = instances.compareAndSet(index, null, fresh) ? fresh : instances.get(index);
+        }
+        return asset;
+    }
+
+    /**
+     * Returns the asset of a kind with an exact name, probing the name's hash table in the mapped file.
+     * Probing stops after every slot has been tried, so a corrupt table without empty slots ends the search.
+     *
+     * @throws IllegalStateException If a slot holds an entry index outside the entry table.
+     */
+    private Object find(int kind, String name) {
+        if (name == null || counts[kind] == 0) {
+            return null;
+        }
+        int slotMask = slotCounts[kind] - 1;
+        int slotTable = slotTables[kind];
+        int slot = mix(name.hashCode()) & slotMask;
+        for (int probe = 0; probe < slotCounts[kind]; probe++, slot = (slot + 1) & slotMask) {
+            int entry = buffer.getInt(slotTable + 4 * slot);
+            if (entry == 0) {
+                return null;
+            }
+            if (entry < 0 || entry > counts[kind]) {
+                throw new IllegalStateException("Corrupt asset catalog " + KIND_NAMES[kind] + " slot " + slot + ".");
+            }
+            if (nameMatches(buffer, buffer.getInt(entryTables[kind] + 4 * (entry - 1)), name)) {
+                return get(kind, entry - 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Spreads the String hash so that names differing only in their last characters use different slots.
+     */
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean nameMatches(ByteBuffer buffer, int record, String name) {
+        if (buffer.getInt(record) != name.hashCode() || buffer.getShort(record + 4) != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (buffer.getChar(record + 6 + 2 * i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object readRecord(int kind, int record) {
+        int length = buffer.getShort(record + 4);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = buffer.getChar(record + 6 + 2 * i);
+        }
+        String name = new String(chars);
+        int field = record + 6 + 2 * length;
+        switch (kind) {
+            case ENGINE:
+                return new Engine(name, buffer.getInt(field), buffer.getDouble(field + 4), buffer.getDouble(field + 12));
+            case TYRES:
+                return new Tyres(name, buffer.getInt(field), buffer.getDouble(field + 4),
+                        buffer.getDouble(field + 12), buffer.getDouble(field + 20));
+            case AERO_KIT:
+                return new AerodynamicKit(name, buffer.getDouble(field), buffer.getInt(field + 8), buffer.getInt(field + 12),
+                        buffer.getDouble(field + 16), buffer.getInt(field + 24));
+            case TRACK:
+                return new RaceTrack(name, buffer.getDouble(field), buffer.getInt(field + 8),
+                        buffer.getDouble(field + 12), buffer.getDouble(field + 20));
+            default:
+                return new RaceConditions(name, RaceConditions.Weather.values()[buffer.get(field)],
+                        buffer.getDouble(field + 1), buffer.getDouble(field + 9), buffer.getDouble(field + 17));
+        }
+    }
+
+    private static void writeRecord(ByteBuffer out, int kind, Object asset) {
+        String name = nameOf(kind, asset);
+        out.putInt(name.hashCode()).putShort((short) name.length());
+        for (int i = 0; i < name.length(); i++) {
+            out.putChar(name.charAt(i));
+        }
+        switch (kind) {
+            case ENGINE: {
+                Engine engine = (Engine) asset;
+                out.putInt(engine.getPowerRating()).putDouble(engine.getFuelEfficiency()).putDouble(engine.getReliability());
+                break;
+            }
+            case TYRES: {
+                Tyres tyres = (Tyres) asset;
+                out.putInt(tyres.getGripLevel()).putDouble(tyres.getWearRate())
+                        .putDouble(tyres.getOptimalTempRange().getMinTemp()).putDouble(tyres.getOptimalTempRange().getMaxTemp());
+                break;
+            }
+            case AERO_KIT: {
+                AerodynamicKit aeroKit = (AerodynamicKit) asset;
+                out.putDouble(aeroKit.getDragCoefficient()).putInt(aeroKit.getDownforceValue()).putInt(aeroKit.getTopSpeed())
+                        .putDouble(aeroKit.getFuelEfficiency()).putInt(aeroKit.getCorneringAbility());
+                break;
+            }
+            case TRACK: {
+                RaceTrack track = (RaceTrack) asset;
+                out.putDouble(track.getLength_km()).putInt(track.getNumberOfLaps())
+                        .putDouble(track.getTyreWearFactor()).putDouble(track.getFuelConsumptionFactor());
+                break;
+            }
+            default: {
+                RaceConditions conditions = (RaceConditions) asset;
+                out.put((byte) conditions.getWeather().ordinal()).putDouble(conditions.getAirTemperature())
+                        .putDouble(conditions.getTrackTemperature()).putDouble(conditions.getHumidity());
+            }
+        }
+    }
+
+    private static int recordSize(int kind, Object asset) {
+        String name = nameOf(kind, asset);
+        if (name.length() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("The " + KIND_NAMES[kind] + " name is longer than " + Short.MAX_VALUE + " chars.");
+        }
+        if (kind == CONDITIONS && ((RaceConditions) asset).getWeather() == null) {
+            throw new IllegalArgumentException("The weather of conditions '" + name + "' cannot be null.");
+        }
+        return 6 + 2 * name.length() + FIELD_SIZES[kind];
+    }
+
+    private static String nameOf(int kind, Object asset) {
+        if (asset == null) {
+            throw new IllegalArgumentException("The " + KIND_NAMES[kind] + " assets cannot contain null.");
+        }
+        String name;
+        switch (kind) {
+            case ENGINE: name = ((Engine) asset).getName(); break;
+            case TYRES: name = ((Tyres) asset).getCompound(); break;
+            case AERO_KIT: name = ((AerodynamicKit) asset).getKitName(); break;
+            case TRACK: name = ((RaceTrack) asset).getName(); break;
+            default: name = ((RaceConditions) asset).getName();
+        }
+        if (name == null) {
+            throw new IllegalArgumentException("The " + KIND_NAMES[kind] + " name cannot be null.");
+        }
+        return name;
+    }
+}
@@ -0,0 +1,435 @@
+package racesimulation;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Command-line entry point that plans or simulates races without the JavaFX application, for headless
+ * batch jobs. Tracks, conditions and components are chosen by their names in the built-in assets, or in an
+ * AssetCatalog file given with --catalog, as comma-separated lists or "all". Every combination is run,
+ * in parallel when there is more than one.
+ * One line per combination is streamed to stdout as CSV or JSON lines, in a fixed order.
+ * <p>
+ * Run it on the class path so the JavaFX modules are neither needed nor loaded:
+ * <pre>
+ * java -cp race-simulation.jar racesimulation.BatchRunner --track Monaco --conditions Dry --engine all
+ * </pre>
+ * A single combination runs on the calling thread, and lines are built with StringBuilder rather than
+ * String.format, so short runs called thousands of times from scripts pay little start-up cost.
+ */
+public class BatchRunner {
+    static final int EXIT_OK = 0;
+    static final int EXIT_ERROR = 1;
+    static final int EXIT_USAGE = 2;
+
+    static final int MAX_KNOWN_NAMES = 20; // Names listed when a name is not found
+
+    static final String ALL = "all";
+    static final String MODE_PLAN = "plan";
+    static final String MODE_SIMULATE = "simulate";
+    static final String FORMAT_CSV = "csv";
+    static final String FORMAT_JSONL = "jsonl";
+
+    static final String CSV_HEADER = "track,conditions,engine,tyres,aero_kit,car_weight,fuel_tank_capacity,"
+            + "mode,completed,pit_stops,pit_stop_laps,total_race_time,final_fuel,final_tyre_wear";
+
+    static final String USAGE = "Usage: java -cp race-simulation.jar racesimulation.BatchRunner [options]\n"
+            + "  --track NAMES          Track names, comma-separated, or all (default all)\n"
+            + "  --conditions NAMES     Race conditions names, or all (default all)\n"
+            + "  --engine NAMES         Engine names, or all (default all)\n"
+            + "  --tyres NAMES          Tyre compound names, or all (default all)\n"
+            + "  --aero-kit NAMES       Aerodynamic kit names, or all (default all)\n"
+            + "  --weight KG            Car weights, or all (default all)\n"
+            + "  --fuel-capacity L      Fuel tank capacities, or all (default all)\n"
+            + "  --mode plan|simulate   Plan the pit stops, or run the race lap by lap (default plan)\n"
+            + "  --format csv|jsonl     Output format (default csv)\n"
+            + "  --threads N            Worker threads for several combinations (default all processors)\n"
+            + "  --catalog FILE         Asset catalog written by AssetCatalog.write (default built-in assets)\n"
+            + "  --help                 Print this message";
+
+    private final List<RaceTrack> tracks;
+    private final List<RaceConditions> conditions;
+    private final List<Engine> engines;
+    private final List<Tyres> tyres;
+    private final List<AerodynamicKit> aeroKits;
+    private final List<Double> carWeights;
+    private final List<Double> fuelTankCapacities;
+    private final int carCount;
+    private final int runCount;
+    private final boolean simulate;
+    private final boolean jsonLines;
+    private final int threads;
+
+    /**
+     * Constructs a BatchRunner from command-line arguments.
+     *
+     * @param assetProvider The GameAssetProvider the names are looked up in.
+     * @param args          The command-line arguments, without --help.
+     * @throws IllegalArgumentException if an option or name is not recognised, or the batch has more
+     *                                  than Integer.MAX_VALUE combinations.
+     */
+    BatchRunner(GameAssetProvider assetProvider, String[] args) {
+        if (assetProvider == null) {
+            throw new IllegalArgumentException("GameAssetProvider cannot be null.");
+        }
+        if (args == null) {
+            throw new IllegalArgumentException("Arguments cannot be null.");
+        }
+        String track = ALL, condition = ALL, engine = ALL, tyre = ALL, aeroKit = ALL, weight = ALL, capacity = ALL;
+        String mode = MODE_PLAN, format = FORMAT_CSV;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option + ".");
+            }
+            String value = args[i + 1].trim();
+            switch (option) {
+                case "--track": track = value; break;
+                case "--conditions": condition = value; break;
+                case "--engine": engine = value; break;
+                case "--tyres": tyre = value; break;
+                case "--aero-kit": aeroKit = value; break;
+                case "--weight": weight = value; break;
+                case "--fuel-capacity": capacity = value; break;
+                case "--mode": mode = value.toLowerCase(Locale.ROOT); break;
+                case "--format": format = value.toLowerCase(Locale.ROOT); break;
+                case "--threads": threadCount = parseThreads(value); break;
+                case "--catalog": break; // Opened by run(String[], ...) before the BatchRunner is built
+                default: throw new IllegalArgumentException("Unknown option " + option + ".");
+            }
+        }
+        if (!mode.equals(MODE_PLAN) && !mode.equals(MODE_SIMULATE)) {
+            throw new IllegalArgumentException("Mode must be " + MODE_PLAN + " or " + MODE_SIMULATE + ".");
+        }
+        if (!format.equals(FORMAT_CSV) && !format.equals(FORMAT_JSONL)) {
+            throw new IllegalArgumentException("Format must be " + FORMAT_CSV + " or " + FORMAT_JSONL + ".");
+        }
+
+        this.tracks = select("track", track, assetProvider.getTrackVariations(),
+                assetProvider::findTrack, RaceTrack::getName);
+        this.conditions = select("conditions", condition, assetProvider.getConditionVariations(),
+                assetProvider::findConditions, RaceConditions::getName);
+        this.engines = select("engine", engine, assetProvider.getEngineVariations(),
+                assetProvider::findEngine, Engine::getName);
+        this.tyres = select("tyres", tyre, assetProvider.getTyreVariations(),
+                assetProvider::findTyres, Tyres::getCompound);
+        this.aeroKits = select("aero kit", aeroKit, assetProvider.getAeroKitVariations(),
+                assetProvider::findAeroKit, AerodynamicKit::getKitName);
+        this.carWeights = selectPreset("weight", weight, RaceCar.getAllowedWeights());
+        this.fuelTankCapacities = selectPreset("fuel capacity", capacity, RaceCar.getAllowedFuelCapacities());
+        this.carCount = combinationCount(engines.size(), tyres.size(), aeroKits.size(), carWeights.size(),
+                fuelTankCapacities.size());
+        this.runCount = combinationCount(tracks.size(), conditions.size(), carCount);
+        this.simulate = mode.equals(MODE_SIMULATE);
+        this.jsonLines = format.equals(FORMAT_JSONL);
+        this.threads = threadCount;
+    }
+
+    public static void main(String[] args) {
+        // Buffered rather than flushed on every line, since a batch can write thousands of lines
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16), false);
+        SimulationMetrics.startIfEnabled();
+        int exitCode = run(args, out, System.err);
+        if (SimulationMetrics.ENABLED) {
+            SimulationMetrics.SHARED.sampleLapRate(System.nanoTime());
+            System.err.print(SimulationMetrics.SHARED.dump());
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Runs the batch described by the arguments.
+     *
+     * @return The process exit code: EXIT_OK, EXIT_ERROR if the catalog cannot be read,
+     *         or EXIT_USAGE if the arguments are invalid.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        for (String arg : args) {
+            if (arg.equals("--help") || arg.equals("-h")) {
+                out.println(USAGE);
+                return EXIT_OK;
+            }
+        }
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (args[i].equals("--catalog")) {
+                try {
+                    assetProvider = new GameAssetProvider(AssetCatalog.open(Path.of(args[i + 1])));
+                } catch (IOException | InvalidPathException ex) {
+                    err.println("Error: cannot open asset catalog: " + ex.getMessage());
+                    return EXIT_ERROR;
+                }
+            }
+        }
+        BatchRunner runner;
+        try {
+            runner = new BatchRunner(assetProvider, args);
+        } catch (IllegalArgumentException ex) {
+            err.println("Error: " + ex.getMessage());
+            err.println(USAGE);
+            return EXIT_USAGE;
+        }
+        runner.run(out);
+        out.flush();
+        return EXIT_OK;
+    }
+
+    /**
+     * @return The number of combinations this batch runs.
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Runs every combination and writes one line for each, after a header line for CSV.
+     * Lines are written in combination order, each as soon as it and all lines before it are done.
+     *
+     * @param out The stream to write to.
+     */
+    public void run(PrintStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream cannot be null.");
+        }
+        if (!jsonLines) {
+            out.println(CSV_HEADER);
+        }
+        if (runCount == 1 || threads == 1) {
+            for (int index = 0; index < runCount; index++) {
+                out.println(evaluate(index));
+            }
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            // A parallel stream submitted from inside a ForkJoinPool task runs on that pool
+            pool.submit(() -> IntStream.range(0, runCount)
+                    .parallel()
+                    .mapToObj(this::evaluate)
+                    .forEachOrdered(out::println))
+                    .join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plans or simulates the combination with the given index and formats its output line.
+     */
+    String evaluate(int index) {
+        int carIndex = index % carCount;
+        index /= carCount;
+        RaceConditions raceConditions = conditions.get(index % conditions.size());
+        RaceTrack raceTrack = tracks.get(index / conditions.size());
+
+        double fuelTankCapacity = fuelTankCapacities.get(carIndex % fuelTankCapacities.size());
+        carIndex /= fuelTankCapacities.size();
+        double carWeight = carWeights.get(carIndex % carWeights.size());
+        carIndex /= carWeights.size();
+        AerodynamicKit aeroKit = aeroKits.get(carIndex % aeroKits.size());
+        carIndex /= aeroKits.size();
+        Tyres tyre = tyres.get(carIndex % tyres.size());
+        Engine engine = engines.get(carIndex / tyres.size());
+
+        RaceCar raceCar = new RaceCar(engine, tyre, aeroKit, carWeight, fuelTankCapacity);
+        RaceStrategyOptimiser raceOptimiser = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
+        List<Integer> pitStopLaps = null; // Stays null if the car cannot complete the race
+        CarState finalState = null;
+        if (simulate) {
+            if (raceCar.getFuelTankCapacity() >= raceOptimiser.getLapCostModel().getFuelPerLap()) {
+                List<Integer> racedPitLaps = new ArrayList<>();
+                RaceEngine raceEngine = new RaceEngine(raceCar, raceTrack, raceConditions, raceOptimiser, result -> {
+                    if (result.isPitStop()) {
+                        racedPitLaps.add(result.getLapNumber());
+                    }
+                });
+                raceEngine.run();
+                pitStopLaps = racedPitLaps;
+                finalState = raceEngine.getState();
+            }
+        } else {
+            try {
+                pitStopLaps = StrategyCache.SHARED.planPitStops(raceOptimiser);
+                finalState = raceOptimiser.finalState(pitStopLaps);
+            } catch (IllegalStateException ex) {
+                // Left out of the results below
+            }
+        }
+        double totalRaceTime = pitStopLaps != null ? raceOptimiser.calculateRaceTime(pitStopLaps) : Double.NaN;
+        return jsonLines
+                ? formatJson(raceTrack, raceConditions, raceCar, pitStopLaps, totalRaceTime, finalState)
+                : formatCsv(raceTrack, raceConditions, raceCar, pitStopLaps, totalRaceTime, finalState);
+    }
+
+    private String formatCsv(RaceTrack raceTrack, RaceConditions raceConditions, RaceCar raceCar,
+                             List<Integer> pitStopLaps, double totalRaceTime, CarState finalState) {
+        StringBuilder line = new StringBuilder(160);
+        appendCsv(line, raceTrack.getName()).append(',');
+        appendCsv(line, raceConditions.getName()).append(',');
+        appendCsv(line, raceCar.getEngine().getName()).append(',');
+        appendCsv(line, raceCar.getTyres().getCompound()).append(',');
+        appendCsv(line, raceCar.getAeroKit().getKitName()).append(',');
+        line.append(raceCar.getCarWeight()).append(',');
+        line.append(raceCar.getFuelTankCapacity()).append(',');
+        line.append(simulate ? MODE_SIMULATE : MODE_PLAN).append(',');
+        line.append(pitStopLaps != null).append(',');
+        if (pitStopLaps != null) {
+            line.append(pitStopLaps.size()).append(',');
+            for (int i = 0; i < pitStopLaps.size(); i++) {
+                line.append(i > 0 ? ";" : "").append(pitStopLaps.get(i));
+            }
+            line.append(',').append(totalRaceTime);
+            line.append(',').append(finalState.getFuel());
+            line.append(',').append(finalState.getTyreWear());
+        } else {
+            line.append(",,,,");
+        }
+        return line.toString();
+    }
+
+    private String formatJson(RaceTrack raceTrack, RaceConditions raceConditions, RaceCar raceCar,
+                              List<Integer> pitStopLaps, double totalRaceTime, CarState finalState) {
+        StringBuilder line = new StringBuilder(256);
+        line.append("{\"track\":");
+        appendJson(line, raceTrack.getName()).append(",\"conditions\":");
+        appendJson(line, raceConditions.getName()).append(",\"engine\":");
+        appendJson(line, raceCar.getEngine().getName()).append(",\"tyres\":");
+        appendJson(line, raceCar.getTyres().getCompound()).append(",\"aeroKit\":");
+        appendJson(line, raceCar.getAeroKit().getKitName());
+        line.append(",\"carWeight\":").append(raceCar.getCarWeight());
+        line.append(",\"fuelTankCapacity\":").append(raceCar.getFuelTankCapacity());
+        line.append(",\"mode\":\"").append(simulate ? MODE_SIMULATE : MODE_PLAN).append('"');
+        line.append(",\"completed\":").append(pitStopLaps != null);
+        if (pitStopLaps != null) {
+            line.append(",\"pitStops\":").append(pitStopLaps.size());
+            line.append(",\"pitStopLaps\":[");
+            for (int i = 0; i < pitStopLaps.size(); i++) {
+                line.append(i > 0 ? "," : "").append(pitStopLaps.get(i));
+            }
+            line.append("],\"totalRaceTime\":").append(totalRaceTime);
+            line.append(",\"finalFuel\":").append(finalState.getFuel());
+            line.append(",\"finalTyreWear\":").append(finalState.getTyreWear());
+        }
+        return line.append('}').toString();
+    }
+
+    private static StringBuilder appendCsv(StringBuilder line, String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return line.append(value);
+        }
+        return line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static StringBuilder appendJson(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append("\\u00");
+                line.append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+            } else {
+                line.append(c);
+            }
+        }
+        return line.append('"');
+    }
+
+    /**
+     * Returns the assets named in a comma-separated list, or all of them. Names are looked up exactly
+     * through the provider's index first, and only matched ignoring case if that finds nothing.
+     */
+    private static <T> List<T> select(String kind, String names, List<T> assets,
+                                      Function<String, T> find, Function<T, String> nameOf) {
+        if (names.equalsIgnoreCase(ALL)) {
+            return List.copyOf(assets);
+        }
+        List<T> selected = new ArrayList<>();
+        for (String rawName : names.split(",")) {
+            String name = rawName.trim();
+            T match = find.apply(name);
+            for (int i = 0; match == null && i < assets.size(); i++) {
+                if (nameOf.apply(assets.get(i)).equalsIgnoreCase(name)) {
+                    match = assets.get(i);
+                }
+            }
+            if (match == null) {
+                if (assets.size() > MAX_KNOWN_NAMES) {
+                    throw new IllegalArgumentException("Unknown " + kind + " '" + name + "'.");
+                }
+                List<String> known = new ArrayList<>();
+                for (T asset : assets) {
+                    known.add(nameOf.apply(asset));
+                }
+                throw new IllegalArgumentException("Unknown " + kind + " '" + name + "'. Known: " + known + ".");
+            }
+            selected.add(match);
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the preset values in a comma-separated list, or all of them.
+     */
+    private static List<Double> selectPreset(String kind, String values, List<Double> presets) {
+        if (values.equalsIgnoreCase(ALL)) {
+            return List.copyOf(presets);
+        }
+        List<Double> selected = new ArrayList<>();
+        for (String value : values.split(",")) {
+            double preset = Double.NaN;
+            try {
+                preset = Double.parseDouble(value.trim());
+            } catch (NumberFormatException ex) {
+                // Reported below
+            }
+            if (!presets.contains(preset)) {
+                throw new IllegalArgumentException("Unknown " + kind + " '" + value.trim() + "'. Allowed: " + presets + ".");
+            }
+            selected.add(preset);
+        }
+        return selected;
+    }
+
+    /**
+     * Returns the number of combinations of one choice from each of the given numbers of choices.
+     * Combinations are indexed by int, so larger batches are rejected.
+     */
+    private static int combinationCount(int... choiceCounts) {
+        int count = 1;
+        for (int choices : choiceCounts) {
+            try {
+                count = Math.multiplyExact(count, choices);
+            } catch (ArithmeticException ex) {
+                throw new IllegalArgumentException("Batch has more than " + Integer.MAX_VALUE + " combinations.");
+            }
+        }
+        return count;
+    }
+
+    private static int parseThreads(String value) {
+        int threadCount;
+        try {
+            threadCount = Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid thread count '" + value + "'.");
+        }
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        return threadCount;
+    }
+}
@@ -0,0 +1,97 @@
+package racesimulation;
+
+/**
+ * The race state of a car: the fuel on board, the tyre wear and the number of laps completed.
+ * The car's specification lives in RaceCar, which has no state of its own, so one RaceCar can be
+ * planned, raced and swept from any number of threads at once.
+ * <p>
+ * States are immutable values; every simulation step returns a new state. The steps are small enough
+ * to be inlined, so a state used within one call and not stored is kept in registers by the JIT rather
+ * than allocated. C2 does allocate a state stored in a field or carried around a loop, so the per-lap
+ * loops of the planners and RaceEngine keep fuel and tyre wear in primitives between laps.
+ * Fuel is kept at or above 0 and tyre wear between 0.0 and 1.0.
+ */
+final class CarState {
+    private final double fuel;      // Liters
+    private final double tyreWear;  // Percentage (0.0 to 1.0, where 1.0 is 100% worn)
+    private final int lap;          // Laps completed
+
+    /**
+     * @param fuel     The fuel on board in liters; negative values are taken as 0.
+     * @param tyreWear The tyre wear, clamped between 0.0 and 1.0.
+     * @param lap      The number of laps completed.
+     */
+    public CarState(double fuel, double tyreWear, int lap) {
+        this.fuel = Math.max(0, fuel); // Ensure fuel doesn't go below 0
+        this.tyreWear = Math.min(1.0, Math.max(0, tyreWear)); // Clamp between 0.0 and 1.0
+        this.lap = lap;
+    }
+
+    /**
+     * @param raceCar The car taking the start.
+     * @return The state at the start of a race: a full tank, fresh tyres and no laps completed.
+     */
+    public static CarState start(RaceCar raceCar) {
+        if (raceCar == null) {
+            throw new IllegalArgumentException("RaceCar cannot be null.");
+        }
+        return new CarState(raceCar.getFuelTankCapacity(), 0.0, 0);
+    }
+
+    /**
+     * @param lapCostModel The fuel use and tyre wear of one lap.
+     * @return The state after one more lap. The tank never reads below empty, even when the lap was
+     *         started within RaceStrategyOptimiser.FUEL_TOLERANCE_LITERS of its fuel use.
+     */
+    public CarState afterLap(LapCostModel lapCostModel) {
+        return new CarState(Math.max(0.0, fuel - lapCostModel.getFuelPerLap()), tyreWear + lapCostModel.getTyreWearPerLap(), lap + 1);
+    }
+
+    /**
+     * @param fuelOnBoard The fuel on board when the car leaves the pits.
+     * @return The state after a pit stop on the same lap, with fresh tyres fitted.
+     */
+    public CarState afterPitStop(double fuelOnBoard) {
+        return new CarState(fuelOnBoard, 0.0, lap);
+    }
+
+    public double getFuel() {
+        return fuel;
+    }
+
+    public double getTyreWear() {
+        return tyreWear;
+    }
+
+    public int getLap() {
+        return lap;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CarState)) {
+            return false;
+        }
+        CarState other = (CarState) o;
+        return lap == other.lap
+                && Double.compare(fuel, other.fuel) == 0
+                && Double.compare(tyreWear, other.tyreWear) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(fuel);
+        result = 31 * result + Double.hashCode(tyreWear);
+        return 31 * result + lap;
+    }
+
+    @Override
+    public String toString() {
+        return "Lap " + lap + ": " +
+                "Fuel " + String.format("%.2f", fuel) + " L, " +
+                "Tyre Wear " + String.format("%.2f%%", tyreWear * 100);
+    }
+}
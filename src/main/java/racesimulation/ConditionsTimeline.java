@@ -0,0 +1,127 @@
+package racesimulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The RaceConditions of every lap of a race, for races whose weather changes as they run,
+ * e.g. a dry start that turns damp and then wet. Laps are numbered from 1.
+ * Instances are immutable; withConditionsFrom returns a new timeline.
+ */
+final class ConditionsTimeline {
+    private final RaceConditions[] lapConditions; // lapConditions[lap - 1]
+
+    /**
+     * @param lapConditions The conditions of each lap, in lap order.
+     */
+    public ConditionsTimeline(List<RaceConditions> lapConditions) {
+        if (lapConditions == null) {
+            throw new IllegalArgumentException("Lap conditions cannot be null.");
+        }
+        this.lapConditions = lapConditions.toArray(new RaceConditions[0]);
+        for (RaceConditions conditions : this.lapConditions) {
+            if (conditions == null) {
+                throw new IllegalArgumentException("RaceConditions cannot be null.");
+            }
+        }
+    }
+
+    private ConditionsTimeline(RaceConditions[] lapConditions) {
+        this.lapConditions = lapConditions;
+    }
+
+    /**
+     * @param conditions The conditions of every lap.
+     * @param laps       The number of laps in the race.
+     * @return A timeline with the same conditions throughout.
+     */
+    public static ConditionsTimeline constant(RaceConditions conditions, int laps) {
+        if (conditions == null) {
+            throw new IllegalArgumentException("RaceConditions cannot be null.");
+        }
+        if (laps < 0) {
+            throw new IllegalArgumentException("Number of laps cannot be negative.");
+        }
+        RaceConditions[] lapConditions = new RaceConditions[laps];
+        Arrays.fill(lapConditions, conditions);
+        return new ConditionsTimeline(lapConditions);
+    }
+
+    /**
+     * @param lap        The first lap run in the new conditions.
+     * @param conditions The conditions from that lap to the end of the race.
+     * @return A copy of this timeline with the conditions replaced from the given lap onwards.
+     */
+    public ConditionsTimeline withConditionsFrom(int lap, RaceConditions conditions) {
+        if (lap < 1 || lap > lapConditions.length) {
+            throw new IllegalArgumentException("Lap must be between 1 and " + lapConditions.length + ".");
+        }
+        if (conditions == null) {
+            throw new IllegalArgumentException("RaceConditions cannot be null.");
+        }
+        RaceConditions[] changed = lapConditions.clone();
+        Arrays.fill(changed, lap - 1, changed.length, conditions);
+        return new ConditionsTimeline(changed);
+    }
+
+    /**
+     * @param lap The lap number, from 1.
+     * @return The conditions of that lap.
+     */
+    public RaceConditions getConditions(int lap) {
+        if (lap < 1 || lap > lapConditions.length) {
+            throw new IndexOutOfBoundsException("Lap " + lap + " is not between 1 and " + lapConditions.length + ".");
+        }
+        return lapConditions[lap - 1];
+    }
+
+    public int getNumberOfLaps() {
+        return lapConditions.length;
+    }
+
+    /**
+     * Finds where two timelines of the same race start to differ. Conditions are compared by their
+     * weather, temperatures and humidity; names are ignored.
+     *
+     * @param other The timeline to compare with.
+     * @return The first lap whose conditions differ, or getNumberOfLaps() + 1 if the timelines match.
+     */
+    public int firstDifferentLap(ConditionsTimeline other) {
+        if (other == null) {
+            throw new IllegalArgumentException("ConditionsTimeline cannot be null.");
+        }
+        if (other.lapConditions.length != lapConditions.length) {
+            throw new IllegalArgumentException("ConditionsTimelines must have the same number of laps.");
+        }
+        for (int i = 0; i < lapConditions.length; i++) {
+            if (!sameConditions(lapConditions[i], other.lapConditions[i])) {
+                return i + 1;
+            }
+        }
+        return lapConditions.length + 1;
+    }
+
+    private static boolean sameConditions(RaceConditions a, RaceConditions b) {
+        return a == b || (a.getWeather() == b.getWeather()
+                && Double.compare(a.getAirTemperature(), b.getAirTemperature()) == 0
+                && Double.compare(a.getTrackTemperature(), b.getTrackTemperature()) == 0
+                && Double.compare(a.getHumidity(), b.getHumidity()) == 0);
+    }
+
+    @Override
+    public String toString() {
+        // One entry per run of laps in the same conditions, e.g. "laps 1-20: Dry (Air: 25°C, Track: 35°C)"
+        StringBuilder sb = new StringBuilder("ConditionsTimeline{");
+        int runStart = 1;
+        for (int lap = 1; lap <= lapConditions.length; lap++) {
+            if (lap == lapConditions.length || !sameConditions(lapConditions[lap - 1], lapConditions[lap])) {
+                if (runStart > 1) {
+                    sb.append(", ");
+                }
+                sb.append("laps ").append(runStart).append('-').append(lap).append(": ").append(lapConditions[lap - 1]);
+                runStart = lap + 1;
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
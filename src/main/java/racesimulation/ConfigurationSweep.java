@@ -0,0 +1,215 @@
+package racesimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates every Engine x Tyres x AerodynamicKit x weight x fuel capacity combination from a
+ * GameAssetProvider on a track and keeps a leaderboard of the best configurations.
+ * Combinations are addressed by index and split into contiguous shards, a few per worker, run over a
+ * parallel stream; each shard keeps its own bounded leaderboard and the leaderboards are merged at the end,
+ * so the workers share no mutable state. Every finished shard is recorded as a Flight Recorder event.
+ * Plans go through a StrategyCache, so repeated sweeps reuse them.
+ */
+class ConfigurationSweep {
+    // Shards per pool thread; more than one so a thread that finishes early can take another shard
+    private static final int SHARDS_PER_THREAD = 4;
+
+    private final List<Engine> engines;
+    private final List<Tyres> tyres;
+    private final List<AerodynamicKit> aeroKits;
+    private final List<Double> carWeights;
+    private final List<Double> fuelTankCapacities;
+    private final int configurationCount;
+    private final StrategyCache strategyCache;
+
+    /**
+     * Constructs a ConfigurationSweep over all components of the given GameAssetProvider
+     * and all allowed car weights and fuel tank capacities, sharing StrategyCache.SHARED.
+     *
+     * @param assetProvider The GameAssetProvider supplying the components.
+     */
+    public ConfigurationSweep(GameAssetProvider assetProvider) {
+        this(assetProvider, StrategyCache.SHARED);
+    }
+
+    /**
+     * Constructs a ConfigurationSweep over all components of the given GameAssetProvider
+     * and all allowed car weights and fuel tank capacities.
+     *
+     * @param assetProvider The GameAssetProvider supplying the components.
+     * @param strategyCache The cache to plan through, or null to plan every configuration afresh.
+     * @throws IllegalArgumentException if there are more than Integer.MAX_VALUE configurations.
+     */
+    public ConfigurationSweep(GameAssetProvider assetProvider, StrategyCache strategyCache) {
+        if (assetProvider == null) {
+            throw new IllegalArgumentException("GameAssetProvider cannot be null.");
+        }
+        this.engines = List.copyOf(assetProvider.getEngineVariations());
+        this.tyres = List.copyOf(assetProvider.getTyreVariations());
+        this.aeroKits = List.copyOf(assetProvider.getAeroKitVariations());
+        this.carWeights = List.copyOf(RaceCar.getAllowedWeights());
+        this.fuelTankCapacities = List.copyOf(RaceCar.getAllowedFuelCapacities());
+        int count = 1; // Configurations are indexed by int
+        int[] choiceCounts = {engines.size(), tyres.size(), aeroKits.size(), carWeights.size(), fuelTankCapacities.size()};
+        for (int choices : choiceCounts) {
+            try {
+                count = Math.multiplyExact(count, choices);
+            } catch (ArithmeticException ex) {
+                throw new IllegalArgumentException("Sweep has more than " + Integer.MAX_VALUE + " configurations.");
+            }
+        }
+        this.configurationCount = count;
+        this.strategyCache = strategyCache;
+    }
+
+    /**
+     * @return The number of car configurations evaluated per track and conditions.
+     */
+    public int getConfigurationCount() {
+        return configurationCount;
+    }
+
+    /**
+     * Runs the sweep on the common ForkJoinPool.
+     *
+     * @see #run(RaceTrack, RaceConditions, int, ForkJoinPool)
+     */
+    public List<SweepResult> run(RaceTrack raceTrack, RaceConditions raceConditions, int topN) {
+        return run(raceTrack, raceConditions, topN, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plans the pit stops of every car configuration in parallel and returns the best ones.
+     * Configurations that cannot complete the race are left out.
+     *
+     * @param raceTrack      The RaceTrack to plan for.
+     * @param raceConditions The RaceConditions to plan for.
+     * @param topN           The maximum number of results to return.
+     * @param pool           The ForkJoinPool to run the sweep on.
+     * @return Up to topN results ordered by SweepResult.BEST_FIRST.
+     */
+    public List<SweepResult> run(RaceTrack raceTrack, RaceConditions raceConditions, int topN, ForkJoinPool pool) {
+        if (raceTrack == null) {
+            throw new IllegalArgumentException("RaceTrack cannot be null.");
+        }
+        if (raceConditions == null) {
+            throw new IllegalArgumentException("RaceConditions cannot be null.");
+        }
+        if (topN <= 0) {
+            throw new IllegalArgumentException("topN must be positive.");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null.");
+        }
+
+        int shardCount = Math.min(configurationCount, pool.getParallelism() * SHARDS_PER_THREAD);
+
+        // A parallel stream submitted from inside a ForkJoinPool task runs on that pool
+        Leaderboard leaderboard = pool.submit(() -> IntStream.range(0, shardCount)
+                .parallel()
+                .collect(() -> new Leaderboard(topN),
+                        (board, shard) -> board.merge(evaluateShard(
+                                (int) ((long) shard * configurationCount / shardCount),
+                                (int) ((long) (shard + 1) * configurationCount / shardCount),
+                                raceTrack, raceConditions, topN)),
+                        Leaderboard::merge))
+                .join();
+        return leaderboard.toSortedList();
+    }
+
+    /**
+     * Evaluates the configurations from first up to end into a leaderboard of its own.
+     */
+    private Leaderboard evaluateShard(int first, int end, RaceTrack raceTrack, RaceConditions raceConditions, int topN) {
+        SimulationEvents.SweepShardFinished event = new SimulationEvents.SweepShardFinished();
+        event.begin();
+        Leaderboard board = new Leaderboard(topN);
+        int completed = 0;
+        double bestRaceTime = Double.POSITIVE_INFINITY;
+        for (int index = first; index < end; index++) {
+            SweepResult result = evaluate(index, raceTrack, raceConditions);
+            if (result != null) {
+                completed++;
+                bestRaceTime = Math.min(bestRaceTime, result.getTotalRaceTime());
+                board.offer(result);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.track = raceTrack.getName();
+            event.conditions = raceConditions.getName();
+            event.firstConfiguration = first;
+            event.configurations = end - first;
+            event.completed = completed;
+            event.bestRaceTime = completed > 0 ? bestRaceTime : 0.0;
+            event.commit();
+        }
+        return board;
+    }
+
+    /**
+     * Builds and plans the configuration with the given index in the cartesian product.
+     *
+     * @return The SweepResult, or null if the car cannot complete the race.
+     */
+    private SweepResult evaluate(int index, RaceTrack raceTrack, RaceConditions raceConditions) {
+        double fuelTankCapacity = fuelTankCapacities.get(index % fuelTankCapacities.size());
+        index /= fuelTankCapacities.size();
+        double carWeight = carWeights.get(index % carWeights.size());
+        index /= carWeights.size();
+        AerodynamicKit aeroKit = aeroKits.get(index % aeroKits.size());
+        index /= aeroKits.size();
+        Tyres tyre = tyres.get(index % tyres.size());
+        index /= tyres.size();
+        Engine engine = engines.get(index);
+
+        RaceCar raceCar = new RaceCar(engine, tyre, aeroKit, carWeight, fuelTankCapacity);
+        try {
+            RaceStrategyOptimiser raceOptimiser = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
+            List<Integer> pitStopLaps = strategyCache != null ? strategyCache.planPitStops(raceOptimiser) : raceOptimiser.planPitStops();
+            return new SweepResult(raceCar, pitStopLaps, raceOptimiser.calculateRaceTime(pitStopLaps));
+        } catch (IllegalStateException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Keeps the best topN results seen so far in a heap whose head is the worst kept result.
+     */
+    private static class Leaderboard {
+        private final int capacity;
+        private final PriorityQueue<SweepResult> heap;
+
+        Leaderboard(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(capacity + 1, SweepResult.BEST_FIRST.reversed());
+        }
+
+        void offer(SweepResult result) {
+            if (result == null) {
+                return;
+            }
+            if (heap.size() < capacity) {
+                heap.add(result);
+            } else if (SweepResult.BEST_FIRST.compare(result, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(result);
+            }
+        }
+
+        void merge(Leaderboard other) {
+            for (SweepResult result : other.heap) {
+                offer(result);
+            }
+        }
+
+        List<SweepResult> toSortedList() {
+            List<SweepResult> results = new ArrayList<>(heap);
+            results.sort(SweepResult.BEST_FIRST);
+            return results;
+        }
+    }
+}
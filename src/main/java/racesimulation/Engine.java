@@ -1,9 +1,9 @@
 package racesimulation;
 class Engine {
-    private String name;
-    private int powerRating;      // HP
-    private double fuelEfficiency; // km/l
-    private double reliability;    // 0.0 to 1.0
+    private final String name;
+    private final int powerRating;      // HP
+    private final double fuelEfficiency; // km/l
+    private final double reliability;    // 0.0 to 1.0
 
     public Engine(String name, int powerRating, double fuelEfficiency, double reliability) {
         this.name = name;
@@ -0,0 +1,182 @@
+package racesimulation;
+
+/**
+ * Race state of a whole fleet of cars held as primitive columns (struct of arrays), for simulating
+ * thousands of cars per lap. Car i's state lives at index i of every column.
+ * The lap kernel in advanceLap is a single branch-free loop over contiguous double arrays that
+ * HotSpot's superword optimisation can vectorize; pit stops are handled in a separate pass.
+ * Per-lap fuel and wear deltas are computed once per track and conditions by prepare, using the
+ * same arithmetic as LapCostModel so results match the single-car path exactly.
+ * This class is not thread-safe; give each thread its own fleet.
+ */
+final class FleetState {
+    private final int capacity;
+    private int size;
+
+    // Per-car specification columns
+    private final double[] fuelTankCapacity;   // Liters
+    private final double[] baseConsumption;    // Liters per 'standard' lap
+    private final double[] wearRate;           // Tyre wear per 'standard' lap
+
+    // Per-car deltas for the prepared track and conditions
+    private final double[] fuelPerLap;
+    private final double[] wearPerLap;
+
+    // Per-car race state columns
+    private final double[] fuel;
+    private final double[] wear;
+    private final int[] pitStops;
+
+    private boolean prepared;
+
+    /**
+     * @param capacity The maximum number of cars in the fleet.
+     */
+    public FleetState(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Fleet capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.fuelTankCapacity = new double[capacity];
+        this.baseConsumption = new double[capacity];
+        this.wearRate = new double[capacity];
+        this.fuelPerLap = new double[capacity];
+        this.wearPerLap = new double[capacity];
+        this.fuel = new double[capacity];
+        this.wear = new double[capacity];
+        this.pitStops = new int[capacity];
+    }
+
+    /**
+     * Adds a car to the fleet with a full tank and fresh tyres.
+     *
+     * @param car The RaceCar whose specification to copy; the car itself is not referenced afterwards.
+     * @return The index of the car in the fleet.
+     */
+    public int add(RaceCar car) {
+        if (size == capacity) {
+            throw new IllegalStateException("Fleet is full.");
+        }
+        int index = size++;
+        fuelTankCapacity[index] = car.getFuelTankCapacity();
+        baseConsumption[index] = car.getBaseFuelConsumptionPerLap();
+        wearRate[index] = car.getTyres().getWearRate();
+        fuel[index] = fuelTankCapacity[index];
+        wear[index] = 0.0;
+        pitStops[index] = 0;
+        prepared = false;
+        return index;
+    }
+
+    /**
+     * Computes every car's fuel use and tyre wear per lap for a track and conditions.
+     *
+     * @param track      The RaceTrack being lapped.
+     * @param conditions The RaceConditions for the laps.
+     */
+    public void prepare(RaceTrack track, RaceConditions conditions) {
+        double trackFuelFactor = track.getFuelConsumptionFactor();
+        double temperatureFuelFactor = LapCostModel.calculateTemperatureFuelFactor(conditions);
+        double trackWearFactor = track.getTyreWearFactor();
+        double weatherWearFactor = LapCostModel.calculateWeatherWearFactor(conditions);
+        for (int i = 0; i < size; i++) {
+            fuelPerLap[i] = baseConsumption[i] * trackFuelFactor * temperatureFuelFactor;
+            wearPerLap[i] = wearRate[i] * trackWearFactor * weatherWearFactor;
+        }
+        prepared = true;
+    }
+
+    /**
+     * Advances every car by one lap.
+     */
+    public void advanceLap() {
+        checkPrepared();
+        final double[] fuel = this.fuel;
+        final double[] wear = this.wear;
+        final double[] fuelPerLap = this.fuelPerLap;
+        final double[] wearPerLap = this.wearPerLap;
+        for (int i = 0; i < size; i++) {
+            fuel[i] = Math.max(0.0, fuel[i] - fuelPerLap[i]);
+            wear[i] = Math.min(1.0, Math.max(0.0, wear[i] + wearPerLap[i]));
+        }
+    }
+
+    /**
+     * Refuels and re-tyres every car that could not complete another lap or whose tyres are worn,
+     * using the same thresholds as RaceStrategyOptimiser.pitStopReason.
+     *
+     * @return The number of cars that pitted.
+     */
+    public int performPitStops() {
+        checkPrepared();
+        int pitted = 0;
+        for (int i = 0; i < size; i++) {
+            if (fuel[i] < fuelPerLap[i] || wear[i] >= RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD) {
+                fuel[i] = fuelTankCapacity[i];
+                wear[i] = 0.0;
+                pitStops[i]++;
+                pitted++;
+            }
+        }
+        return pitted;
+    }
+
+    /**
+     * Runs a whole race for every car from its current state, pitting between laps as needed.
+     *
+     * @param track      The RaceTrack to race on.
+     * @param conditions The RaceConditions for the race.
+     */
+    public void runRace(RaceTrack track, RaceConditions conditions) {
+        prepare(track, conditions);
+        int totalLaps = track.getNumberOfLaps();
+        for (int lap = 1; lap <= totalLaps; lap++) {
+            advanceLap();
+            if (lap < totalLaps) {
+                performPitStops(); // No pit stop decisions after the final lap
+            }
+        }
+    }
+
+    /**
+     * Puts every car back to a full tank, fresh tyres and no pit stops.
+     */
+    public void reset() {
+        for (int i = 0; i < size; i++) {
+            fuel[i] = fuelTankCapacity[i];
+            wear[i] = 0.0;
+            pitStops[i] = 0;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double getFuel(int index) {
+        checkIndex(index);
+        return fuel[index];
+    }
+
+    public double getTyreWear(int index) {
+        checkIndex(index);
+        return wear[index];
+    }
+
+    public int getPitStopCount(int index) {
+        checkIndex(index);
+        return pitStops[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Car index " + index + " is out of range for a fleet of " + size + ".");
+        }
+    }
+
+    private void checkPrepared() {
+        if (!prepared) {
+            throw new IllegalStateException("Fleet must be prepared for a track and conditions first.");
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package racesimulation;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
 
 // Assuming these model classes exist in the same package
 // import AerodynamicKit;
@@ -18,12 +21,33 @@ public class GameAssetProvider {
     private List<AerodynamicKit> aeroKitVariations;
     private List<RaceTrack> trackVariations;
     private List<RaceConditions> conditionVariations;
+    private final AssetCatalog catalog; // null for the built-in assets
 
     public GameAssetProvider() {
         // Initialize game assets (components, tracks, conditions)
+        this.catalog = null;
         initializeGameAssets();
     }
 
+    /**
+     * Constructs a GameAssetProvider serving the assets of a catalog file instead of the built-in ones.
+     * The variation lists are read-only views of the catalog: an asset is only read from the file
+     * when it is first asked for, and the same instance is returned every time after that.
+     *
+     * @param catalog The AssetCatalog to serve.
+     */
+    public GameAssetProvider(AssetCatalog catalog) {
+        if (catalog == null) {
+            throw new IllegalArgumentException("AssetCatalog cannot be null.");
+        }
+        this.catalog = catalog;
+        engineVariations = new CatalogList<>(catalog, AssetCatalog.ENGINE);
+        tyreVariations = new CatalogList<>(catalog, AssetCatalog.TYRES);
+        aeroKitVariations = new CatalogList<>(catalog, AssetCatalog.AERO_KIT);
+        trackVariations = new CatalogList<>(catalog, AssetCatalog.TRACK);
+        conditionVariations = new CatalogList<>(catalog, AssetCatalog.CONDITIONS);
+    }
+
     /**
      * Initializes instances of game assets (components, tracks, conditions).
      */
@@ -79,4 +103,61 @@ public class GameAssetProvider {
     public List<RaceConditions> getConditionVariations() {
         return conditionVariations;
     }
+
+    /**
+     * @return The engine with the given name, or null if there is none.
+     */
+    public Engine findEngine(String name) {
+        return catalog != null ? catalog.findEngine(name) : find(engineVariations, Engine::getName, name);
+    }
+
+    public Tyres findTyres(String compound) {
+        return catalog != null ? catalog.findTyres(compound) : find(tyreVariations, Tyres::getCompound, compound);
+    }
+
+    public AerodynamicKit findAeroKit(String kitName) {
+        return catalog != null ? catalog.findAeroKit(kitName) : find(aeroKitVariations, AerodynamicKit::getKitName, kitName);
+    }
+
+    public RaceTrack findTrack(String name) {
+        return catalog != null ? catalog.findTrack(name) : find(trackVariations, RaceTrack::getName, name);
+    }
+
+    public RaceConditions findConditions(String name) {
+        return catalog != null ? catalog.findConditions(name) : find(conditionVariations, RaceConditions::getName, name);
+    }
+
+    // The built-in lists are short enough to search in order
+    private static <T> T find(List<T> assets, Function<T, String> nameOf, String name) {
+        for (T asset : assets) {
+            if (nameOf.apply(asset).equals(name)) {
+                return asset;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Read-only list of one kind of asset in an AssetCatalog.
+     */
+    private static class CatalogList<T> extends AbstractList<T> implements RandomAccess {
+        private final AssetCatalog catalog;
+        private final int kind;
+
+        CatalogList(AssetCatalog catalog, int kind) {
+            this.catalog = catalog;
+            this.kind = kind;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) catalog.get(kind, index);
+        }
+
+        @Override
+        public int size() {
+            return catalog.size(kind);
+        }
+    }
 }
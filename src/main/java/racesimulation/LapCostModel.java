@@ -0,0 +1,81 @@
+package racesimulation;
+
+/**
+ * Per-lap fuel use and tyre wear of one car on one track in one set of conditions, compiled once
+ * so that simulation and planning apply the same deltas every lap without re-deriving the
+ * environmental factors. Instances are immutable and safe to share between threads.
+ */
+final class LapCostModel {
+    private final double fuelPerLap;      // Liters
+    private final double tyreWearPerLap;  // 0.0 to 1.0
+
+    /**
+     * Compiles the lap cost model.
+     *
+     * @param car        The RaceCar being driven; only its specification is read.
+     * @param track      The RaceTrack being lapped.
+     * @param conditions The RaceConditions for the laps.
+     */
+    public LapCostModel(RaceCar car, RaceTrack track, RaceConditions conditions) {
+        if (car == null) {
+            throw new IllegalArgumentException("RaceCar cannot be null.");
+        }
+        if (track == null) {
+            throw new IllegalArgumentException("RaceTrack cannot be null.");
+        }
+        if (conditions == null) {
+            throw new IllegalArgumentException("RaceConditions cannot be null.");
+        }
+        // Fuel used per lap, adjusted by track and temperature
+        this.fuelPerLap = car.getBaseFuelConsumptionPerLap() * track.getFuelConsumptionFactor() * calculateTemperatureFuelFactor(conditions);
+        // Tyre wear per lap, adjusted by track and weather
+        this.tyreWearPerLap = car.getTyres().getWearRate() * track.getTyreWearFactor() * calculateWeatherWearFactor(conditions);
+    }
+
+    public double getFuelPerLap() {
+        return fuelPerLap;
+    }
+
+    public double getTyreWearPerLap() {
+        return tyreWearPerLap;
+    }
+
+    /**
+     * @param conditions The RaceConditions for the lap.
+     * @return The factor applied to fuel consumption for the air temperature.
+     */
+    static double calculateTemperatureFuelFactor(RaceConditions conditions) {
+        // Adjust fuel consumption based on air temperature (colder air is denser)
+        if (conditions.getAirTemperature() < 10) {
+            return 1.05; // Colder air increases fuel consumption
+        } else if (conditions.getAirTemperature() > 30) {
+            return 0.98; // Warmer air slightly decreases consumption
+        }
+        return 1.0;
+    }
+
+    /**
+     * @param conditions The RaceConditions for the lap.
+     * @return The factor applied to tyre wear for the weather.
+     */
+    static double calculateWeatherWearFactor(RaceConditions conditions) {
+        // Adjust tyre wear based on weather
+        switch (conditions.getWeather()) {
+            case WET:
+                return 0.75; // Wet track reduces wear
+            case DAMP:
+                return 0.90; // Damp track slightly reduces wear
+            case DRY:
+            default:
+                return 1.0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LapCostModel{" +
+                "fuelPerLap=" + String.format("%.3f", fuelPerLap) + " L" +
+                ", tyreWearPerLap=" + String.format("%.4f", tyreWearPerLap) +
+                '}';
+    }
+}
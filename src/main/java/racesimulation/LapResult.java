@@ -0,0 +1,47 @@
+package racesimulation;
+
+/**
+ * Immutable result of a single simulated lap, including any pit stop taken at the end of it.
+ */
+class LapResult {
+    private final int lapNumber;
+    private final int totalLaps;
+    private final double fuelAfterLap;       // Liters, before any pit stop
+    private final double tyreWearAfterLap;   // 0.0 to 1.0, before any pit stop
+    private final String pitReason;          // "Fuel", "Tyres", "Fuel & Tyres", or null if no pit stop
+    private final double fuelAfterPit;       // Liters, after the pit stop (same as fuelAfterLap if none)
+    private final double tyreWearAfterPit;   // 0.0 to 1.0, after the pit stop (same as tyreWearAfterLap if none)
+
+    public LapResult(int lapNumber, int totalLaps, double fuelAfterLap, double tyreWearAfterLap,
+                     String pitReason, double fuelAfterPit, double tyreWearAfterPit) {
+        this.lapNumber = lapNumber;
+        this.totalLaps = totalLaps;
+        this.fuelAfterLap = fuelAfterLap;
+        this.tyreWearAfterLap = tyreWearAfterLap;
+        this.pitReason = pitReason;
+        this.fuelAfterPit = fuelAfterPit;
+        this.tyreWearAfterPit = tyreWearAfterPit;
+    }
+
+    public int getLapNumber() { return lapNumber; }
+    public int getTotalLaps() { return totalLaps; }
+    public double getFuelAfterLap() { return fuelAfterLap; }
+    public double getTyreWearAfterLap() { return tyreWearAfterLap; }
+    public String getPitReason() { return pitReason; }
+    public double getFuelAfterPit() { return fuelAfterPit; }
+    public double getTyreWearAfterPit() { return tyreWearAfterPit; }
+
+    public boolean isPitStop() {
+        return pitReason != null;
+    }
+
+    @Override
+    public String toString() {
+        return "LapResult{" +
+                "lap=" + lapNumber + "/" + totalLaps +
+                ", fuel=" + String.format("%.2f", fuelAfterLap) + " L" +
+                ", tyreWear=" + String.format("%.2f%%", tyreWearAfterLap * 100) +
+                (pitReason != null ? ", pitStop='" + pitReason + '\'' : "") +
+                '}';
+    }
+}
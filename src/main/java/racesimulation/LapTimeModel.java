@@ -0,0 +1,82 @@
+package racesimulation;
+
+/**
+ * Lap time of one car on one track, compiled once into a linear function of the fuel load and
+ * tyre wear at the start of the lap, so that evaluating a lap costs two multiply-adds.
+ * <p>
+ * The clean lap is split into straights, driven at the car's top speed, and corners, driven at a
+ * fraction of it that grows with the car's cornering rating. Every corner exit also costs part of
+ * the car's 0-100 km/h time. On top of that, worn tyres lose grip in proportion to the tyre wear,
+ * and every liter of fuel on board adds weight. Instances are immutable and safe to share between threads.
+ */
+final class LapTimeModel {
+    static final double STRAIGHT_FRACTION = 0.6;                 // Share of the lap length spent on straights
+    static final double MIN_CORNER_SPEED_FRACTION = 0.4;         // Corner speed / top speed at the lowest cornering rating
+    static final double CORNER_SPEED_FRACTION_RANGE = 0.4;       // Extra corner speed fraction at the highest cornering rating
+    static final double CORNERS_PER_KM = 3.0;
+    static final double ACCELERATION_LOSS_PER_CORNER = 0.1;      // Share of the 0-100 km/h time lost on each corner exit
+    static final double WORN_TYRE_TIME_PENALTY = 0.05;           // Fraction of the clean lap time lost on fully worn tyres
+    static final double FUEL_SECONDS_PER_LITER_PER_KM = 0.006;   // Time the weight of one liter costs over one km
+
+    private final double cleanLapTime;           // Seconds, empty tank and fresh tyres
+    private final double secondsPerLiter;        // Seconds added per liter of fuel on board
+    private final double secondsPerTyreWear;     // Seconds added per unit of tyre wear (0.0 to 1.0)
+
+    /**
+     * Compiles the lap time model.
+     *
+     * @param car   The RaceCar being driven; only its specification is read.
+     * @param track The RaceTrack being lapped.
+     */
+    public LapTimeModel(RaceCar car, RaceTrack track) {
+        if (car == null) {
+            throw new IllegalArgumentException("RaceCar cannot be null.");
+        }
+        if (track == null) {
+            throw new IllegalArgumentException("RaceTrack cannot be null.");
+        }
+        double length = track.getLength_km();
+        double straightTime = length * STRAIGHT_FRACTION / car.getTopSpeed() * 3600.0;
+        double cornerSpeed = car.getTopSpeed()
+                * (MIN_CORNER_SPEED_FRACTION + CORNER_SPEED_FRACTION_RANGE * car.getCorneringAbilityRating() / 100.0);
+        double cornerTime = length * (1.0 - STRAIGHT_FRACTION) / cornerSpeed * 3600.0;
+        double accelerationLoss = length * CORNERS_PER_KM * ACCELERATION_LOSS_PER_CORNER * car.getAccelerationTime0To100();
+
+        this.cleanLapTime = straightTime + cornerTime + accelerationLoss;
+        this.secondsPerLiter = length * FUEL_SECONDS_PER_LITER_PER_KM;
+        this.secondsPerTyreWear = cleanLapTime * WORN_TYRE_TIME_PENALTY;
+    }
+
+    /**
+     * @param fuelLoad The fuel on board at the start of the lap in liters.
+     * @param tyreWear The tyre wear at the start of the lap (0.0 to 1.0).
+     * @return The lap time in seconds.
+     */
+    public double lapTime(double fuelLoad, double tyreWear) {
+        return cleanLapTime + secondsPerLiter * fuelLoad + secondsPerTyreWear * tyreWear;
+    }
+
+    /**
+     * @return The lap time on an empty tank and fresh tyres in seconds.
+     */
+    public double getCleanLapTime() {
+        return cleanLapTime;
+    }
+
+    public double getSecondsPerLiter() {
+        return secondsPerLiter;
+    }
+
+    public double getSecondsPerTyreWear() {
+        return secondsPerTyreWear;
+    }
+
+    @Override
+    public String toString() {
+        return "LapTimeModel{" +
+                "cleanLapTime=" + String.format("%.3f", cleanLapTime) + " s" +
+                ", secondsPerLiter=" + String.format("%.4f", secondsPerLiter) +
+                ", secondsPerTyreWear=" + String.format("%.3f", secondsPerTyreWear) +
+                '}';
+    }
+}
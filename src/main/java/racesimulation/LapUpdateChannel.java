@@ -0,0 +1,105 @@
+package racesimulation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded hand-over of lap results from a simulation thread to the UI thread.
+ * The producer publishes every lap; the UI drains whatever has accumulated once per display pulse,
+ * so the UI only ever applies the latest car state regardless of how fast laps are produced.
+ * At most maxPendingLaps log entries are held between drains; older ones are dropped and counted.
+ * Pit stops are never dropped. This class is thread-safe.
+ */
+class LapUpdateChannel {
+    private final int maxPendingLaps;
+    private final ArrayDeque<LapResult> pendingLaps;
+    private final List<LapResult> pendingPitStops = new ArrayList<>();
+    private LapResult latestLap;
+    private int droppedLaps;
+    private long firstPublishedNanos; // When the oldest undrained lap was published
+
+    /**
+     * @param maxPendingLaps The maximum number of lap log entries held between drains.
+     */
+    public LapUpdateChannel(int maxPendingLaps) {
+        if (maxPendingLaps <= 0) {
+            throw new IllegalArgumentException("maxPendingLaps must be positive.");
+        }
+        this.maxPendingLaps = maxPendingLaps;
+        this.pendingLaps = new ArrayDeque<>(Math.min(maxPendingLaps, 256));
+    }
+
+    /**
+     * Adds a lap result, merging it with any lap results not yet drained.
+     *
+     * @param result The LapResult to publish.
+     */
+    public synchronized void publish(LapResult result) {
+        if (pendingLaps.size() == maxPendingLaps) {
+            pendingLaps.pollFirst();
+            droppedLaps++;
+        }
+        if (latestLap == null) {
+            firstPublishedNanos = System.nanoTime();
+        }
+        pendingLaps.addLast(result);
+        if (result.isPitStop()) {
+            pendingPitStops.add(result);
+        }
+        latestLap = result;
+    }
+
+    /**
+     * Takes everything published since the previous drain.
+     *
+     * @return The merged Snapshot, or null if nothing was published.
+     */
+    public synchronized Snapshot drain() {
+        if (latestLap == null) {
+            return null;
+        }
+        Snapshot snapshot = new Snapshot(latestLap, new ArrayList<>(pendingLaps), droppedLaps,
+                new ArrayList<>(pendingPitStops), firstPublishedNanos);
+        pendingLaps.clear();
+        pendingPitStops.clear();
+        latestLap = null;
+        droppedLaps = 0;
+        return snapshot;
+    }
+
+    /**
+     * The lap results merged between two drains.
+     */
+    static final class Snapshot {
+        private final LapResult latestLap;
+        private final List<LapResult> laps;
+        private final int droppedLaps;
+        private final List<LapResult> pitStops;
+        private final long firstPublishedNanos;
+
+        private Snapshot(LapResult latestLap, List<LapResult> laps, int droppedLaps, List<LapResult> pitStops,
+                         long firstPublishedNanos) {
+            this.latestLap = latestLap;
+            this.laps = laps;
+            this.droppedLaps = droppedLaps;
+            this.pitStops = pitStops;
+            this.firstPublishedNanos = firstPublishedNanos;
+        }
+
+        /** @return The most recent lap, whose post-pit state is the current car state. */
+        public LapResult getLatestLap() { return latestLap; }
+
+        /** @return The laps to log, oldest first. */
+        public List<LapResult> getLaps() { return laps; }
+
+        /** @return The number of laps published before getLaps() that were dropped from the log. */
+        public int getDroppedLaps() { return droppedLaps; }
+
+        /** @return Every pit stop taken since the previous drain, oldest first. */
+        public List<LapResult> getPitStops() { return pitStops; }
+
+        /** @return The System.nanoTime() at which the first lap since the previous drain was published. */
+        public long getFirstPublishedNanos() { return firstPublishedNanos; }
+    }
+}
@@ -0,0 +1,122 @@
+package racesimulation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds, bucketed in the manner of HdrHistogram:
+ * values below 64 have a bucket each, and every power of two above that is split into 32 linear
+ * sub-buckets, so a recorded value is off by at most 1/32 of itself (about 3%) over the whole long range.
+ * Recording is a single atomic increment; percentiles are read from a walk over the counts, which
+ * may miss values recorded while it runs. This class is thread-safe.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // Per power of two
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKET_COUNT; // Values below this have a bucket each
+    static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - 1 - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one duration; negative durations are recorded as 0.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * @return The mean recorded duration in nanoseconds, or 0 if none were recorded.
+     */
+    public double getMeanNanos() {
+        long count = totalCount.sum();
+        return count == 0 ? 0.0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * @return The longest recorded duration in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the duration at or below which the given fraction of the recorded durations fall,
+     * as the highest value of its bucket but never above the longest recorded duration.
+     *
+     * @param fraction The fraction, from 0 to 1; 0.99 is the 99th percentile.
+     * @return The duration in nanoseconds, or 0 if none were recorded.
+     */
+    public long getPercentileNanos(double fraction) {
+        if (!(fraction >= 0.0 && fraction <= 1.0)) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1.");
+        }
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        int index = 0;
+        while (index < BUCKET_COUNT - 1) {
+            seen += snapshot[index];
+            if (seen >= rank) {
+                break;
+            }
+            index++;
+        }
+        return Math.min(bucketUpperBound(index), maxNanos.get());
+    }
+
+    /**
+     * Removes all recorded durations. Durations recorded while it runs may be partly kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * @return The highest value that falls in the given bucket.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + 1;
+        long mantissa = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1; // Wraps to Long.MAX_VALUE for the top bucket
+    }
+}
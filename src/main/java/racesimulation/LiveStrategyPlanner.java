@@ -0,0 +1,229 @@
+package racesimulation;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Re-plans a race while it runs. Every completed lap hands the car's lap, fuel and tyre wear to a
+ * background worker, which plans the fastest strategy for the remaining laps with a PitStrategyPlanner
+ * and swaps it in as the current plan in one atomic step. A RaceEngine given this planner takes its
+ * pit stops from the current plan, falling back on its threshold rule whenever no valid plan is ready.
+ * <p>
+ * Only the newest lap state matters: submitting a new one cancels the computation for the previous one,
+ * interrupting it mid-plan if it is already running, and a computation that finishes after a newer one
+ * was submitted is discarded, so the plan never moves back to an older lap. Race callbacks must come
+ * from the single thread driving the engine; the current plan may be read from any thread.
+ * <p>
+ * Each race session should plan on its own worker, so that one session's re-plan never queues behind
+ * another's; the single-argument constructor starts one, which close stops.
+ */
+class LiveStrategyPlanner implements RaceListener {
+
+    private final PitStrategyPlanner planner;
+    private final ExecutorService worker;
+    private final boolean ownsWorker;           // Whether close shuts the worker down
+
+    private final AtomicReference<LivePlan> currentPlan = new AtomicReference<>();
+    private final AtomicLong latestRequest = new AtomicLong();
+    private volatile Future<?> pendingPlan;
+
+    // Engine thread only: the last laps at which a planned and an unplanned stop were taken,
+    // and the tyres fitted at the last planned stop, which the engine fits as well
+    private int lastPlannedStopLap;
+    private int lastUnplannedStopLap;
+    private Tyres fittedTyres;
+
+    /**
+     * Plans on a worker of its own, a daemon thread that runs until close is called.
+     *
+     * @param planner The planner for the car, track and conditions of the race. Planned stops may fit
+     *                any of its compounds; unplanned stops refit the compound already on the car.
+     */
+    public LiveStrategyPlanner(PitStrategyPlanner planner) {
+        this(planner, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "strategy-replanner");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * @param planner The planner for the car, track and conditions of the race. Planned stops may fit
+     *                any of its compounds; unplanned stops refit the compound already on the car.
+     * @param worker  The executor the plans are computed on; the caller shuts it down.
+     */
+    public LiveStrategyPlanner(PitStrategyPlanner planner, ExecutorService worker) {
+        this(planner, worker, false);
+    }
+
+    private LiveStrategyPlanner(PitStrategyPlanner planner, ExecutorService worker, boolean ownsWorker) {
+        if (planner == null) {
+            throw new IllegalArgumentException("PitStrategyPlanner cannot be null.");
+        }
+        if (worker == null) {
+            throw new IllegalArgumentException("Worker cannot be null.");
+        }
+        this.planner = planner;
+        this.fittedTyres = planner.getCompounds().get(0);
+        this.worker = worker;
+        this.ownsWorker = ownsWorker;
+    }
+
+    @Override
+    public void raceStarted(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions) {
+        fittedTyres = planner.getCompounds().get(0);
+        CarState start = CarState.start(raceCar);
+        requestPlan(start.getLap(), start.getFuel(), start.getTyreWear());
+    }
+
+    @Override
+    public void lapCompleted(LapResult result) {
+        if (result.isPitStop() && result.getLapNumber() != lastPlannedStopLap) {
+            lastUnplannedStopLap = result.getLapNumber(); // Plans made before this stop no longer apply
+        }
+        if (result.getLapNumber() < result.getTotalLaps()) {
+            requestPlan(result.getLapNumber(), result.getFuelAfterPit(), result.getTyreWearAfterPit());
+        } else {
+            cancel();
+        }
+    }
+
+    @Override
+    public void raceFinished(int pitStopCount, double finalFuel, double finalTyreWear) {
+        cancel();
+    }
+
+    /**
+     * Submits a new car state for planning, cancelling the computation for the previous one.
+     */
+    private void requestPlan(int completedLaps, double fuel, double tyreWear) {
+        long request = latestRequest.incrementAndGet();
+        Tyres tyres = fittedTyres;
+        if (pendingPlan != null) {
+            pendingPlan.cancel(true);
+        }
+        pendingPlan = worker.submit(() -> {
+            if (request != latestRequest.get()) {
+                return; // A newer lap arrived while this one was queued
+            }
+            PitStrategy strategy;
+            try {
+                strategy = plan(completedLaps, fuel, tyreWear, tyres);
+            } catch (IllegalStateException ex) {
+                // The car cannot finish from here, and the threshold rule takes over, or a newer lap
+                // interrupted the plan (CancellationException)
+                return;
+            }
+            if (request == latestRequest.get() && !Thread.currentThread().isInterrupted()) {
+                LivePlan plan = new LivePlan(completedLaps, strategy);
+                currentPlan.accumulateAndGet(plan, (old, next) ->
+                        old == null || next.getCompletedLaps() >= old.getCompletedLaps() ? next : old);
+            }
+        });
+    }
+
+    /**
+     * Plans the rest of the race from a car state, on the worker. Package-private so tests can hold a
+     * computation while it runs.
+     *
+     * @throws IllegalStateException as PitStrategyPlanner.planFrom does, including CancellationException.
+     */
+    PitStrategy plan(int completedLaps, double fuel, double tyreWear, Tyres tyres) {
+        return planner.planFrom(completedLaps, fuel, tyreWear, tyres);
+    }
+
+    /**
+     * Returns the stop the current plan makes at the end of a lap, and records it and its tyres as taken.
+     * Called by the RaceEngine after simulating the lap, on the engine thread; the engine must fit the
+     * stop's tyres, since later plans start from them.
+     *
+     * @param lap The lap just completed.
+     * @return The planned stop, or null if there is none or no plan made since the last unplanned stop.
+     */
+    PitStop takePlannedStop(int lap) {
+        LivePlan plan = currentPlan.get();
+        if (plan == null || plan.getCompletedLaps() >= lap || plan.getCompletedLaps() < lastUnplannedStopLap) {
+            return null;
+        }
+        for (PitStop pitStop : plan.getStrategy().getPitStops()) {
+            if (pitStop.getLap() == lap) {
+                lastPlannedStopLap = lap;
+                fittedTyres = pitStop.getTyres();
+                return pitStop;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The latest plan, or null if none has been computed yet.
+     */
+    public LivePlan getCurrentPlan() {
+        return currentPlan.get();
+    }
+
+    /**
+     * Cancels any computation still pending. The current plan is kept.
+     */
+    public void cancel() {
+        latestRequest.incrementAndGet();
+        if (pendingPlan != null) {
+            pendingPlan.cancel(true);
+        }
+    }
+
+    /**
+     * Cancels any computation still pending and stops the worker if this planner started it.
+     * The current plan is kept.
+     */
+    public void close() {
+        cancel();
+        if (ownsWorker) {
+            worker.shutdownNow();
+        }
+    }
+
+    /**
+     * A plan for the rest of the race and the lap it was planned from.
+     */
+    static final class LivePlan {
+        private final int completedLaps;
+        private final PitStrategy strategy;
+
+        LivePlan(int completedLaps, PitStrategy strategy) {
+            this.completedLaps = completedLaps;
+            this.strategy = strategy;
+        }
+
+        /**
+         * @return The laps completed when the plan was made.
+         */
+        public int getCompletedLaps() {
+            return completedLaps;
+        }
+
+        public PitStrategy getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * @return The next planned stop, or null if the plan runs to the finish without stopping.
+         */
+        public PitStop getNextPitStop() {
+            List<PitStop> pitStops = strategy.getPitStops();
+            return pitStops.isEmpty() ? null : pitStops.get(0);
+        }
+
+        @Override
+        public String toString() {
+            return "LivePlan{" +
+                    "completedLaps=" + completedLaps +
+                    ", strategy=" + strategy +
+                    '}';
+        }
+    }
+}
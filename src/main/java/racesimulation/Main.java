@@ -12,9 +12,16 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -33,6 +40,14 @@ import java.util.function.Consumer;
 
 public class Main extends Application {
 
+    // System properties: an asset catalog file to load instead of the built-in assets, and a startup probe
+    // that prints the time to the first frame and to the assets being ready, then exits (for benchmarks
+    // and for recording a class data sharing archive)
+    static final String CATALOG_PROPERTY = "racesimulation.catalog";
+    static final String STARTUP_PROBE_PROPERTY = "racesimulation.startupProbe";
+    private static final boolean STARTUP_PROBE = Boolean.getBoolean(STARTUP_PROBE_PROPERTY);
+    private static final long MAIN_LOADED_MILLIS = System.currentTimeMillis(); // In case the JVM start time is unknown
+
     // Input Controls
     private ComboBox<Engine> engineComboBox;
     private ComboBox<Tyres> tyresComboBox;
@@ -46,6 +61,7 @@ public class Main extends Application {
     private Button configureButton;
     private Button startSimulationButton;
     private Button resetButton;
+    private ComboBox<RacePacer.Speed> playbackSpeedComboBox;
 
     // Car Stats Display
     private Label topSpeedLabel;
@@ -62,12 +78,18 @@ public class Main extends Application {
     private ProgressBar raceProgressBar;
     private Label currentFuelLabel;
     private Label currentTyreWearLabel;
-    private TextArea raceLogTextArea;
+    private Label liveStrategyLabel;
+    private RaceLogView raceLogView;
 
     // Pit Stop Display
     private TableView<PitStopData> pitStopTableView;
     private ObservableList<PitStopData> pitStopDataList;
 
+    // Race Sessions Display: one row per simulation started, running side by side
+    private VBox sessionsBox;
+    private final List<RaceSessionView> raceSessions = new ArrayList<>();
+    private RaceSessionView activeSession; // The session shown in the log and pit stop panels
+
     // Status/Summary Label (at the bottom)
     private Label statusLabel;
 
@@ -77,7 +99,7 @@ public class Main extends Application {
     private RaceConditions selectedRaceConditions;
     private RaceStrategyOptimiser raceOptimiser;
 
-    // Executor for background tasks
+    // Executor for background tasks, one thread per race session
     private ExecutorService executorService;
 
     // Game Asset Provider
@@ -90,11 +112,12 @@ public class Main extends Application {
         primaryStage.setWidth(1200);
         primaryStage.setHeight(1000);
 
-        // Initialize Executor Service
-        executorService = Executors.newSingleThreadExecutor();
+        // Read the assets off the FX thread while the window is built; the combo boxes are filled once both are done
+        CompletableFuture<GameAssetProvider> assetsLoading = CompletableFuture.supplyAsync(Main::loadAssets);
 
-        // Initialize Game Asset Provider
-        assetProvider = new GameAssetProvider();
+        // Initialize Executor Service
+        executorService = newSessionExecutor();
+        SimulationMetrics.startIfEnabled();
 
         // --- UI Layout ---
 
@@ -107,33 +130,28 @@ public class Main extends Application {
         topPane.setPadding(new Insets(15));
         topPane.setAlignment(Pos.TOP_LEFT);
 
-        // 2. Input Controls: Create ComboBoxes and populate them using GameAssetProvider
+        // 2. Input Controls: Create ComboBoxes, populated from the GameAssetProvider once it has loaded
         engineComboBox = new ComboBox<>();
-        engineComboBox.setItems(FXCollections.observableArrayList(assetProvider.getEngineVariations()));
         engineComboBox.setPromptText("Select Engine");
         engineComboBox.getStyleClass().add("component-combo-box");
         engineComboBox.setMaxWidth(Double.MAX_VALUE);
 
         tyresComboBox = new ComboBox<>();
-        tyresComboBox.setItems(FXCollections.observableArrayList(assetProvider.getTyreVariations()));
         tyresComboBox.setPromptText("Select Tyres");
         tyresComboBox.getStyleClass().add("component-combo-box");
         tyresComboBox.setMaxWidth(Double.MAX_VALUE);
 
         aeroKitComboBox = new ComboBox<>();
-        aeroKitComboBox.setItems(FXCollections.observableArrayList(assetProvider.getAeroKitVariations()));
         aeroKitComboBox.setPromptText("Select Aerodynamic Kit");
         aeroKitComboBox.getStyleClass().add("component-combo-box");
         aeroKitComboBox.setMaxWidth(Double.MAX_VALUE);
 
         trackComboBox = new ComboBox<>();
-        trackComboBox.setItems(FXCollections.observableArrayList(assetProvider.getTrackVariations()));
         trackComboBox.setPromptText("Select Race Track");
         trackComboBox.getStyleClass().add("race-detail-combo-box");
         trackComboBox.setMaxWidth(Double.MAX_VALUE);
 
         conditionsComboBox = new ComboBox<>();
-        conditionsComboBox.setItems(FXCollections.observableArrayList(assetProvider.getConditionVariations()));
         conditionsComboBox.setPromptText("Select Race Conditions");
         conditionsComboBox.getStyleClass().add("race-detail-combo-box");
         conditionsComboBox.setMaxWidth(Double.MAX_VALUE);
@@ -151,6 +169,7 @@ public class Main extends Application {
         // 3. Action Buttons
         configureButton = new Button("Configure Car & Track");
         configureButton.setOnAction(e -> handleConfigureButton());
+        configureButton.setDisable(true); // Until the assets are loaded
         configureButton.getStyleClass().add("action-button");
         configureButton.setMaxWidth(Double.MAX_VALUE);
 
@@ -162,8 +181,21 @@ public class Main extends Application {
         startSimulationButton.setMaxWidth(Double.MAX_VALUE);
 
 
+        playbackSpeedComboBox = new ComboBox<>();
+        playbackSpeedComboBox.setItems(FXCollections.observableArrayList(RacePacer.Speed.values()));
+        playbackSpeedComboBox.setValue(RacePacer.Speed.NORMAL);
+        playbackSpeedComboBox.setOnAction(e -> {
+            // Applies to new sessions and to the session shown in the log
+            if (activeSession != null) {
+                activeSession.setPlaybackSpeed(playbackSpeedComboBox.getValue());
+            }
+        });
+        playbackSpeedComboBox.setMaxWidth(Double.MAX_VALUE);
+
+
         resetButton = new Button("Reset");
         resetButton.setOnAction(e -> handleResetButton());
+        resetButton.setDisable(true); // Until the panes are built
         resetButton.getStyleClass().add("action-button");
         resetButton.setMaxWidth(Double.MAX_VALUE);
 
@@ -181,6 +213,8 @@ public class Main extends Application {
                 trackComboBox,
                 conditionsComboBox,
                 configureButton,
+                new Label("Playback Speed:"),
+                playbackSpeedComboBox,
                 startSimulationButton,
                 resetButton
         );
@@ -242,18 +276,15 @@ public class Main extends Application {
         raceProgressBar.setMaxWidth(Double.MAX_VALUE);
         currentFuelLabel = new Label("Current Fuel: N/A");
         currentTyreWearLabel = new Label("Current Tyre Wear: N/A");
-        raceLogTextArea = new TextArea();
-        raceLogTextArea.setEditable(false);
-        raceLogTextArea.setWrapText(true);
-        raceLogTextArea.getStyleClass().add("log-area");
-        VBox.setVgrow(raceLogTextArea, Priority.ALWAYS);
+        liveStrategyLabel = new Label("Live Strategy: N/A");
 
+        // The race log itself is added after the first frame, by finishStartup
         logPane.getChildren().addAll(
                 logTitleLabel,
                 raceProgressBar,
                 currentFuelLabel,
                 currentTyreWearLabel,
-                raceLogTextArea
+                liveStrategyLabel
         );
 
 
@@ -267,7 +298,73 @@ public class Main extends Application {
         Label pitStopsTitleLabel = new Label("Pit Stops");
         pitStopsTitleLabel.getStyleClass().add("section-title");
 
-        // 6. Pit Stop Display (TableView) - Initialize TableView
+        pitStopsPane.getChildren().add(pitStopsTitleLabel); // The table is added after the first frame, by finishStartup
+
+
+        // Panel 4: Race Sessions (VBox)
+        VBox sessionsPane = new VBox(5);
+        sessionsPane.getStyleClass().add("info-panel");
+        HBox.setHgrow(sessionsPane, Priority.ALWAYS);
+        VBox.setVgrow(sessionsPane, Priority.ALWAYS);
+
+        Label sessionsTitleLabel = new Label("Race Sessions");
+        sessionsTitleLabel.getStyleClass().add("section-title");
+
+        sessionsBox = new VBox(5);
+        sessionsPane.getChildren().add(sessionsTitleLabel); // The scroll pane is added after the first frame, by finishStartup
+
+
+        // Add the four VBox panels to the HBox
+        centerContentPane.getChildren().addAll(statsPane, logPane, pitStopsPane, sessionsPane);
+        root.setCenter(centerContentPane);
+
+
+        // Bottom Section: Status Label (BorderPane.BOTTOM)
+        statusLabel = new Label("Loading assets...");
+        statusLabel.getStyleClass().add("status-label");
+        BorderPane.setMargin(statusLabel, new Insets(0, 15, 15, 15));
+        root.setBottom(statusLabel);
+
+
+        // Set up the Scene and Stage
+        Scene scene = new Scene(root);
+        // Link the CSS file
+        scene.getStylesheets().add(getClass().getResource("/style.css").toExternalForm());
+
+        // The panes that start out empty are built, and the assets shown, only once the first frame is laid out
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean firstPulse = true;
+
+            @Override
+            public void run() {
+                if (firstPulse) {
+                    firstPulse = false;
+                    Runnable listener = this;
+                    Platform.runLater(() -> {
+                        scene.removePostLayoutPulseListener(listener);
+                        finishStartup(assetsLoading, logPane, pitStopsPane, sessionsPane);
+                    });
+                }
+            }
+        });
+
+        primaryStage.setScene(scene);
+        primaryStage.show();
+    }
+
+    /**
+     * Builds the race log, pit stop table and sessions scroll pane after the first frame, then fills the
+     * combo boxes and enables the controls once the assets have loaded.
+     */
+    private void finishStartup(CompletableFuture<GameAssetProvider> assetsLoading,
+                               VBox logPane, VBox pitStopsPane, VBox sessionsPane) {
+        reportStartup("first frame");
+
+        raceLogView = new RaceLogView();
+        VBox.setVgrow(raceLogView.getNode(), Priority.ALWAYS);
+        logPane.getChildren().add(raceLogView.getNode());
+
+        // 6. Pit Stop Display (TableView)
         pitStopTableView = new TableView<>();
         pitStopDataList = FXCollections.observableArrayList();
         pitStopTableView.setItems(pitStopDataList);
@@ -286,28 +383,68 @@ public class Main extends Application {
         pitStopTableView.getStyleClass().add("pit-stop-table");
         VBox.setVgrow(pitStopTableView, Priority.ALWAYS);
 
-        pitStopsPane.getChildren().addAll(pitStopsTitleLabel, pitStopTableView); // Add title and table to the pane
+        pitStopsPane.getChildren().add(pitStopTableView);
 
+        ScrollPane sessionsScrollPane = new ScrollPane(sessionsBox);
+        sessionsScrollPane.setFitToWidth(true);
+        VBox.setVgrow(sessionsScrollPane, Priority.ALWAYS);
+        sessionsPane.getChildren().add(sessionsScrollPane);
 
-        // Add the three VBox panels to the HBox
-        centerContentPane.getChildren().addAll(statsPane, logPane, pitStopsPane);
-        root.setCenter(centerContentPane);
-
+        assetsLoading.whenComplete((provider, ex) -> Platform.runLater(() -> showAssets(provider, ex)));
+    }
 
-        // Bottom Section: Status Label (BorderPane.BOTTOM)
-        statusLabel = new Label("Select components and click 'Configure Car & Track'");
-        statusLabel.getStyleClass().add("status-label");
-        BorderPane.setMargin(statusLabel, new Insets(0, 15, 15, 15));
-        root.setBottom(statusLabel);
+    /**
+     * Fills the combo boxes from the loaded assets and enables the controls.
+     * If the asset catalog could not be read, the built-in assets are used.
+     */
+    private void showAssets(GameAssetProvider provider, Throwable loadFailure) {
+        if (loadFailure != null) {
+            Throwable cause = loadFailure.getCause() != null ? loadFailure.getCause() : loadFailure;
+            provider = new GameAssetProvider();
+            showErrorAlert("Asset Catalog Error", "The asset catalog could not be read (" + cause.getMessage()
+                    + "). The built-in assets are used instead.");
+        }
+        assetProvider = provider;
+        engineComboBox.setItems(FXCollections.observableArrayList(assetProvider.getEngineVariations()));
+        tyresComboBox.setItems(FXCollections.observableArrayList(assetProvider.getTyreVariations()));
+        aeroKitComboBox.setItems(FXCollections.observableArrayList(assetProvider.getAeroKitVariations()));
+        trackComboBox.setItems(FXCollections.observableArrayList(assetProvider.getTrackVariations()));
+        conditionsComboBox.setItems(FXCollections.observableArrayList(assetProvider.getConditionVariations()));
 
+        configureButton.setDisable(false);
+        resetButton.setDisable(false);
+        statusLabel.setText("Select components and click 'Configure Car & Track'");
+        reportStartup("assets ready");
+        if (STARTUP_PROBE) {
+            Platform.exit();
+        }
+    }
 
-        // Set up the Scene and Stage
-        Scene scene = new Scene(root);
-        // Link the CSS file
-        scene.getStylesheets().add(getClass().getResource("/style.css").toExternalForm());
+    /**
+     * Loads the asset catalog named by the racesimulation.catalog property, or the built-in assets.
+     */
+    private static GameAssetProvider loadAssets() {
+        String catalogPath = System.getProperty(CATALOG_PROPERTY);
+        if (catalogPath == null) {
+            return new GameAssetProvider();
+        }
+        try {
+            return new GameAssetProvider(AssetCatalog.open(Path.of(catalogPath)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 
-        primaryStage.setScene(scene);
-        primaryStage.show();
+    /**
+     * Prints how long after the JVM started a startup stage was reached, when the startup probe is on.
+     */
+    private static void reportStartup(String stage) {
+        if (STARTUP_PROBE) {
+            long startMillis = ProcessHandle.current().info().startInstant()
+                    .map(Instant::toEpochMilli)
+                    .orElse(MAIN_LOADED_MILLIS);
+            System.err.println("Startup: " + stage + " after " + (System.currentTimeMillis() - startMillis) + " ms");
+        }
     }
 
     /**
@@ -331,13 +468,26 @@ public class Main extends Application {
             return;
         }
 
+        RaceCar raceCar;
         try {
-            selectedRaceCar = new RaceCar(selectedEngine, selectedTyres, selectedAeroKit, selectedCarWeight, selectedFuelTankCapacity);
+            raceCar = new RaceCar(selectedEngine, selectedTyres, selectedAeroKit, selectedCarWeight, selectedFuelTankCapacity);
         } catch (IllegalArgumentException ex) {
             showErrorAlert("Invalid Car Configuration", ex.getMessage());
             return;
         }
 
+        // Calculate the planned pit stops before changing anything, so a car that cannot finish a lap
+        // leaves the previous configuration and the Start button as they were
+        List<Integer> plannedPitLaps;
+        try {
+            RaceStrategyOptimiser tempOptimiser = new RaceStrategyOptimiser(raceCar, selectedTrack, selectedConditions);
+            plannedPitLaps = StrategyCache.SHARED.planPitStops(tempOptimiser); // Reuses the plan if this combination was configured before
+        } catch (IllegalStateException ex) {
+            showErrorAlert("Invalid Race Strategy", ex.getMessage());
+            return;
+        }
+        selectedRaceCar = raceCar;
+
         // Display calculated stats
         topSpeedLabel.setText(String.format("Top Speed: %.1f km/h", selectedRaceCar.getTopSpeed()));
         accelerationLabel.setText(String.format("0-100 km/h: %.2f s", selectedRaceCar.getAccelerationTime0To100()));
@@ -349,22 +499,20 @@ public class Main extends Application {
         carWeightDisplayLabel.setText(String.format("Car Weight: %.1f kg", selectedRaceCar.getCarWeight()));
 
 
-        // Calculate and display planned pit stops (using a temporary optimiser instance)
-        RaceStrategyOptimiser tempOptimiser = new RaceStrategyOptimiser(
-            new RaceCar(selectedEngine, selectedTyres, selectedAeroKit, selectedCarWeight, selectedFuelTankCapacity), // Use a copy for planning
-            selectedTrack,
-            selectedConditions
-        );
-        List<Integer> plannedPitLaps = tempOptimiser.planPitStops();
+        // Display planned pit stops
         displayPlannedPitStops(plannedPitLaps);
 
 
+        // Sessions already running keep going in the Race Sessions panel, but no longer write to the log and pit stop panels
+        activeSession = null;
+
         // Enable simulation button
         startSimulationButton.setDisable(false);
-        raceLogTextArea.clear();
+        raceLogView.clear();
         raceProgressBar.setProgress(0);
         currentFuelLabel.setText("Current Fuel: N/A");
         currentTyreWearLabel.setText("Current Tyre Wear: N/A");
+        liveStrategyLabel.setText("Live Strategy: N/A");
         statusLabel.setText("Configuration successful. Ready to simulate.");
 
         this.selectedRaceTrack = selectedTrack;
@@ -423,87 +571,196 @@ public class Main extends Application {
             return;
         }
 
-        // Disable buttons during simulation
-        configureButton.setDisable(true);
-        startSimulationButton.setDisable(true);
-        resetButton.setDisable(true);
-
-        // Reset car state for simulation
-        selectedRaceCar.setCurrentFuel(selectedRaceCar.getFuelTankCapacity());
-        selectedRaceCar.setCurrentTyreWear(0.0);
+        // Sessions share the immutable car; each session's RaceEngine keeps its own CarState
+        RaceCar sessionCar = selectedRaceCar;
+        RaceSessionView session = new RaceSessionView(raceSessions.size() + 1, String.format("%s, %s, %s on %s (%s)",
+                sessionCar.getEngine().getName(), sessionCar.getTyres().getCompound(), sessionCar.getAeroKit().getKitName(),
+                selectedRaceTrack.getName(), selectedRaceConditions.getName()));
+        raceSessions.add(session);
+        sessionsBox.getChildren().add(session.getNode());
+        activeSession = session;
 
         // Clear previous simulation output and pit stops
-        raceLogTextArea.clear();
+        raceLogView.clear();
         pitStopDataList.clear();
         pitStopTableView.refresh();
         pitStopTableView.setPlaceholder(new Label("Simulating race..."));
         raceProgressBar.setProgress(0);
-        currentFuelLabel.setText("Current Fuel: " + String.format("%.2f L", selectedRaceCar.getCurrentFuel()));
-        currentTyreWearLabel.setText("Current Tyre Wear: " + String.format("%.2f%%", selectedRaceCar.getCurrentTyreWear() * 100));
-        statusLabel.setText("Simulation started...");
+        CarState startState = CarState.start(sessionCar);
+        currentFuelLabel.setText("Current Fuel: " + String.format("%.2f L", startState.getFuel()));
+        currentTyreWearLabel.setText("Current Tyre Wear: " + String.format("%.2f%%", startState.getTyreWear() * 100));
+        liveStrategyLabel.setText("Live Strategy: planning...");
+        statusLabel.setText(String.format("Simulation started (%d running)...", countRunningSessions() + 1));
 
 
         // Create RaceStrategyOptimiser for simulation logic (specifically simulateLap)
-        raceOptimiser = new RaceStrategyOptimiser(selectedRaceCar, selectedRaceTrack, selectedRaceConditions);
+        raceOptimiser = new RaceStrategyOptimiser(sessionCar, selectedRaceTrack, selectedRaceConditions);
 
-        // Define UI update callbacks, ensuring they run on the JavaFX Application Thread
-        Consumer<String> logMessageConsumer = message -> raceLogTextArea.appendText(message);
-        Consumer<Double> updateFuelConsumer = fuel -> currentFuelLabel.setText("Current Fuel: " + String.format("%.2f L", fuel));
-        Consumer<Double> updateTyreWearConsumer = wear -> currentTyreWearLabel.setText("Current Tyre Wear: " + String.format("%.2f%%", wear));
+        // Define UI update callbacks, ensuring they run on the JavaFX Application Thread.
+        // The session row is always updated; the shared panels only while this is the active session.
+        Consumer<String> logMessageConsumer = message -> {
+            if (activeSession == session) {
+                raceLogView.appendMessage(message);
+            }
+        };
+        RaceConditions.Weather sessionWeather = selectedRaceConditions.getWeather();
+        Consumer<List<LapResult>> lapLogConsumer = laps -> {
+            if (activeSession == session) {
+                raceLogView.appendLaps(laps, sessionWeather);
+            }
+        };
+        Consumer<Double> updateFuelConsumer = fuel -> {
+            session.updateFuel(fuel);
+            if (activeSession == session) {
+                currentFuelLabel.setText("Current Fuel: " + String.format("%.2f L", fuel));
+            }
+        };
+        Consumer<Double> updateTyreWearConsumer = wear -> {
+            session.updateTyreWear(wear);
+            if (activeSession == session) {
+                currentTyreWearLabel.setText("Current Tyre Wear: " + String.format("%.2f%%", wear));
+            }
+        };
         BiConsumer<Integer, String> addPitStopConsumer = (lap, reason) -> {
-            pitStopDataList.add(new PitStopData(lap, reason));
-            pitStopTableView.setPlaceholder(new Label("")); // Clear placeholder if first pit stop
-            pitStopTableView.refresh();
+            if (activeSession == session) {
+                pitStopDataList.add(new PitStopData(lap, reason));
+                pitStopTableView.setPlaceholder(new Label("")); // Clear placeholder if first pit stop
+                pitStopTableView.refresh();
+            }
+        };
+        Consumer<Double> updateProgressConsumer = progress -> {
+            session.updateProgress(progress);
+            if (activeSession == session) {
+                raceProgressBar.setProgress(progress);
+            }
+        };
+        Consumer<LiveStrategyPlanner.LivePlan> livePlanConsumer = plan -> {
+            if (activeSession == session) {
+                liveStrategyLabel.setText(formatLivePlan(plan));
+            }
+        };
+        Consumer<String> simulationFinishedConsumer = summary -> {
+            if (activeSession == session) {
+                statusLabel.setText(summary);
+            }
         };
-        Consumer<Double> updateProgressConsumer = progress -> raceProgressBar.setProgress(progress);
-        Consumer<String> simulationFinishedConsumer = summary -> statusLabel.setText(summary);
 
 
         // Create and run the RaceSimulationTask
         RaceSimulationTask simulationTask = new RaceSimulationTask(
-                selectedRaceCar,
+                sessionCar,
                 selectedRaceTrack,
                 selectedRaceConditions,
                 raceOptimiser,
                 logMessageConsumer,
+                lapLogConsumer,
                 updateFuelConsumer,
                 updateTyreWearConsumer,
                 addPitStopConsumer,
                 updateProgressConsumer,
                 simulationFinishedConsumer
         );
+        simulationTask.setPlaybackSpeed(playbackSpeedComboBox.getValue());
+        // Re-plan the rest of the race after every lap; the car keeps its own tyres, so no other compounds are offered
+        PitStrategyPlanner sessionPlanner = new PitStrategyPlanner(sessionCar, selectedRaceTrack, selectedRaceConditions, List.of());
+        simulationTask.setLiveStrategy(new LiveStrategyPlanner(sessionPlanner), livePlanConsumer);
+        session.setTask(simulationTask);
 
-        // Handle task completion
+        // Handle task completion (these handlers run on the JavaFX Application Thread)
         simulationTask.setOnSucceeded(event -> {
-            Platform.runLater(() -> {
+            session.finish("Finished");
+            if (activeSession == session) {
                 statusLabel.setText("Race Simulation Complete!");
-                configureButton.setDisable(false);
-                startSimulationButton.setDisable(true); // Keep start disabled until re-configure
-                resetButton.setDisable(false);
                 pitStopTableView.refresh(); // Refresh one last time
-            });
+            }
+        });
+
+        simulationTask.setOnCancelled(event -> {
+            session.finish("Cancelled");
+            if (activeSession == session) {
+                statusLabel.setText("Simulation cancelled.");
+            }
         });
 
         simulationTask.setOnFailed(event -> {
-             Platform.runLater(() -> {
-                 statusLabel.setText("Simulation failed: " + simulationTask.getException().getMessage());
-                 configureButton.setDisable(false);
-                 startSimulationButton.setDisable(true); // Keep start disabled
-                 resetButton.setDisable(false);
-                 pitStopTableView.refresh(); // Refresh one last time
-             });
+            session.finish("Failed");
+            if (activeSession == session) {
+                statusLabel.setText("Simulation failed: " + simulationTask.getException().getMessage());
+                pitStopTableView.refresh(); // Refresh one last time
+            }
         });
 
 
-        // Run the task in the background
+        // Run the task in the background on its own session thread
         executorService.execute(simulationTask);
     }
 
+    /**
+     * @param plan The live plan to describe.
+     * @return The label text for the plan's next stop and remaining race time.
+     */
+    private static String formatLivePlan(LiveStrategyPlanner.LivePlan plan) {
+        PitStop nextPitStop = plan.getNextPitStop();
+        String nextStop = nextPitStop == null
+                ? "no more stops"
+                : String.format("next stop lap %d (+%.2f L)", nextPitStop.getLap(), nextPitStop.getFuelAdded());
+        return String.format("Live Strategy (after lap %d): %s, %.1f s to go",
+                plan.getCompletedLaps(), nextStop, plan.getStrategy().getTotalRaceTime());
+    }
+
+    /**
+     * Cancels every race session that is still running.
+     */
+    private void cancelAllSessions() {
+        for (RaceSessionView session : raceSessions) {
+            session.cancel();
+        }
+    }
+
+    /**
+     * @return The number of race sessions still running.
+     */
+    private int countRunningSessions() {
+        int running = 0;
+        for (RaceSessionView session : raceSessions) {
+            if (session.isRunning()) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Creates the executor that runs each race session on its own thread.
+     * Virtual threads are used when the runtime provides them (Java 21+); the application is compiled
+     * for Java 17, so they are looked up reflectively, falling back to a cached pool of daemon threads.
+     *
+     * @return The session executor.
+     */
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "race-session-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
     /**
      * Handles the action when the Reset button is clicked.
      * Clears the UI and resets the state.
      */
     private void handleResetButton() {
+        // Stop every running race session and remove them from the Race Sessions panel
+        cancelAllSessions();
+        raceSessions.clear();
+        sessionsBox.getChildren().clear();
+        activeSession = null;
+
         // Reset input controls
         engineComboBox.getSelectionModel().clearSelection();
         tyresComboBox.getSelectionModel().clearSelection();
@@ -515,10 +772,11 @@ public class Main extends Application {
 
         // Clear displayed stats and simulation info
         clearCarStats();
-        raceLogTextArea.clear();
+        raceLogView.clear();
         raceProgressBar.setProgress(0);
         currentFuelLabel.setText("Current Fuel: N/A");
         currentTyreWearLabel.setText("Current Tyre Wear: N/A");
+        liveStrategyLabel.setText("Live Strategy: N/A");
         clearPitStops();
         statusLabel.setText("Application reset. Select components to begin.");
 
@@ -551,7 +809,8 @@ public class Main extends Application {
 
     @Override
     public void stop() throws Exception {
-        // Shut down the executor service when the application closes
+        // Cancel running sessions and shut down the executor service when the application closes
+        cancelAllSessions();
         if (executorService != null && !executorService.isShutdown()) {
             executorService.shutdownNow();
         }
@@ -0,0 +1,142 @@
+package racesimulation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Runs many stochastic races of one car configuration and summarises the outcomes.
+ * Each race samples an engine failure lap from Engine.getReliability, and grip and tyre wear variation
+ * scaled by RaceConditions.getHumidity; pit stops follow the same fuel and tyre thresholds as the live simulation.
+ * Races are split into fixed batches, each with its own SplittableRandom split from the seed up front,
+ * so results depend only on the seed and batches share no mutable state.
+ * Laps are timed by the optimiser's LapTimeModel, scaled by the race's grip variation.
+ */
+class MonteCarloSimulator {
+    private static final int RACES_PER_BATCH = 4096;
+    private static final double GRIP_VARIATION = 0.02;  // Standard deviation of the lap time factor at 100% humidity
+    private static final double WEAR_VARIATION = 0.10;  // Standard deviation of the tyre wear factor at 100% humidity
+    private static final double MIN_WEAR_FACTOR = 0.5;
+
+    private final int totalLaps;
+    private final double fuelTankCapacity;
+    private final double fuelPerLap;
+    private final double baseTyreWearPerLap;
+    private final LapTimeModel lapTimeModel;
+    private final double lapFailureProbability;
+    private final double humidity;
+
+    /**
+     * Constructs a MonteCarloSimulator. The car is only read, never modified.
+     *
+     * @param raceCar        The RaceCar configuration to race.
+     * @param raceTrack      The RaceTrack to race on.
+     * @param raceConditions The RaceConditions for the races.
+     */
+    public MonteCarloSimulator(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions) {
+        if (raceCar == null) {
+            throw new IllegalArgumentException("RaceCar cannot be null.");
+        }
+        if (raceTrack == null) {
+            throw new IllegalArgumentException("RaceTrack cannot be null.");
+        }
+        if (raceConditions == null) {
+            throw new IllegalArgumentException("RaceConditions cannot be null.");
+        }
+        this.totalLaps = raceTrack.getNumberOfLaps();
+        this.fuelTankCapacity = raceCar.getFuelTankCapacity();
+        LapCostModel lapCostModel = new LapCostModel(raceCar, raceTrack, raceConditions);
+        this.fuelPerLap = lapCostModel.getFuelPerLap();
+        this.baseTyreWearPerLap = lapCostModel.getTyreWearPerLap();
+        this.lapTimeModel = new LapTimeModel(raceCar, raceTrack);
+        this.humidity = Math.min(1.0, Math.max(0.0, raceConditions.getHumidity()));
+
+        // Reliability is the chance of the engine lasting the race distance; spread it evenly over the laps
+        double reliability = Math.min(1.0, Math.max(0.0, raceCar.getEngine().getReliability()));
+        this.lapFailureProbability = totalLaps > 0 ? 1.0 - Math.pow(reliability, 1.0 / totalLaps) : 0.0;
+
+        if (totalLaps > 0 && fuelTankCapacity < fuelPerLap) {
+            throw new IllegalStateException("RaceCar cannot complete a single lap on a full tank.");
+        }
+    }
+
+    /**
+     * Runs the given number of races in parallel.
+     *
+     * @param races The number of races to run.
+     * @param seed  The seed for the random number generators.
+     * @return The outcome statistics.
+     */
+    public RaceOutcomeStatistics run(int races, long seed) {
+        if (races <= 0) {
+            throw new IllegalArgumentException("Number of races must be positive.");
+        }
+        int batches = (races + RACES_PER_BATCH - 1) / RACES_PER_BATCH;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] batchRandoms = new SplittableRandom[batches];
+        for (int batch = 0; batch < batches; batch++) {
+            batchRandoms[batch] = root.split();
+        }
+
+        // Each batch writes finish times (NaN for a DNF) into its own slice of the array
+        double[] finishTimes = new double[races];
+        IntStream.range(0, batches).parallel().forEach(batch -> {
+            SplittableRandom random = batchRandoms[batch];
+            int end = Math.min(races, (batch + 1) * RACES_PER_BATCH);
+            for (int race = batch * RACES_PER_BATCH; race < end; race++) {
+                finishTimes[race] = runRace(random);
+            }
+        });
+
+        Arrays.parallelSort(finishTimes); // NaN (DNF) sorts last
+        int finishers = 0;
+        double totalTime = 0.0;
+        while (finishers < races && !Double.isNaN(finishTimes[finishers])) {
+            totalTime += finishTimes[finishers++];
+        }
+        if (finishers == 0) {
+            return new RaceOutcomeStatistics(races, races, Double.NaN, Double.NaN, Double.NaN);
+        }
+        return new RaceOutcomeStatistics(races, races - finishers, totalTime / finishers,
+                percentile(finishTimes, finishers, 0.50), percentile(finishTimes, finishers, 0.95));
+    }
+
+    /**
+     * Runs a single race.
+     *
+     * @return The finish time in seconds, or NaN if the engine failed.
+     */
+    private double runRace(SplittableRandom random) {
+        if (lapFailureProbability > 0.0) {
+            // Sample the lap on which the engine fails from a geometric distribution
+            double failureLap = 1.0 + Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - lapFailureProbability));
+            if (failureLap <= totalLaps) {
+                return Double.NaN;
+            }
+        }
+
+        // Humidity makes grip and tyre wear less predictable
+        double paceFactor = 1.0 + humidity * GRIP_VARIATION * random.nextGaussian();
+        double tyreWearPerLap = baseTyreWearPerLap * Math.max(MIN_WEAR_FACTOR, 1.0 + humidity * WEAR_VARIATION * random.nextGaussian());
+
+        double fuel = fuelTankCapacity;
+        double tyreWear = 0.0;
+        double raceTime = 0.0;
+        for (int lap = 1; lap <= totalLaps; lap++) {
+            raceTime += paceFactor * lapTimeModel.lapTime(fuel, tyreWear);
+            fuel = Math.max(0.0, fuel - fuelPerLap);
+            tyreWear = Math.min(1.0, tyreWear + tyreWearPerLap);
+            if (lap < totalLaps && (fuel < fuelPerLap || tyreWear >= RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD)) {
+                fuel = fuelTankCapacity;
+                tyreWear = 0.0;
+                raceTime += RaceStrategyOptimiser.PIT_STOP_TIME_PENALTY_SECONDS;
+            }
+        }
+        return raceTime;
+    }
+
+    private static double percentile(double[] sortedValues, int count, double fraction) {
+        int index = (int) Math.ceil(fraction * count) - 1;
+        return sortedValues[Math.max(0, Math.min(count - 1, index))];
+    }
+}
@@ -0,0 +1,38 @@
+package racesimulation;
+
+/**
+ * A planned pit stop: the lap at the end of which it is taken, the fuel added and the tyres fitted.
+ */
+final class PitStop {
+    private final int lap;
+    private final double fuelAdded;  // Liters
+    private final Tyres tyres;       // Fresh set fitted for the next stint
+
+    public PitStop(int lap, double fuelAdded, Tyres tyres) {
+        if (lap <= 0) {
+            throw new IllegalArgumentException("Pit stop lap must be positive.");
+        }
+        if (fuelAdded < 0) {
+            throw new IllegalArgumentException("Fuel added cannot be negative.");
+        }
+        if (tyres == null) {
+            throw new IllegalArgumentException("Tyres cannot be null.");
+        }
+        this.lap = lap;
+        this.fuelAdded = fuelAdded;
+        this.tyres = tyres;
+    }
+
+    public int getLap() { return lap; }
+    public double getFuelAdded() { return fuelAdded; }
+    public Tyres getTyres() { return tyres; }
+
+    @Override
+    public String toString() {
+        return "PitStop{" +
+                "lap=" + lap +
+                ", fuelAdded=" + String.format("%.2f", fuelAdded) + " L" +
+                ", tyres='" + tyres.getCompound() + '\'' +
+                '}';
+    }
+}
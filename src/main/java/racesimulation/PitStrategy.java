@@ -0,0 +1,54 @@
+package racesimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A complete race strategy: the fuel and tyres the car starts on, the pit stops, and the total race time
+ * the strategy was planned for.
+ */
+final class PitStrategy {
+    private final double startingFuel;   // Liters
+    private final Tyres startingTyres;
+    private final List<PitStop> pitStops;
+    private final double totalRaceTime;  // Seconds, including the pit stops
+
+    public PitStrategy(double startingFuel, Tyres startingTyres, List<PitStop> pitStops, double totalRaceTime) {
+        if (startingTyres == null) {
+            throw new IllegalArgumentException("Tyres cannot be null.");
+        }
+        if (pitStops == null) {
+            throw new IllegalArgumentException("Pit stops cannot be null.");
+        }
+        this.startingFuel = startingFuel;
+        this.startingTyres = startingTyres;
+        this.pitStops = List.copyOf(pitStops);
+        this.totalRaceTime = totalRaceTime;
+    }
+
+    public double getStartingFuel() { return startingFuel; }
+    public Tyres getStartingTyres() { return startingTyres; }
+    public List<PitStop> getPitStops() { return pitStops; }
+    public double getTotalRaceTime() { return totalRaceTime; }
+
+    /**
+     * @return The lap numbers at the end of which the pit stops are taken.
+     */
+    public List<Integer> getPitStopLaps() {
+        List<Integer> laps = new ArrayList<>(pitStops.size());
+        for (PitStop pitStop : pitStops) {
+            laps.add(pitStop.getLap());
+        }
+        return laps;
+    }
+
+    @Override
+    public String toString() {
+        return "PitStrategy{" +
+                "startingFuel=" + String.format("%.2f", startingFuel) + " L" +
+                ", startingTyres='" + startingTyres.getCompound() + '\'' +
+                ", pitStops=" + pitStops +
+                ", totalRaceTime=" + String.format("%.3f", totalRaceTime) + " s" +
+                '}';
+    }
+}
@@ -0,0 +1,507 @@
+package racesimulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Plans the fastest race strategy when each pit stop may add any amount of fuel and fit any of a set of
+ * tyre compounds, instead of always filling the tank and refitting the same tyres.
+ * <p>
+ * Extra fuel only adds weight, and a stop costs the same however much fuel is added, so in the fastest
+ * strategy every stint starts with exactly the fuel it burns. Nothing then carries over from one stint
+ * to the next: the cost of a stint depends only on its laps and compound, and the fastest strategy
+ * to the end of any lap does not depend on what follows. The planner therefore runs a dynamic programme
+ * over the stint ends, which is exact and takes O(laps x stint length x compounds) time; a 78-lap race
+ * with three compounds plans in well under a millisecond.
+ * <p>
+ * Conditions may change from lap to lap, following a ConditionsTimeline. The fastest strategy to the end
+ * of a lap only depends on the conditions up to that lap, so when the forecast changes, withConditions
+ * keeps the solved laps before the first changed lap and only solves the laps from there on.
+ * <p>
+ * The car starts on its own tyres, which are always among the compounds considered. Stints are limited
+ * by the tank capacity and by the tyre wear threshold, as in RaceStrategyOptimiser.
+ * Instances are immutable and safe to share between threads.
+ */
+final class PitStrategyPlanner {
+    private static final double EPSILON = 1e-9;
+
+    private final RaceCar raceCar;
+    private final RaceTrack raceTrack;
+    private final ConditionsTimeline timeline;
+    private final int totalLaps;
+    private final double secondsPerLiter;       // The same on every compound
+
+    // Per compound, index 0 being the car's own tyres
+    private final Tyres[] compounds;
+    private final RaceCar[] compoundCars;       // The car fitted with each compound
+    private final LapTimeModel[] lapTimeModels;
+
+    // Per lap, from index 1; lap costs follow the conditions of the lap
+    private final double[] fuelPerLap;          // Liters, the same on every compound
+    private final double[][] tyreWearPerLap;    // tyreWearPerLap[c][lap]
+
+    // The dynamic programme, from index 0 (the race start) to totalLaps
+    private final double[] bestTime;            // Least race time to the end of the lap with a stint ending there
+    private final int[] stintStart;             // Lap at the end of which that stint starts
+    private final int[] stintCompound;          // Compound of that stint
+    private final int solvedLaps;               // Laps solved by this planner rather than reused
+
+    /**
+     * Compiles the per-compound lap models and solves the race in constant conditions.
+     *
+     * @param raceCar        The RaceCar to plan for; only its specification is read.
+     * @param raceTrack      The RaceTrack of the race.
+     * @param raceConditions The RaceConditions of every lap.
+     * @param compounds      The tyre compounds that may be fitted at a pit stop.
+     */
+    public PitStrategyPlanner(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions, List<Tyres> compounds) {
+        this(raceCar, raceTrack, timelineOf(raceConditions, raceTrack), compounds);
+    }
+
+    /**
+     * Compiles the per-compound lap models and solves the race in the conditions of the timeline.
+     *
+     * @param raceCar   The RaceCar to plan for; only its specification is read.
+     * @param raceTrack The RaceTrack of the race.
+     * @param timeline  The RaceConditions of each lap; must cover every lap of the track.
+     * @param compounds The tyre compounds that may be fitted at a pit stop.
+     */
+    public PitStrategyPlanner(RaceCar raceCar, RaceTrack raceTrack, ConditionsTimeline timeline, List<Tyres> compounds) {
+        if (raceCar == null) {
+            throw new IllegalArgumentException("RaceCar cannot be null.");
+        }
+        if (raceTrack == null) {
+            throw new IllegalArgumentException("RaceTrack cannot be null.");
+        }
+        checkTimeline(timeline, raceTrack);
+        if (compounds == null) {
+            throw new IllegalArgumentException("Compounds cannot be null.");
+        }
+        List<Tyres> allCompounds = new ArrayList<>();
+        allCompounds.add(raceCar.getTyres());
+        for (Tyres tyres : compounds) {
+            if (tyres == null) {
+                throw new IllegalArgumentException("Tyres cannot be null.");
+            }
+            if (!allCompounds.contains(tyres)) {
+                allCompounds.add(tyres);
+            }
+        }
+
+        this.raceCar = raceCar;
+        this.raceTrack = raceTrack;
+        this.timeline = timeline;
+        this.totalLaps = raceTrack.getNumberOfLaps();
+
+        int count = allCompounds.size();
+        this.compounds = allCompounds.toArray(new Tyres[0]);
+        this.compoundCars = new RaceCar[count];
+        this.lapTimeModels = new LapTimeModel[count];
+        for (int c = 0; c < count; c++) {
+            // The same car on this compound; grip changes its cornering and so its lap time
+            compoundCars[c] = c == 0 ? raceCar : new RaceCar(raceCar.getEngine(), this.compounds[c],
+                    raceCar.getAeroKit(), raceCar.getCarWeight(), raceCar.getFuelTankCapacity());
+            lapTimeModels[c] = new LapTimeModel(compoundCars[c], raceTrack);
+        }
+        this.secondsPerLiter = lapTimeModels[0].getSecondsPerLiter();
+
+        int laps = Math.max(0, totalLaps);
+        this.fuelPerLap = new double[laps + 1];
+        this.tyreWearPerLap = new double[count][laps + 1];
+        this.bestTime = new double[laps + 1];
+        this.stintStart = new int[laps + 1];
+        this.stintCompound = new int[laps + 1];
+        this.solvedLaps = solveFrom(1);
+    }
+
+    /**
+     * Re-planning constructor: shares the compiled compounds and copies the laps solved before firstChangedLap.
+     */
+    private PitStrategyPlanner(PitStrategyPlanner previous, ConditionsTimeline timeline, int firstChangedLap) {
+        this.raceCar = previous.raceCar;
+        this.raceTrack = previous.raceTrack;
+        this.timeline = timeline;
+        this.totalLaps = previous.totalLaps;
+        this.secondsPerLiter = previous.secondsPerLiter;
+        this.compounds = previous.compounds;
+        this.compoundCars = previous.compoundCars;
+        this.lapTimeModels = previous.lapTimeModels;
+
+        this.fuelPerLap = previous.fuelPerLap.clone();
+        this.tyreWearPerLap = new double[compounds.length][];
+        for (int c = 0; c < compounds.length; c++) {
+            tyreWearPerLap[c] = previous.tyreWearPerLap[c].clone();
+        }
+        this.bestTime = previous.bestTime.clone();
+        this.stintStart = previous.stintStart.clone();
+        this.stintCompound = previous.stintCompound.clone();
+        this.solvedLaps = solveFrom(firstChangedLap);
+    }
+
+    private static ConditionsTimeline timelineOf(RaceConditions raceConditions, RaceTrack raceTrack) {
+        if (raceConditions == null) {
+            throw new IllegalArgumentException("RaceConditions cannot be null.");
+        }
+        if (raceTrack == null) {
+            throw new IllegalArgumentException("RaceTrack cannot be null.");
+        }
+        return ConditionsTimeline.constant(raceConditions, Math.max(0, raceTrack.getNumberOfLaps()));
+    }
+
+    private static void checkTimeline(ConditionsTimeline timeline, RaceTrack raceTrack) {
+        if (timeline == null) {
+            throw new IllegalArgumentException("ConditionsTimeline cannot be null.");
+        }
+        if (timeline.getNumberOfLaps() != Math.max(0, raceTrack.getNumberOfLaps())) {
+            throw new IllegalArgumentException("ConditionsTimeline must cover every lap of the RaceTrack.");
+        }
+    }
+
+    /**
+     * Re-plans for a new forecast, reusing the laps solved before the first lap whose conditions change.
+     * The work done is proportional to the number of laps from that lap to the end of the race.
+     *
+     * @param newTimeline The new RaceConditions of each lap.
+     * @return A planner for the new forecast, or this planner if no lap's conditions change.
+     */
+    public PitStrategyPlanner withConditions(ConditionsTimeline newTimeline) {
+        checkTimeline(newTimeline, raceTrack);
+        int firstChangedLap = timeline.firstDifferentLap(newTimeline);
+        if (firstChangedLap > totalLaps) {
+            return this;
+        }
+        return new PitStrategyPlanner(this, newTimeline, firstChangedLap);
+    }
+
+    /**
+     * Compiles the lap costs and solves the dynamic programme from firstLap to the end of the race.
+     * Entries before firstLap are left as they are.
+     *
+     * @return The number of laps solved.
+     */
+    private int solveFrom(int firstLap) {
+        RaceConditions previousConditions = null;
+        for (int lap = firstLap; lap <= totalLaps; lap++) {
+            RaceConditions conditions = timeline.getConditions(lap);
+            if (conditions == previousConditions) {
+                fuelPerLap[lap] = fuelPerLap[lap - 1];
+                for (int c = 0; c < compounds.length; c++) {
+                    tyreWearPerLap[c][lap] = tyreWearPerLap[c][lap - 1];
+                }
+            } else {
+                fuelPerLap[lap] = new LapCostModel(raceCar, raceTrack, conditions).getFuelPerLap();
+                for (int c = 0; c < compounds.length; c++) {
+                    tyreWearPerLap[c][lap] = new LapCostModel(compoundCars[c], raceTrack, conditions).getTyreWearPerLap();
+                }
+            }
+            previousConditions = conditions;
+        }
+
+        double fuelTankCapacity = raceCar.getFuelTankCapacity();
+        for (int end = firstLap; end <= totalLaps; end++) {
+            bestTime[end] = Double.POSITIVE_INFINITY;
+            for (int c = 0; c < compounds.length; c++) {
+                double[] wearPerLap = tyreWearPerLap[c];
+                double cleanLapTime = lapTimeModels[c].getCleanLapTime();
+                double secondsPerTyreWear = lapTimeModels[c].getSecondsPerTyreWear();
+
+                // Grow the stint ending at 'end' one lap at a time towards the start of the race
+                double stintFuel = 0.0;         // Fuel burnt over the stint, which is the fuel it starts with
+                double fuelOnBoardSum = 0.0;    // Sum of the fuel on board at the start of each lap
+                double wearBeforeLastLap = 0.0; // Tyre wear at the start of the stint's last lap
+                double wearSum = 0.0;           // Sum of the tyre wear at the start of each lap
+                for (int first = end; first >= 1; first--) {
+                    if (first < end) {
+                        wearBeforeLastLap += wearPerLap[first];
+                        wearSum += wearPerLap[first] * (end - first);
+                    }
+                    stintFuel += fuelPerLap[first];
+                    fuelOnBoardSum += stintFuel;
+                    if (stintFuel > fuelTankCapacity + EPSILON
+                            || wearBeforeLastLap >= RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD) {
+                        break; // Longer stints do not fit the tank or overrun the tyres
+                    }
+
+                    int start = first - 1;
+                    // The first stint is run on the car's own tyres
+                    if ((start == 0 && c != 0) || bestTime[start] == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    double time = bestTime[start]
+                            + (start > 0 ? RaceStrategyOptimiser.PIT_STOP_TIME_PENALTY_SECONDS : 0.0)
+                            + (end - start) * cleanLapTime
+                            + secondsPerLiter * fuelOnBoardSum
+                            + secondsPerTyreWear * wearSum;
+                    if (time < bestTime[end] - EPSILON) {
+                        bestTime[end] = time;
+                        stintStart[end] = start;
+                        stintCompound[end] = c;
+                    }
+                }
+            }
+        }
+        return Math.max(0, totalLaps - firstLap + 1);
+    }
+
+    /**
+     * Returns the fastest strategy from the start of the race.
+     *
+     * @return The strategy with the least total race time, pit stops included.
+     * @throws IllegalStateException if the car cannot complete a lap on a full tank.
+     */
+    public PitStrategy plan() {
+        if (totalLaps <= 0) {
+            return new PitStrategy(0.0, compounds[0], List.of(), 0.0);
+        }
+        if (bestTime[totalLaps] == Double.POSITIVE_INFINITY) {
+            throw new IllegalStateException("RaceCar cannot complete a single lap on a full tank.");
+        }
+
+        // Walk the stints back from the chequered flag
+        List<PitStop> pitStops = new ArrayList<>();
+        int end = totalLaps;
+        while (stintStart[end] > 0) {
+            int start = stintStart[end];
+            pitStops.add(0, new PitStop(start, fuelBurnt(start, end), compounds[stintCompound[end]]));
+            end = start;
+        }
+        return new PitStrategy(fuelBurnt(0, end), compounds[0], pitStops, bestTime[totalLaps]);
+    }
+
+    private double fuelBurnt(int start, int end) {
+        double fuel = 0.0;
+        for (int lap = start + 1; lap <= end; lap++) {
+            fuel += fuelPerLap[lap];
+        }
+        return fuel;
+    }
+
+    /**
+     * Returns the fastest strategy for the rest of a race already under way, from the car's state after
+     * completedLaps laps, e.g. to re-plan live as the race runs. Fuel already on board cannot be removed,
+     * so while it lasts pit stops only change tyres; the first stop that must add fuel fills the tank with
+     * exactly what its stint burns, and every stop after that does the same.
+     * Pit stops can be taken from the end of the next lap onwards.
+     *
+     * @param completedLaps The laps completed so far, from 0 to the race distance.
+     * @param fuel          The fuel on board now in liters.
+     * @param tyreWear      The wear of the tyres fitted now (0.0 to 1.0).
+     * @param tyres         The tyres fitted now; must be among this planner's compounds.
+     * @return The strategy for the remaining laps, starting from the given fuel and tyres, whose total
+     *         race time is the time of the remaining laps.
+     * @throws IllegalStateException if the car cannot complete the race from this state.
+     * @throws CancellationException  if the calling thread is interrupted while planning; the interrupt
+     *                                status is left set.
+     */
+    public PitStrategy planFrom(int completedLaps, double fuel, double tyreWear, Tyres tyres) {
+        if (completedLaps < 0 || completedLaps > Math.max(0, totalLaps)) {
+            throw new IllegalArgumentException("Completed laps must be between 0 and " + Math.max(0, totalLaps) + ".");
+        }
+        if (fuel < 0 || fuel > raceCar.getFuelTankCapacity() + EPSILON) {
+            throw new IllegalArgumentException("Fuel must be between 0 and the fuel tank capacity.");
+        }
+        if (tyreWear < 0 || tyreWear > 1.0) {
+            throw new IllegalArgumentException("Tyre wear must be between 0.0 and 1.0.");
+        }
+        if (tyres == null) {
+            throw new IllegalArgumentException("Tyres cannot be null.");
+        }
+        int currentCompound = compoundIndex(tyres);
+        if (completedLaps >= totalLaps) {
+            return new PitStrategy(fuel, tyres, List.of(), 0.0);
+        }
+
+        // Fuel on board at the start of each lap while the current fuel lasts, up to the last lap it covers
+        int fuelHorizon = completedLaps;
+        double[] inheritedFuelSum = new double[totalLaps + 1]; // Prefix sums of the fuel on board per lap
+        double onBoard = fuel;
+        while (fuelHorizon < totalLaps && RaceStrategyOptimiser.hasFuelForLap(onBoard, fuelPerLap[fuelHorizon + 1])) {
+            fuelHorizon++;
+            inheritedFuelSum[fuelHorizon] = inheritedFuelSum[fuelHorizon - 1] + onBoard;
+            onBoard = Math.max(0, onBoard - fuelPerLap[fuelHorizon]);
+        }
+
+        // bestTime[lap]: least time from now to the end of 'lap' with a stint ending there
+        double[] bestTime = new double[totalLaps + 1];
+        int[] fromLap = new int[totalLaps + 1];
+        int[] fromCompound = new int[totalLaps + 1];
+        Arrays.fill(bestTime, Double.POSITIVE_INFINITY);
+
+        // The stint under way: no stop, the tyres fitted now, the fuel on board
+        double wear = tyreWear;
+        double stintTime = 0.0;
+        LapTimeModel currentModel = lapTimeModels[currentCompound];
+        for (int end = completedLaps + 1; end <= fuelHorizon; end++) {
+            if (end > completedLaps + 1 && wear >= RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD) {
+                break; // A stop is forced at the end of the previous lap
+            }
+            stintTime += currentModel.getCleanLapTime() + currentModel.getSecondsPerTyreWear() * wear
+                    + secondsPerLiter * (inheritedFuelSum[end] - inheritedFuelSum[end - 1]);
+            wear = Math.min(1.0, wear + tyreWearPerLap[currentCompound][end]);
+            bestTime[end] = stintTime;
+            fromLap[end] = completedLaps;
+            fromCompound[end] = currentCompound;
+        }
+
+        // Stints after a stop on fresh tyres, as in solveFrom
+        double fuelTankCapacity = raceCar.getFuelTankCapacity();
+        for (int end = completedLaps + 2; end <= totalLaps; end++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Planning was interrupted.");
+            }
+            boolean onInheritedFuel = end <= fuelHorizon;
+            for (int c = 0; c < compounds.length; c++) {
+                double[] wearPerLap = tyreWearPerLap[c];
+                double stintFuel = 0.0;
+                double fuelOnBoardSum = 0.0;
+                double wearBeforeLastLap = 0.0;
+                double wearSum = 0.0;
+                for (int first = end; first >= completedLaps + 2; first--) {
+                    if (first < end) {
+                        wearBeforeLastLap += wearPerLap[first];
+                        wearSum += wearPerLap[first] * (end - first);
+                    }
+                    stintFuel += fuelPerLap[first];
+                    fuelOnBoardSum += stintFuel;
+                    if ((!onInheritedFuel && stintFuel > fuelTankCapacity + EPSILON)
+                            || wearBeforeLastLap >= RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD) {
+                        break;
+                    }
+                    int start = first - 1;
+                    if (bestTime[start] == Double.POSITIVE_INFINITY) {
+                        continue;
+                    }
+                    double fuelTime = secondsPerLiter * (onInheritedFuel
+                            ? inheritedFuelSum[end] - inheritedFuelSum[start]
+                            : fuelOnBoardSum);
+                    double time = bestTime[start] + RaceStrategyOptimiser.PIT_STOP_TIME_PENALTY_SECONDS
+                            + (end - start) * lapTimeModels[c].getCleanLapTime()
+                            + fuelTime
+                            + lapTimeModels[c].getSecondsPerTyreWear() * wearSum;
+                    if (time < bestTime[end] - EPSILON) {
+                        bestTime[end] = time;
+                        fromLap[end] = start;
+                        fromCompound[end] = c;
+                    }
+                }
+            }
+        }
+        if (bestTime[totalLaps] == Double.POSITIVE_INFINITY) {
+            throw new IllegalStateException("RaceCar cannot complete the race from lap " + completedLaps + ".");
+        }
+
+        // Walk the stints back; a stop adds fuel only once the fuel on board no longer covers its stint
+        List<PitStop> pitStops = new ArrayList<>();
+        int end = totalLaps;
+        while (fromLap[end] > completedLaps) {
+            int start = fromLap[end];
+            double fuelLeft = start <= fuelHorizon ? Math.max(0.0, fuel - fuelBurnt(completedLaps, start)) : 0.0;
+            double fuelAdded = end <= fuelHorizon ? 0.0 : Math.max(0.0, fuelBurnt(start, end) - fuelLeft);
+            pitStops.add(0, new PitStop(start, fuelAdded, compounds[fromCompound[end]]));
+            end = start;
+        }
+        return new PitStrategy(fuel, tyres, pitStops, bestTime[totalLaps]);
+    }
+
+    /**
+     * Calculates the total race time of a strategy by stepping it lap by lap, checking that the car never
+     * runs short of fuel, is never over-filled and is never left on tyres past the wear threshold.
+     *
+     * @param strategy The strategy to time; its tyres must be among this planner's compounds.
+     * @return The total race time in seconds, pit stops included.
+     */
+    public double calculateRaceTime(PitStrategy strategy) {
+        return calculateRaceTimeFrom(0, 0.0, strategy);
+    }
+
+    /**
+     * Calculates the time of the remaining laps of a race under way, as calculateRaceTime does for a whole race.
+     *
+     * @param completedLaps The laps completed so far.
+     * @param tyreWear      The wear of the strategy's starting tyres now.
+     * @param strategy      The strategy from now on, starting with the fuel on board now.
+     * @return The time of the remaining laps in seconds, pit stops included.
+     */
+    public double calculateRaceTimeFrom(int completedLaps, double tyreWear, PitStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("PitStrategy cannot be null.");
+        }
+        if (completedLaps < 0 || completedLaps > Math.max(0, totalLaps)) {
+            throw new IllegalArgumentException("Completed laps must be between 0 and " + Math.max(0, totalLaps) + ".");
+        }
+        List<PitStop> pitStops = strategy.getPitStops();
+        int c = compoundIndex(strategy.getStartingTyres());
+        double fuel = strategy.getStartingFuel();
+        if (fuel > raceCar.getFuelTankCapacity() + EPSILON) {
+            throw new IllegalArgumentException("Starting fuel exceeds the fuel tank capacity.");
+        }
+        double raceTime = 0.0;
+        int nextStop = 0;
+        for (int lap = completedLaps + 1; lap <= totalLaps; lap++) {
+            if (!RaceStrategyOptimiser.hasFuelForLap(fuel, fuelPerLap[lap])) {
+                throw new IllegalArgumentException("RaceCar runs out of fuel on lap " + lap + ".");
+            }
+            raceTime += lapTimeModels[c].lapTime(fuel, tyreWear);
+            fuel = Math.max(0, fuel - fuelPerLap[lap]);
+            tyreWear = Math.min(1.0, Math.max(0, tyreWear + tyreWearPerLap[c][lap]));
+
+            PitStop pitStop = nextStop < pitStops.size() ? pitStops.get(nextStop) : null;
+            if (lap < totalLaps && pitStop != null && pitStop.getLap() == lap) {
+                fuel += pitStop.getFuelAdded();
+                if (fuel > raceCar.getFuelTankCapacity() + EPSILON) {
+                    throw new IllegalArgumentException("Pit stop on lap " + lap + " exceeds the fuel tank capacity.");
+                }
+                c = compoundIndex(pitStop.getTyres());
+                tyreWear = 0.0;
+                raceTime += RaceStrategyOptimiser.PIT_STOP_TIME_PENALTY_SECONDS;
+                nextStop++;
+            } else if (lap < totalLaps && tyreWear >= RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD) {
+                throw new IllegalArgumentException("Tyres are past the wear threshold after lap " + lap + ".");
+            }
+        }
+        if (nextStop < pitStops.size()) {
+            throw new IllegalArgumentException("Pit stop lap " + pitStops.get(nextStop).getLap() + " is out of order or not between laps " + completedLaps + " and " + totalLaps + ".");
+        }
+        return raceTime;
+    }
+
+    private int compoundIndex(Tyres tyres) {
+        for (int c = 0; c < compounds.length; c++) {
+            if (compounds[c] == tyres) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException("Tyres " + tyres.getCompound() + " are not among the planned compounds.");
+    }
+
+    /**
+     * @return The compounds considered, the car's own tyres first.
+     */
+    public List<Tyres> getCompounds() {
+        return List.of(compounds);
+    }
+
+    public ConditionsTimeline getConditionsTimeline() {
+        return timeline;
+    }
+
+    /**
+     * @param lap The lap number, from 1.
+     * @return The fuel burnt on that lap in its conditions, in liters.
+     */
+    public double getFuelPerLap(int lap) {
+        if (lap < 1 || lap > totalLaps) {
+            throw new IndexOutOfBoundsException("Lap " + lap + " is not between 1 and " + totalLaps + ".");
+        }
+        return fuelPerLap[lap];
+    }
+
+    /**
+     * @return The number of laps this planner solved itself, rather than reused from the planner it re-planned.
+     */
+    public int getSolvedLaps() {
+        return solvedLaps;
+    }
+}
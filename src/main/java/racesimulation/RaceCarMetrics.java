@@ -0,0 +1,77 @@
+package racesimulation;
+
+/**
+ * Immutable performance metrics derived from a car's components and weight.
+ * Instances are shared between every RaceCar built from the same components through RaceCarMetricsCache.
+ */
+final class RaceCarMetrics {
+    private final double topSpeed;                  // km/h
+    private final double accelerationTime0To100;    // seconds
+    private final String accelerationProfile;       // "Aggressive", "Balanced", "Conservative"
+    private final int handlingRating;               // 1-10
+    private final int corneringAbilityRating;       // 1-100
+    private final double baseFuelConsumptionPerLap; // liters
+
+    /**
+     * Calculates the performance metrics of a car.
+     *
+     * @param engine    The car's Engine.
+     * @param tyres     The car's Tyres.
+     * @param aeroKit   The car's AerodynamicKit.
+     * @param carWeight The car's weight in kg.
+     */
+    RaceCarMetrics(Engine engine, Tyres tyres, AerodynamicKit aeroKit, double carWeight) {
+        this.topSpeed = calculateTopSpeed(engine, aeroKit);
+        this.accelerationTime0To100 = calculate0To100AccelerationTime(engine, carWeight);
+        this.accelerationProfile = determineAccelerationProfile(engine, carWeight);
+        this.handlingRating = calculateHandling(tyres, aeroKit);
+        this.corneringAbilityRating = calculateCorneringAbility(tyres, aeroKit);
+        this.baseFuelConsumptionPerLap = calculateBaseFuelConsumptionPerLap(engine, aeroKit);
+    }
+
+    public double getTopSpeed() { return topSpeed; }
+    public double getAccelerationTime0To100() { return accelerationTime0To100; }
+    public String getAccelerationProfile() { return accelerationProfile; }
+    public int getHandlingRating() { return handlingRating; }
+    public int getCorneringAbilityRating() { return corneringAbilityRating; }
+    public double getBaseFuelConsumptionPerLap() { return baseFuelConsumptionPerLap; }
+
+    private static double calculateTopSpeed(Engine engine, AerodynamicKit aeroKit) {
+        // Top speed is now primarily determined by the aero kit, but slightly influenced by the engine's power.
+        return aeroKit.getTopSpeed() + (engine.getPowerRating() / 100.0);
+    }
+
+    private static double calculate0To100AccelerationTime(Engine engine, double carWeight) {
+        return (carWeight / engine.getPowerRating()) * 5.0;
+    }
+
+    private static String determineAccelerationProfile(Engine engine, double carWeight) {
+        double powerToWeightRatio = engine.getPowerRating() / carWeight;
+        if (powerToWeightRatio > 0.45) {
+            return "Aggressive";
+        } else if (powerToWeightRatio > 0.25) {
+            return "Balanced";
+        } else {
+            return "Conservative";
+        }
+    }
+
+    private static int calculateHandling(Tyres tyres, AerodynamicKit aeroKit) {
+        // Handling is now primarily determined by the aero kit's cornering ability, slightly adjusted by tyre grip.
+        return (int) Math.round(aeroKit.getCorneringAbility() * (1 + (tyres.getGripLevel() - 5) / 50.0));
+    }
+
+    private static int calculateCorneringAbility(Tyres tyres, AerodynamicKit aeroKit) {
+        // The detailed cornering ability rating is now primarily from the aero kit, adjusted by tyre grip.
+        double baseAbility = aeroKit.getCorneringAbility() * 10; // Scale to 1-100
+        double gripModifier = 1 + (tyres.getGripLevel() - 5) / 20.0; // Tyres give a +/- bonus
+        return (int) Math.round(Math.min(100.0, Math.max(1.0, baseAbility * gripModifier)));
+    }
+
+    private static double calculateBaseFuelConsumptionPerLap(Engine engine, AerodynamicKit aeroKit) {
+        // Fuel consumption is now a combination of the engine's efficiency and the aero kit's efficiency.
+        // We can average them or make one a primary factor. Let's average them.
+        double combinedEfficiency = (engine.getFuelEfficiency() + aeroKit.getFuelEfficiency()) / 2.0;
+        return 30.0 / combinedEfficiency;
+    }
+}
@@ -0,0 +1,177 @@
+package racesimulation;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Interns RaceCarMetrics by the components they are derived from, so that every RaceCar built from
+ * the same Engine, Tyres, AerodynamicKit and weight shares one metrics instance instead of recomputing it.
+ * Components are matched by instance, which is how GameAssetProvider hands them out.
+ * The fuel tank capacity does not affect any metric and is not part of the key.
+ * <p>
+ * The cache is bounded like StrategyCache: it is split into segments, each an access-ordered LinkedHashMap
+ * behind its own lock, and each segment evicts its least recently used entries once it holds more than its
+ * share of the entry limit, so cars built from ever new component instances cannot grow it without bound.
+ * This class is thread-safe.
+ */
+class RaceCarMetricsCache {
+    static final int DEFAULT_MAX_ENTRIES = 4096;
+    private static final int SEGMENT_COUNT = 16;
+
+    /** The cache used by the RaceCar constructor. */
+    static final RaceCarMetricsCache SHARED = new RaceCarMetricsCache(DEFAULT_MAX_ENTRIES);
+
+    private final Segment[] segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maxEntries The maximum number of metrics kept.
+     */
+    public RaceCarMetricsCache(int maxEntries) {
+        if (maxEntries < SEGMENT_COUNT) {
+            throw new IllegalArgumentException("maxEntries must be at least " + SEGMENT_COUNT + ".");
+        }
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(maxEntries / SEGMENT_COUNT);
+        }
+    }
+
+    /**
+     * Returns the metrics for the given components, calculating them on first use.
+     *
+     * @param engine    The car's Engine.
+     * @param tyres     The car's Tyres.
+     * @param aeroKit   The car's AerodynamicKit.
+     * @param carWeight The car's weight in kg.
+     * @return The shared RaceCarMetrics.
+     */
+    public RaceCarMetrics get(Engine engine, Tyres tyres, AerodynamicKit aeroKit, double carWeight) {
+        Key key = new Key(engine, tyres, aeroKit, carWeight);
+        Segment segment = segmentFor(key);
+        RaceCarMetrics metrics = segment.get(key);
+        if (metrics != null) {
+            hitCount.increment();
+            return metrics;
+        }
+        missCount.increment();
+        // Calculate outside the lock so a failing calculation leaves nothing behind; racing threads keep the first
+        return segment.putIfAbsent(key, new RaceCarMetrics(engine, tyres, aeroKit, carWeight));
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached metrics and resets the counters.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    private class Segment {
+        private final int maxEntries;
+        private final LinkedHashMap<Key, RaceCarMetrics> metricsByKey = new LinkedHashMap<>(16, 0.75f, true);
+
+        Segment(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        synchronized RaceCarMetrics get(Key key) {
+            return metricsByKey.get(key);
+        }
+
+        /**
+         * Adds the metrics unless the key is already present, and returns the metrics kept for the key.
+         */
+        synchronized RaceCarMetrics putIfAbsent(Key key, RaceCarMetrics metrics) {
+            RaceCarMetrics existing = metricsByKey.putIfAbsent(key, metrics);
+            if (existing != null) {
+                return existing;
+            }
+            Iterator<Key> eldest = metricsByKey.keySet().iterator();
+            while (metricsByKey.size() > maxEntries) {
+                eldest.next();
+                eldest.remove();
+                evictionCount.increment();
+            }
+            return metrics;
+        }
+
+        synchronized int size() {
+            return metricsByKey.size();
+        }
+
+        synchronized void clear() {
+            metricsByKey.clear();
+        }
+    }
+
+    private static final class Key {
+        private final Engine engine;
+        private final Tyres tyres;
+        private final AerodynamicKit aeroKit;
+        private final double carWeight;
+        private final int hash;
+
+        Key(Engine engine, Tyres tyres, AerodynamicKit aeroKit, double carWeight) {
+            this.engine = engine;
+            this.tyres = tyres;
+            this.aeroKit = aeroKit;
+            this.carWeight = carWeight;
+            // Combined by hand: Objects.hash would allocate a varargs array and box every argument
+            int h = System.identityHashCode(engine);
+            h = 31 * h + System.identityHashCode(tyres);
+            h = 31 * h + System.identityHashCode(aeroKit);
+            this.hash = 31 * h + Double.hashCode(carWeight);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return engine == other.engine && tyres == other.tyres && aeroKit == other.aeroKit
+                    && Double.compare(carWeight, other.carWeight) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package racesimulation;
+
+/**
+ * Headless race engine that runs a full race lap by lap as fast as the CPU allows.
+ * It has no UI dependencies; results are reported through a RaceListener so the same engine
+ * can drive the JavaFX application, batch jobs or tests.
+ * The car's fuel and tyre wear are kept by the engine, so any number of engines may race the same
+ * RaceCar at once. An engine instance runs a single race and is not thread-safe.
+ */
+class RaceEngine {
+    private final RaceCar raceCar;
+    private final RaceTrack raceTrack;
+    private final RaceConditions raceConditions;
+    private final RaceStrategyOptimiser raceOptimiser;
+    private final RaceListener listener;
+    private LiveStrategyPlanner liveStrategy; // Optional source of planned pit stops
+    private Tyres fittedTyres;                // Changed only by planned stops that fit another compound
+    private LapCostModel lapCostModel;        // The per-lap deltas on the fitted tyres
+
+    // The car's CarState, held as fields so that a lap's states stay local to nextLap and are not allocated
+    private double fuel;
+    private double tyreWear;
+    private int lapsCompleted;
+    private int pitStopCount;
+    private boolean started;
+
+    /**
+     * Constructs a RaceEngine.
+     *
+     * @param raceCar        The RaceCar to race, starting on a full tank and fresh tyres.
+     * @param raceTrack      The RaceTrack to race on.
+     * @param raceConditions The RaceConditions for the race.
+     * @param raceOptimiser  The RaceStrategyOptimiser providing lap physics and pit stop decisions for raceCar.
+     * @param listener       The RaceListener notified of the race progress.
+     */
+    public RaceEngine(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions,
+                      RaceStrategyOptimiser raceOptimiser, RaceListener listener) {
+        if (raceCar == null) {
+            throw new IllegalArgumentException("RaceCar cannot be null.");
+        }
+        if (raceTrack == null) {
+            throw new IllegalArgumentException("RaceTrack cannot be null.");
+        }
+        if (raceConditions == null) {
+            throw new IllegalArgumentException("RaceConditions cannot be null.");
+        }
+        if (raceOptimiser == null) {
+            throw new IllegalArgumentException("RaceStrategyOptimiser cannot be null.");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("RaceListener cannot be null.");
+        }
+        this.raceCar = raceCar;
+        this.raceTrack = raceTrack;
+        this.raceConditions = raceConditions;
+        this.raceOptimiser = raceOptimiser;
+        this.listener = listener;
+        this.fittedTyres = raceCar.getTyres();
+        this.lapCostModel = raceOptimiser.getLapCostModel();
+        setState(CarState.start(raceCar));
+    }
+
+    /**
+     * Takes pit stops from the live strategy's current plan, keeping the threshold rule of the
+     * RaceStrategyOptimiser for laps without a valid plan. The live strategy is also told of the race
+     * progress, before the listener. Must be set before the first lap.
+     *
+     * @param liveStrategy The live strategy planner, or null to use the threshold rule only.
+     */
+    public void setLiveStrategy(LiveStrategyPlanner liveStrategy) {
+        if (started) {
+            throw new IllegalStateException("Race has already started.");
+        }
+        this.liveStrategy = liveStrategy;
+    }
+
+    /**
+     * Runs the whole race without pausing between laps.
+     *
+     * @return The total number of pit stops taken.
+     */
+    public int run() {
+        while (!isFinished()) {
+            nextLap();
+        }
+        return pitStopCount;
+    }
+
+    /**
+     * Simulates the next lap and takes a pit stop at the end of it if one is needed.
+     * The listener is told the race has started before the first lap and finished after the last one.
+     *
+     * @return The result of the lap.
+     * @throws IllegalStateException if the race is already finished.
+     */
+    public LapResult nextLap() {
+        if (isFinished()) {
+            throw new IllegalStateException("Race is already finished.");
+        }
+        SimulationEvents.LapSimulated lapEvent = new SimulationEvents.LapSimulated();
+        lapEvent.begin();
+        long lapStartNanos = SimulationMetrics.ENABLED ? System.nanoTime() : 0L;
+        if (!started) {
+            started = true;
+            if (liveStrategy != null) {
+                liveStrategy.raceStarted(raceCar, raceTrack, raceConditions);
+            }
+            listener.raceStarted(raceCar, raceTrack, raceConditions);
+        }
+
+        int totalLaps = raceTrack.getNumberOfLaps();
+        CarState afterLap = getState().afterLap(lapCostModel);
+        int currentLapNumber = afterLap.getLap();
+        setState(afterLap);
+
+        String pitReason = takePlannedPitStop(totalLaps);
+        if (pitReason == null) {
+            // The threshold rule applies whenever no plan is ready or it stops elsewhere; a planned stop
+            // already fits fresh tyres and the fuel for its stint, so it is never overridden
+            pitReason = raceOptimiser.pitStopReason(getState(), totalLaps);
+            if (pitReason != null) {
+                setState(raceOptimiser.pitStop(getState()));
+            }
+        }
+        if (pitReason != null) {
+            pitStopCount++;
+            SimulationEvents.PitStopTaken pitEvent = new SimulationEvents.PitStopTaken();
+            if (pitEvent.shouldCommit()) {
+                pitEvent.setRace(raceCar, raceTrack, raceConditions);
+                pitEvent.lap = currentLapNumber;
+                pitEvent.reason = pitReason;
+                pitEvent.fuelBefore = afterLap.getFuel();
+                pitEvent.fuelAfter = fuel;
+                pitEvent.tyreWearBefore = afterLap.getTyreWear();
+                pitEvent.commit();
+            }
+        }
+
+        LapResult result = new LapResult(currentLapNumber, totalLaps, afterLap.getFuel(), afterLap.getTyreWear(),
+                pitReason, fuel, tyreWear);
+        if (liveStrategy != null) {
+            liveStrategy.lapCompleted(result);
+        }
+        listener.lapCompleted(result);
+
+        if (isFinished()) {
+            if (liveStrategy != null) {
+                liveStrategy.raceFinished(pitStopCount, fuel, tyreWear);
+            }
+            listener.raceFinished(pitStopCount, fuel, tyreWear);
+        }
+        if (SimulationMetrics.ENABLED) {
+            SimulationMetrics.SHARED.recordLap(System.nanoTime() - lapStartNanos);
+        }
+        if (lapEvent.shouldCommit()) {
+            lapEvent.setRace(raceCar, raceTrack, raceConditions);
+            lapEvent.lap = currentLapNumber;
+            lapEvent.totalLaps = totalLaps;
+            lapEvent.fuelAfterLap = afterLap.getFuel();
+            lapEvent.tyreWearAfterLap = afterLap.getTyreWear();
+            lapEvent.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Takes the stop the live strategy plans at the end of the lap just completed, if any: the planned
+     * fuel is added and fresh tyres of the planned compound are fitted. Fuel use is the same on every
+     * compound, so only the tyre wear of the following laps changes.
+     *
+     * @return The reason for the stop, or null if none is planned.
+     */
+    private String takePlannedPitStop(int totalLaps) {
+        if (liveStrategy == null || lapsCompleted >= totalLaps) {
+            return null;
+        }
+        PitStop pitStop = liveStrategy.takePlannedStop(lapsCompleted);
+        if (pitStop == null) {
+            return null;
+        }
+        // Exactly the planned fuel: pitStopReason allows for the planner summing the stint in another order
+        double plannedFuel = fuel + pitStop.getFuelAdded();
+        setState(getState().afterPitStop(Math.min(raceCar.getFuelTankCapacity(), plannedFuel)));
+        if (pitStop.getTyres() != fittedTyres) {
+            fittedTyres = pitStop.getTyres();
+            RaceCar fittedCar = new RaceCar(raceCar.getEngine(), fittedTyres, raceCar.getAeroKit(),
+                    raceCar.getCarWeight(), raceCar.getFuelTankCapacity());
+            lapCostModel = new LapCostModel(fittedCar, raceTrack, raceConditions);
+        }
+        return pitStop.getFuelAdded() > 0 ? "Fuel & Tyres" : "Tyres";
+    }
+
+    public boolean isFinished() {
+        return lapsCompleted >= raceTrack.getNumberOfLaps();
+    }
+
+    public int getLapsCompleted() {
+        return lapsCompleted;
+    }
+
+    /**
+     * @return The car's state after the last lap and any pit stop taken at the end of it.
+     */
+    public CarState getState() {
+        return new CarState(fuel, tyreWear, lapsCompleted);
+    }
+
+    private void setState(CarState state) {
+        fuel = state.getFuel();
+        tyreWear = state.getTyreWear();
+        lapsCompleted = state.getLap();
+    }
+
+    public int getPitStopCount() {
+        return pitStopCount;
+    }
+
+    /**
+     * @return The tyres on the car now: its own, or those fitted at the last planned stop that changed compound.
+     */
+    public Tyres getFittedTyres() {
+        return fittedTyres;
+    }
+}
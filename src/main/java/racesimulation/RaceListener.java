@@ -0,0 +1,36 @@
+package racesimulation;
+
+/**
+ * Receives the progress of a race run by a RaceEngine.
+ * Callbacks are invoked on the thread driving the engine; implementations that touch a UI
+ * are responsible for handing the data over to the UI thread themselves.
+ */
+interface RaceListener {
+
+    /**
+     * Called once before the first lap is simulated.
+     *
+     * @param raceCar        The car taking part in the race, which starts on a full tank and fresh tyres.
+     * @param raceTrack      The track being raced.
+     * @param raceConditions The conditions for the race.
+     */
+    default void raceStarted(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions) {
+    }
+
+    /**
+     * Called after every simulated lap, once any pit stop at the end of the lap has been taken.
+     *
+     * @param result The result of the lap.
+     */
+    void lapCompleted(LapResult result);
+
+    /**
+     * Called once after the final lap.
+     *
+     * @param pitStopCount  The total number of pit stops taken.
+     * @param finalFuel     The fuel left at the end of the race in liters.
+     * @param finalTyreWear The tyre wear at the end of the race (0.0 to 1.0).
+     */
+    default void raceFinished(int pitStopCount, double finalFuel, double finalTyreWear) {
+    }
+}
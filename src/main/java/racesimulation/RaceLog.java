@@ -0,0 +1,188 @@
+package racesimulation;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded ring buffer of race log lines.
+ * Lap results are stored as-is and only formatted when a line is read, so appending is O(1)
+ * and memory is capped at the capacity regardless of how long the race runs.
+ * Once full, each append overwrites the oldest line. This class is not thread-safe.
+ */
+class RaceLog {
+    private static final byte MESSAGE = 0;
+    private static final byte LAP = 1;
+    private static final byte PIT_STOP = 2;
+
+    private final byte[] kinds;
+    private final Object[] entries;                      // String for messages, LapResult otherwise
+    private final RaceConditions.Weather[] weathers;     // Weather during the lap, for the log suffix
+    private int head;   // Index of the oldest line
+    private int size;
+    private long droppedLines;
+
+    /**
+     * @param capacity The maximum number of lines kept.
+     */
+    public RaceLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.kinds = new byte[capacity];
+        this.entries = new Object[capacity];
+        this.weathers = new RaceConditions.Weather[capacity];
+    }
+
+    /**
+     * Appends a free-text message line. A trailing line break is ignored.
+     *
+     * @param message The message.
+     */
+    public void appendMessage(String message) {
+        if (message == null) {
+            throw new IllegalArgumentException("Message cannot be null.");
+        }
+        if (message.endsWith("\n")) {
+            message = message.substring(0, message.length() - 1);
+        }
+        append(MESSAGE, message, null);
+    }
+
+    /**
+     * Appends the line for a completed lap, followed by a pit stop line if one was taken.
+     *
+     * @param lap     The lap result.
+     * @param weather The weather the lap was run in.
+     */
+    public void appendLap(LapResult lap, RaceConditions.Weather weather) {
+        if (lap == null) {
+            throw new IllegalArgumentException("LapResult cannot be null.");
+        }
+        append(LAP, lap, weather);
+        if (lap.isPitStop()) {
+            append(PIT_STOP, lap, weather);
+        }
+    }
+
+    private void append(byte kind, Object entry, RaceConditions.Weather weather) {
+        int index;
+        if (size < entries.length) {
+            index = (head + size) % entries.length;
+            size++;
+        } else {
+            index = head;
+            head = (head + 1) % entries.length;
+            droppedLines++;
+        }
+        kinds[index] = kind;
+        entries[index] = entry;
+        weathers[index] = weather;
+    }
+
+    /**
+     * Formats a line.
+     *
+     * @param line The line index, 0 being the oldest line still kept.
+     * @return The formatted line.
+     */
+    public String getLine(int line) {
+        if (line < 0 || line >= size) {
+            throw new IndexOutOfBoundsException("Line " + line + " out of range for " + size + " lines.");
+        }
+        int index = (head + line) % entries.length;
+        return format(kinds[index], entries[index], weathers[index]);
+    }
+
+    /**
+     * Copies a range of lines into a list that formats each line only when it is read, e.g. to report
+     * lines about to be overwritten or cleared without formatting them all.
+     *
+     * @param first The index of the first line, 0 being the oldest line still kept.
+     * @param count The number of lines.
+     * @return The lines, unaffected by later appends and clears.
+     */
+    public List<String> snapshot(int first, int count) {
+        if (first < 0 || count < 0 || first + count > size) {
+            throw new IndexOutOfBoundsException("Lines " + first + " to " + (first + count) + " out of range for " + size + " lines.");
+        }
+        byte[] snapshotKinds = new byte[count];
+        Object[] snapshotEntries = new Object[count];
+        RaceConditions.Weather[] snapshotWeathers = new RaceConditions.Weather[count];
+        for (int line = 0; line < count; line++) {
+            int index = (head + first + line) % entries.length;
+            snapshotKinds[line] = kinds[index];
+            snapshotEntries[line] = entries[index];
+            snapshotWeathers[line] = weathers[index];
+        }
+        return new AbstractList<>() {
+            @Override
+            public String get(int line) {
+                Objects.checkIndex(line, count);
+                return format(snapshotKinds[line], snapshotEntries[line], snapshotWeathers[line]);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    private static String format(byte kind, Object entry, RaceConditions.Weather weather) {
+        switch (kind) {
+            case LAP: {
+                LapResult lap = (LapResult) entry;
+                return String.format("Lap %d completed. Fuel: %.2f L, Tyres: %.2f%% wear.%s",
+                        lap.getLapNumber(), lap.getFuelAfterLap(), lap.getTyreWearAfterLap() * 100, weatherNote(weather));
+            }
+            case PIT_STOP: {
+                LapResult lap = (LapResult) entry;
+                return String.format("--- Pit Stop taken at end of lap %d. Reason: %s ---", lap.getLapNumber(), lap.getPitReason());
+            }
+            default:
+                return (String) entry;
+        }
+    }
+
+    private static String weatherNote(RaceConditions.Weather weather) {
+        switch (weather) {
+            case WET:
+                return " (Wet track reducing tyre wear)";
+            case DAMP:
+                return " (Damp track slightly reducing tyre wear)";
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * @return The number of lines kept.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * @return The number of lines overwritten since the log was created or last cleared.
+     */
+    public long getDroppedLines() {
+        return droppedLines;
+    }
+
+    /**
+     * Removes all lines.
+     */
+    public void clear() {
+        Arrays.fill(entries, null);
+        Arrays.fill(weathers, null);
+        head = 0;
+        size = 0;
+        droppedLines = 0;
+    }
+}
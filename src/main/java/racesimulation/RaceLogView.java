@@ -0,0 +1,121 @@
+package racesimulation;
+
+import javafx.collections.ObservableListBase;
+import javafx.scene.Node;
+import javafx.scene.control.ListView;
+
+import java.util.List;
+
+/**
+ * Virtualized race log: a ListView over a RaceLog ring buffer.
+ * The ListView only creates cells for the visible rows, and a row is formatted only when its cell asks for it,
+ * so appending stays O(1) and memory stays capped however long the log grows.
+ * All methods must be called on the JavaFX Application Thread.
+ */
+class RaceLogView {
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    private final RaceLog raceLog;
+    private final LogLines lines = new LogLines();
+    private final ListView<String> listView;
+
+    public RaceLogView() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The maximum number of lines kept; older lines are dropped.
+     */
+    public RaceLogView(int capacity) {
+        this.raceLog = new RaceLog(capacity);
+        this.listView = new ListView<>(lines);
+        listView.setFixedCellSize(18); // One text line per row, lets the ListView skip measuring rows
+        listView.getStyleClass().add("log-area");
+    }
+
+    public Node getNode() {
+        return listView;
+    }
+
+    /**
+     * Appends a message and scrolls to it.
+     *
+     * @param message The message line.
+     */
+    public void appendMessage(String message) {
+        lines.append(1, () -> raceLog.appendMessage(message));
+        scrollToEnd();
+    }
+
+    /**
+     * Appends the lines of a batch of laps and scrolls to the last one.
+     *
+     * @param laps    The completed laps, in order.
+     * @param weather The weather the laps were run in.
+     */
+    public void appendLaps(List<LapResult> laps, RaceConditions.Weather weather) {
+        if (laps.isEmpty()) {
+            return;
+        }
+        for (LapResult lap : laps) {
+            lines.append(lap.isPitStop() ? 2 : 1, () -> raceLog.appendLap(lap, weather));
+        }
+        scrollToEnd();
+    }
+
+    private void scrollToEnd() {
+        listView.scrollTo(raceLog.size() - 1);
+    }
+
+    /**
+     * Removes all lines.
+     */
+    public void clear() {
+        lines.clear();
+    }
+
+    /**
+     * Read-only list view of the ring buffer; get formats the line on demand.
+     */
+    private class LogLines extends ObservableListBase<String> {
+
+        @Override
+        public String get(int index) {
+            return raceLog.getLine(index);
+        }
+
+        @Override
+        public int size() {
+            return raceLog.size();
+        }
+
+        /**
+         * Runs an append on the ring buffer and reports it as one change: the evicted oldest lines
+         * are removed from the front and the new lines are added at the end. The removed lines are
+         * only formatted if a listener reads them.
+         */
+        void append(int addedLines, Runnable append) {
+            int evicted = Math.max(0, raceLog.size() + addedLines - raceLog.getCapacity());
+            List<String> removed = raceLog.snapshot(0, evicted);
+            append.run();
+            beginChange();
+            if (evicted > 0) {
+                nextRemove(0, removed);
+            }
+            nextAdd(raceLog.size() - addedLines, raceLog.size());
+            endChange();
+        }
+
+        @Override
+        public void clear() {
+            if (raceLog.size() == 0) {
+                return;
+            }
+            List<String> removed = raceLog.snapshot(0, raceLog.size());
+            raceLog.clear();
+            beginChange();
+            nextRemove(0, removed);
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package racesimulation;
+
+/**
+ * Distribution of race outcomes produced by a MonteCarloSimulator.
+ * Finish time statistics are taken over the races that reached the chequered flag.
+ */
+class RaceOutcomeStatistics {
+    private final int races;
+    private final int dnfCount;
+    private final double meanFinishTime; // seconds
+    private final double p50FinishTime;  // seconds
+    private final double p95FinishTime;  // seconds
+
+    public RaceOutcomeStatistics(int races, int dnfCount, double meanFinishTime, double p50FinishTime, double p95FinishTime) {
+        this.races = races;
+        this.dnfCount = dnfCount;
+        this.meanFinishTime = meanFinishTime;
+        this.p50FinishTime = p50FinishTime;
+        this.p95FinishTime = p95FinishTime;
+    }
+
+    public int getRaces() { return races; }
+    public int getDnfCount() { return dnfCount; }
+    public int getFinishCount() { return races - dnfCount; }
+    public double getMeanFinishTime() { return meanFinishTime; }
+    public double getP50FinishTime() { return p50FinishTime; }
+    public double getP95FinishTime() { return p95FinishTime; }
+
+    public double getDnfRate() {
+        return races == 0 ? 0.0 : (double) dnfCount / races;
+    }
+
+    @Override
+    public String toString() {
+        return "RaceOutcomeStatistics{" +
+                "races=" + races +
+                ", dnfRate=" + String.format("%.2f%%", getDnfRate() * 100) +
+                ", mean=" + String.format("%.2f", meanFinishTime) + " s" +
+                ", p50=" + String.format("%.2f", p50FinishTime) + " s" +
+                ", p95=" + String.format("%.2f", p95FinishTime) + " s" +
+                '}';
+    }
+}
@@ -0,0 +1,224 @@
+package racesimulation;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays races back at a chosen speed on a ScheduledExecutorService.
+ * Each paced race schedules its next lap instead of sleeping between laps, so a single scheduler thread
+ * can drive any number of sessions at once. Lap deadlines are kept on a fixed timeline, so slow laps do
+ * not make the playback drift.
+ */
+class RacePacer {
+    /** The playback delay per lap at 1x speed, matching the original fixed pause. */
+    static final long BASE_LAP_DELAY_MILLIS = 200;
+    /** The longest a MAX speed race runs on the scheduler thread before letting other races have a turn. */
+    static final long MAX_SPEED_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    /** Pacer shared by the application's race sessions, running on one daemon thread. */
+    static final RacePacer SHARED = new RacePacer(Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "race-pacer");
+        thread.setDaemon(true);
+        return thread;
+    }));
+
+    /**
+     * Playback speeds.
+     */
+    enum Speed {
+        NORMAL("1x"),
+        FAST("10x"),
+        MAX("Max"),
+        REAL_TIME("Real time");
+
+        private final String label;
+
+        Speed(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @param lapTimeSeconds The simulated lap time, used by REAL_TIME.
+         * @return The wall-clock delay between two laps in nanoseconds.
+         */
+        long lapDelayNanos(double lapTimeSeconds) {
+            switch (this) {
+                case NORMAL:
+                    return TimeUnit.MILLISECONDS.toNanos(BASE_LAP_DELAY_MILLIS);
+                case FAST:
+                    return TimeUnit.MILLISECONDS.toNanos(BASE_LAP_DELAY_MILLIS) / 10;
+                case REAL_TIME:
+                    return (long) (lapTimeSeconds * 1e9);
+                default:
+                    return 0L;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param scheduler The scheduler that runs the laps of every paced race.
+     */
+    public RacePacer(ScheduledExecutorService scheduler) {
+        if (scheduler == null) {
+            throw new IllegalArgumentException("Scheduler cannot be null.");
+        }
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts playing a race back. The first lap runs straight away.
+     *
+     * @param raceEngine     The engine of the race; it must not be driven by anything else while paced.
+     * @param speed          The initial playback speed.
+     * @param lapTimeSeconds The simulated lap time, used by REAL_TIME.
+     * @return The PacedRace, to wait on, re-time or cancel.
+     */
+    public PacedRace start(RaceEngine raceEngine, Speed speed, double lapTimeSeconds) {
+        if (raceEngine == null) {
+            throw new IllegalArgumentException("RaceEngine cannot be null.");
+        }
+        if (speed == null) {
+            throw new IllegalArgumentException("Speed cannot be null.");
+        }
+        if (!(lapTimeSeconds >= 0)) {
+            throw new IllegalArgumentException("Lap time cannot be negative.");
+        }
+        PacedRace pacedRace = new PacedRace(raceEngine, speed, lapTimeSeconds);
+        scheduler.execute(pacedRace::step);
+        return pacedRace;
+    }
+
+    /**
+     * Estimates the simulated lap time for real-time playback as the car's clean lap time.
+     *
+     * @param raceCar   The car.
+     * @param raceTrack The track.
+     * @return The lap time in seconds.
+     */
+    static double estimateLapTimeSeconds(RaceCar raceCar, RaceTrack raceTrack) {
+        return new LapTimeModel(raceCar, raceTrack).getCleanLapTime();
+    }
+
+    /**
+     * A race being played back. The laps run on the scheduler; the methods are safe to call from any thread.
+     */
+    class PacedRace {
+        private final RaceEngine raceEngine;
+        private final double lapTimeSeconds;
+        private final CompletableFuture<Integer> completion = new CompletableFuture<>();
+        private volatile Speed speed;
+
+        // Guarded by this: the lap timeline and the scheduled next lap
+        private Speed timelineSpeed; // The speed nextLapNanos was scheduled with
+        private long lastLapNanos;
+        private long nextLapNanos;
+        private ScheduledFuture<?> pendingLap;
+
+        private PacedRace(RaceEngine raceEngine, Speed speed, double lapTimeSeconds) {
+            this.raceEngine = raceEngine;
+            this.speed = speed;
+            this.lapTimeSeconds = lapTimeSeconds;
+        }
+
+        private synchronized void step() {
+            pendingLap = null;
+            if (completion.isDone()) {
+                return;
+            }
+            try {
+                Speed currentSpeed = speed;
+                if (currentSpeed == Speed.MAX) {
+                    // Run a time slice of laps, then yield the scheduler thread to the other races
+                    long sliceEnd = System.nanoTime() + MAX_SPEED_SLICE_NANOS;
+                    do {
+                        raceEngine.nextLap();
+                    } while (!raceEngine.isFinished() && System.nanoTime() < sliceEnd);
+                } else {
+                    raceEngine.nextLap();
+                }
+                lastLapNanos = System.nanoTime();
+                if (raceEngine.isFinished()) {
+                    completion.complete(raceEngine.getPitStopCount());
+                } else {
+                    scheduleNextLap(currentSpeed);
+                }
+            } catch (RuntimeException ex) {
+                completion.completeExceptionally(ex);
+            }
+        }
+
+        private void scheduleNextLap(Speed currentSpeed) {
+            // Stay on the lap timeline unless the speed changed or playback fell behind it
+            long delay = currentSpeed.lapDelayNanos(lapTimeSeconds);
+            boolean onTimeline = timelineSpeed == currentSpeed && nextLapNanos + delay >= lastLapNanos;
+            nextLapNanos = onTimeline ? nextLapNanos + delay : lastLapNanos + delay;
+            timelineSpeed = currentSpeed;
+            pendingLap = scheduler.schedule(this::step, Math.max(0L, nextLapNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Changes the playback speed. A lap already waiting is rescheduled, so the new speed applies straight away.
+         *
+         * @param speed The new speed.
+         */
+        public synchronized void setSpeed(Speed speed) {
+            if (speed == null) {
+                throw new IllegalArgumentException("Speed cannot be null.");
+            }
+            this.speed = speed;
+            if (pendingLap != null && timelineSpeed != speed && pendingLap.cancel(false)) {
+                scheduleNextLap(speed);
+            }
+        }
+
+        public Speed getSpeed() {
+            return speed;
+        }
+
+        /**
+         * Stops the playback; no further laps are run.
+         */
+        public synchronized void cancel() {
+            completion.cancel(false);
+            if (pendingLap != null) {
+                pendingLap.cancel(false);
+                pendingLap = null;
+            }
+        }
+
+        public boolean isDone() {
+            return completion.isDone();
+        }
+
+        /**
+         * Blocks until the race is finished.
+         *
+         * @return The total number of pit stops taken.
+         * @throws InterruptedException  If the waiting thread is interrupted; the race keeps running.
+         * @throws CancellationException If the race was cancelled.
+         */
+        public int await() throws InterruptedException {
+            try {
+                return completion.get();
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+}
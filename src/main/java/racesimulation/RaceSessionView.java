@@ -0,0 +1,110 @@
+package racesimulation;
+
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+/**
+ * One row of the Race Sessions pane: the progress, fuel and tyre wear of a single running simulation,
+ * with a button to cancel it. All methods must be called on the JavaFX Application Thread.
+ */
+class RaceSessionView {
+    private final VBox root;
+    private final Label statusLabel;
+    private final Label fuelLabel;
+    private final Label tyreWearLabel;
+    private final ProgressBar progressBar;
+    private final Button cancelButton;
+    private RaceSimulationTask task;
+
+    /**
+     * @param sessionNumber The number shown in the session's title.
+     * @param description   A short description of the car, track and conditions being raced.
+     */
+    public RaceSessionView(int sessionNumber, String description) {
+        Label titleLabel = new Label(String.format("Session %d: %s", sessionNumber, description));
+        titleLabel.setWrapText(true);
+
+        progressBar = new ProgressBar(0);
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(progressBar, Priority.ALWAYS);
+
+        fuelLabel = new Label("Fuel: N/A");
+        tyreWearLabel = new Label("Tyres: N/A");
+        statusLabel = new Label("Running");
+
+        cancelButton = new Button("Cancel");
+        cancelButton.setOnAction(e -> cancel());
+
+        HBox stateRow = new HBox(10, progressBar, fuelLabel, tyreWearLabel, statusLabel, cancelButton);
+        stateRow.setAlignment(Pos.CENTER_LEFT);
+
+        root = new VBox(3, titleLabel, stateRow);
+        root.getStyleClass().add("session-row");
+    }
+
+    public Node getNode() {
+        return root;
+    }
+
+    /**
+     * @param task The RaceSimulationTask running this session.
+     */
+    public void setTask(RaceSimulationTask task) {
+        this.task = task;
+    }
+
+    /**
+     * Changes the playback speed of the session's race.
+     *
+     * @param speed The playback speed.
+     */
+    public void setPlaybackSpeed(RacePacer.Speed speed) {
+        if (task != null) {
+            task.setPlaybackSpeed(speed);
+        }
+    }
+
+    public void updateFuel(double fuel) {
+        fuelLabel.setText(String.format("Fuel: %.2f L", fuel));
+    }
+
+    public void updateTyreWear(double tyreWearPercent) {
+        tyreWearLabel.setText(String.format("Tyres: %.2f%%", tyreWearPercent));
+    }
+
+    public void updateProgress(double progress) {
+        progressBar.setProgress(progress);
+    }
+
+    /**
+     * Shows the final state of the session and disables its cancel button.
+     *
+     * @param status The status to show, e.g. "Finished" or "Cancelled".
+     */
+    public void finish(String status) {
+        statusLabel.setText(status);
+        cancelButton.setDisable(true);
+    }
+
+    /**
+     * @return Whether the session's task is still running or waiting to run.
+     */
+    public boolean isRunning() {
+        return task != null && !task.isDone();
+    }
+
+    /**
+     * Cancels the session's task if it is still running.
+     */
+    public void cancel() {
+        if (isRunning()) {
+            task.cancel();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package racesimulation;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -22,18 +24,44 @@ public class RaceSimulationTask extends Task<Void> {
 
     // Callbacks for UI updates
     private final Consumer<String> logMessageConsumer;
+    private final Consumer<List<LapResult>> lapLogConsumer;
     private final Consumer<Double> updateFuelConsumer;
     private final Consumer<Double> updateTyreWearConsumer;
     private final BiConsumer<Integer, String> addPitStopConsumer;
     private final Consumer<Double> updateProgressConsumer;
     private final Consumer<String> simulationFinishedConsumer;
 
+    // Lap results waiting for the next display pulse, and the timer that applies them once per pulse
+    private static final int MAX_PENDING_LAPS = 500;
+    private final LapUpdateChannel lapUpdates = new LapUpdateChannel(MAX_PENDING_LAPS);
+    private final AnimationTimer uiPump = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            applyPendingUpdates();
+        }
+    };
+    private volatile String finishedSummary;
+
+    // Optional binary telemetry, written on the simulation thread
+    private TelemetryRecorder telemetryRecorder;
+
+    // Optional live re-planning; the plan is shown on the display pulse after it changes
+    private LiveStrategyPlanner liveStrategy;
+    private Consumer<LiveStrategyPlanner.LivePlan> livePlanConsumer;
+    private LiveStrategyPlanner.LivePlan shownLivePlan;
+
+    // Playback pacing; the laps themselves run on the pacer's scheduler thread
+    private final RacePacer racePacer;
+    private volatile RacePacer.Speed playbackSpeed = RacePacer.Speed.NORMAL;
+    private volatile RacePacer.PacedRace pacedRace;
+
     public RaceSimulationTask(
             RaceCar raceCar,
             RaceTrack raceTrack,
             RaceConditions raceConditions,
             RaceStrategyOptimiser raceOptimiser,
             Consumer<String> logMessageConsumer,
+            Consumer<List<LapResult>> lapLogConsumer,
             Consumer<Double> updateFuelConsumer,
             Consumer<Double> updateTyreWearConsumer,
             BiConsumer<Integer, String> addPitStopConsumer,
@@ -44,76 +72,154 @@ public class RaceSimulationTask extends Task<Void> {
         this.raceConditions = raceConditions;
         this.raceOptimiser = raceOptimiser;
         this.logMessageConsumer = logMessageConsumer;
+        this.lapLogConsumer = lapLogConsumer;
         this.updateFuelConsumer = updateFuelConsumer;
         this.updateTyreWearConsumer = updateTyreWearConsumer;
         this.addPitStopConsumer = addPitStopConsumer;
         this.updateProgressConsumer = updateProgressConsumer;
         this.simulationFinishedConsumer = simulationFinishedConsumer;
+        this.racePacer = RacePacer.SHARED;
+    }
+
+    /**
+     * Records every lap of this simulation to the given recorder. Must be set before the task starts;
+     * the caller owns the recorder and closes it once the task is done.
+     *
+     * @param telemetryRecorder The recorder, or null to stop recording.
+     */
+    public void setTelemetryRecorder(TelemetryRecorder telemetryRecorder) {
+        this.telemetryRecorder = telemetryRecorder;
+    }
+
+    /**
+     * Re-plans the race on the live strategy's worker as it runs and takes pit stops from the current plan.
+     * Must be set before the task starts.
+     *
+     * @param liveStrategy     The live strategy planner for this race, or null to use the threshold rule only;
+     *                         the task closes it when the race ends.
+     * @param livePlanConsumer Receives each new plan on the JavaFX Application Thread.
+     */
+    public void setLiveStrategy(LiveStrategyPlanner liveStrategy, Consumer<LiveStrategyPlanner.LivePlan> livePlanConsumer) {
+        if (liveStrategy != null && livePlanConsumer == null) {
+            throw new IllegalArgumentException("Live plan consumer cannot be null.");
+        }
+        this.liveStrategy = liveStrategy;
+        this.livePlanConsumer = livePlanConsumer;
+    }
+
+    /**
+     * Sets the playback speed. May be called before or while the task runs; a running race
+     * switches speed from its next lap.
+     *
+     * @param playbackSpeed The playback speed.
+     */
+    public void setPlaybackSpeed(RacePacer.Speed playbackSpeed) {
+        if (playbackSpeed == null) {
+            throw new IllegalArgumentException("Playback speed cannot be null.");
+        }
+        this.playbackSpeed = playbackSpeed;
+        RacePacer.PacedRace race = pacedRace;
+        if (race != null) {
+            race.setSpeed(playbackSpeed);
+        }
     }
 
     @Override
     protected Void call() throws Exception {
-        int totalLaps = raceTrack.getNumberOfLaps();
-        double maxTyreWearThreshold = RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD;
-        int pitStopCount = 0;
+        // The headless RaceEngine runs the race; this task only paces it and forwards the results to the UI
+        RaceEngine raceEngine = new RaceEngine(raceCar, raceTrack, raceConditions, raceOptimiser, new ChannelRaceListener());
+        raceEngine.setLiveStrategy(liveStrategy);
 
         // Log the initial conditions at the start of the simulation
         Platform.runLater(() -> {
             logMessageConsumer.accept(String.format("Simulation starting under %s conditions...\n", raceConditions.getName()));
+            uiPump.start();
         });
 
-        for (int completedLap = 0; completedLap < totalLaps; completedLap++) {
-            int currentLapNumber = completedLap + 1;
-
-            // Simulate the current lap
-            raceOptimiser.simulateLap(raceCar, raceTrack, raceConditions);
-
-            // --- Update UI during the lap (using Platform.runLater) ---
-            final int lap = currentLapNumber; // Need final variable for lambda
+        try {
+            // The pacer schedules the laps; this thread only waits for the race to finish or be cancelled
+            RacePacer.PacedRace race = racePacer.start(raceEngine, playbackSpeed,
+                    RacePacer.estimateLapTimeSeconds(raceCar, raceTrack));
+            pacedRace = race;
+            race.setSpeed(playbackSpeed); // In case the speed changed while the race was being started
+            try {
+                race.await();
+            } finally {
+                race.cancel();
+            }
+        } finally {
+            if (liveStrategy != null) {
+                liveStrategy.close();
+            }
+            // Push whatever is still pending, then the summary, before the task reports completion
             Platform.runLater(() -> {
-                String weatherEffectLog = "";
-                switch (raceConditions.getWeather()) {
-                    case WET:
-                        weatherEffectLog = " (Wet track reducing tyre wear)";
-                        break;
-                    case DAMP:
-                        weatherEffectLog = " (Damp track slightly reducing tyre wear)";
-                        break;
+                uiPump.stop();
+                applyPendingUpdates();
+                if (finishedSummary != null) {
+                    simulationFinishedConsumer.accept(finishedSummary);
                 }
-                logMessageConsumer.accept(String.format("Lap %d completed. Fuel: %.2f L, Tyres: %.2f%% wear.%s\n",
-                        lap, raceCar.getCurrentFuel(), raceCar.getCurrentTyreWear() * 100, weatherEffectLog));
-                updateFuelConsumer.accept(raceCar.getCurrentFuel());
-                updateTyreWearConsumer.accept(raceCar.getCurrentTyreWear() * 100);
-                updateProgressConsumer.accept((double) lap / totalLaps);
             });
+        }
 
-            // --- Pit Stop Decision and Action moved to RaceStrategyOptimiser ---
-            String pitReason = raceOptimiser.checkAndPerformPitStop(currentLapNumber, totalLaps);
-
-            if (pitReason != null) {
-                pitStopCount++;
-                final String reasonForUI = pitReason;
-                final int pitLap = currentLapNumber;
-                Platform.runLater(() -> {
-                    logMessageConsumer.accept(String.format("--- Pit Stop taken at end of lap %d. Reason: %s ---\n", pitLap, reasonForUI));
-                    addPitStopConsumer.accept(pitLap, reasonForUI);
-                    // Update UI immediately after pit stop
-                    updateFuelConsumer.accept(raceCar.getCurrentFuel());
-                    updateTyreWearConsumer.accept(raceCar.getCurrentTyreWear() * 100);
-                });
+        return null; // Task completed
+    }
+
+    /**
+     * Applies everything published since the last display pulse to the UI consumers.
+     * Must be called on the JavaFX Application Thread.
+     */
+    private void applyPendingUpdates() {
+        if (liveStrategy != null) {
+            LiveStrategyPlanner.LivePlan livePlan = liveStrategy.getCurrentPlan();
+            if (livePlan != null && livePlan != shownLivePlan) {
+                shownLivePlan = livePlan;
+                livePlanConsumer.accept(livePlan);
             }
+        }
 
-            // Pause to make the simulation visible
-            Thread.sleep(200);
+        LapUpdateChannel.Snapshot snapshot = lapUpdates.drain();
+        if (snapshot == null) {
+            return;
+        }
+        if (SimulationMetrics.ENABLED) {
+            // The lag is publish-to-apply, measured once per snapshot from its oldest lap
+            SimulationMetrics.SHARED.recordUiQueueLag(System.nanoTime() - snapshot.getFirstPublishedNanos());
         }
 
-        // Simulation finished, update summary
-        final int finalPitStopCount = pitStopCount; // Capture the final pit stop count
-        Platform.runLater(() -> {
-            simulationFinishedConsumer.accept(String.format("Race Finished! Total Pit Stops: %d. Final Fuel: %.2f L, Final Tyres: %.2f%% wear.",
-                    finalPitStopCount, raceCar.getCurrentFuel(), raceCar.getCurrentTyreWear() * 100));
-        });
+        // The laps are handed over as records; the log view formats only the lines it shows
+        if (snapshot.getDroppedLaps() > 0) {
+            logMessageConsumer.accept(String.format("... %d laps not shown ...\n", snapshot.getDroppedLaps()));
+        }
+        lapLogConsumer.accept(snapshot.getLaps());
 
-        return null; // Task completed
+        for (LapResult pitStop : snapshot.getPitStops()) {
+            addPitStopConsumer.accept(pitStop.getLapNumber(), pitStop.getPitReason());
+        }
+
+        LapResult latestLap = snapshot.getLatestLap();
+        updateFuelConsumer.accept(latestLap.getFuelAfterPit());
+        updateTyreWearConsumer.accept(latestLap.getTyreWearAfterPit() * 100);
+        updateProgressConsumer.accept((double) latestLap.getLapNumber() / latestLap.getTotalLaps());
+    }
+
+    /**
+     * Publishes RaceEngine callbacks to the lap update channel; the UI pump picks them up on the next pulse.
+     */
+    private class ChannelRaceListener implements RaceListener {
+
+        @Override
+        public void lapCompleted(LapResult result) {
+            if (telemetryRecorder != null) {
+                telemetryRecorder.lapCompleted(result);
+            }
+            lapUpdates.publish(result);
+        }
+
+        @Override
+        public void raceFinished(int pitStopCount, double finalFuel, double finalTyreWear) {
+            // Simulation finished, update summary
+            finishedSummary = String.format("Race Finished! Total Pit Stops: %d. Final Fuel: %.2f L, Final Tyres: %.2f%% wear.",
+                    pitStopCount, finalFuel, finalTyreWear * 100);
+        }
     }
 }
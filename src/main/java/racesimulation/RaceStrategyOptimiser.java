@@ -3,14 +3,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 class RaceStrategyOptimiser {
-    private RaceCar raceCar;
-    private RaceTrack raceTrack;
-    private RaceConditions raceConditions;
+    private final RaceCar raceCar;
+    private final RaceTrack raceTrack;
+    private final RaceConditions raceConditions;
+    private final LapCostModel lapCostModel; // Per-lap deltas for raceCar, raceTrack and raceConditions
+    private final LapTimeModel lapTimeModel; // Lap times for raceCar on raceTrack
 
     // Constants for strategy calculation
     // Changed to public so it can be accessed from Main.java
     public static final double MAX_TYRE_WEAR_THRESHOLD = 0.80; // Pit if tyre wear is 80% or more
-    private static final double PIT_STOP_TIME_PENALTY_SECONDS = 25.0; // Not used in lap time calculation yet
+    static final double PIT_STOP_TIME_PENALTY_SECONDS = 25.0; // Time lost in the pit lane per stop
+    private static final double EPSILON = 1e-9; // Race times closer than this are taken as equal
+    // Fuel short of a lap's use by no more than this still covers the lap, since the planners add up
+    // a stint's fuel in a different order than the laps burn it
+    static final double FUEL_TOLERANCE_LITERS = 1e-9;
 
     /**
      * Constructs a RaceStrategyOptimiser.
@@ -32,75 +38,111 @@ class RaceStrategyOptimiser {
         this.raceCar = raceCar;
         this.raceTrack = raceTrack;
         this.raceConditions = raceConditions;
+        this.lapCostModel = new LapCostModel(raceCar, raceTrack, raceConditions);
+        this.lapTimeModel = new LapTimeModel(raceCar, raceTrack);
     }
 
     /**
-     * Simulates a single lap of the race, updating the car's fuel and tyre wear.
+     * Simulates a single lap of the race for this optimiser's car, track and conditions.
      *
+     * @param state The car's state at the start of the lap.
+     * @return The car's state at the end of the lap, after its fuel use and tyre wear.
+     */
+    public CarState simulateLap(CarState state) {
+        return state.afterLap(lapCostModel);
+    }
+
+    /**
+     * Simulates a single lap of the race for the given car, track and conditions.
+     *
+     * @param state      The car's state at the start of the lap.
      * @param car        The RaceCar to simulate the lap for.
      * @param track      The RaceTrack on which the lap is simulated.
      * @param conditions The RaceConditions for the lap.
+     * @return The car's state at the end of the lap, after its fuel use and tyre wear.
      */
-    public void simulateLap(RaceCar car, RaceTrack track, RaceConditions conditions) {
-        // --- Calculate environmental adjustment factors ---
-        double weatherWearFactor = 1.0;
-        double temperatureFuelFactor = 1.0;
+    public CarState simulateLap(CarState state, RaceCar car, RaceTrack track, RaceConditions conditions) {
+        // Reuse the compiled lap cost model unless simulating a different car, track or conditions
+        LapCostModel model = (car == raceCar && track == raceTrack && conditions == raceConditions)
+                ? lapCostModel
+                : new LapCostModel(car, track, conditions);
 
-        // Adjust tyre wear based on weather
-        switch (conditions.getWeather()) {
-            case WET:
-                weatherWearFactor = 0.75; // Wet track reduces wear
-                break;
-            case DAMP:
-                weatherWearFactor = 0.90; // Damp track slightly reduces wear
-                break;
-            case DRY:
-            default:
-                weatherWearFactor = 1.0;
-                break;
-        }
+        return state.afterLap(model);
+    }
 
-        // Adjust fuel consumption based on air temperature (colder air is denser)
-        if (conditions.getAirTemperature() < 10) {
-            temperatureFuelFactor = 1.05; // Colder air increases fuel consumption
-        } else if (conditions.getAirTemperature() > 30) {
-            temperatureFuelFactor = 0.98; // Warmer air slightly decreases consumption
-        }
+    /**
+     * @return The lap cost model of this optimiser's car, track and conditions.
+     */
+    public LapCostModel getLapCostModel() {
+        return lapCostModel;
+    }
 
-        // --- Apply calculations ---
+    /**
+     * @return The lap time model of this optimiser's car and track.
+     */
+    public LapTimeModel getLapTimeModel() {
+        return lapTimeModel;
+    }
 
-        // Calculate fuel used this lap, adjusted by track and temperature
-        double fuelUsedThisLap = car.getBaseFuelConsumptionPerLap() * track.getFuelConsumptionFactor() * temperatureFuelFactor;
-        car.setCurrentFuel(car.getCurrentFuel() - fuelUsedThisLap);
+    /**
+     * Calculates the total race time of a pit stop plan: every lap timed by the lap time model from the
+     * fuel load and tyre wear at its start, plus the pit stop penalty for every stop.
+     * The car starts on a full tank and fresh tyres and is refuelled and re-tyred at every stop,
+     * as in planPitStops.
+     *
+     * @param pitStopLaps The lap numbers at the end of which a pit stop is made, in ascending order.
+     * @return The total race time in seconds.
+     */
+    public double calculateRaceTime(List<Integer> pitStopLaps) {
+        if (pitStopLaps == null) {
+            throw new IllegalArgumentException("Pit stop laps cannot be null.");
+        }
+        int totalLaps = raceTrack.getNumberOfLaps();
+        double fuelPerLap = lapCostModel.getFuelPerLap();
+        double tyreWearPerLap = lapCostModel.getTyreWearPerLap();
 
-        // Calculate tyre wear this lap, adjusted by track and weather
-        double tyreWearThisLap = car.getTyres().getWearRate() * track.getTyreWearFactor() * weatherWearFactor;
-        car.setCurrentTyreWear(car.getCurrentTyreWear() + tyreWearThisLap);
+        double fuel = raceCar.getFuelTankCapacity();
+        double tyreWear = 0.0;
+        double raceTime = 0.0;
+        int nextStop = 0;
+        int lastPitLap = 0;
+        for (int lap = 1; lap <= totalLaps; lap++) {
+            raceTime += lapTimeModel.lapTime(fuel, tyreWear);
+            fuel = Math.max(0, fuel - fuelPerLap);
+            tyreWear = Math.min(1.0, Math.max(0, tyreWear + tyreWearPerLap));
+            if (lap < totalLaps && nextStop < pitStopLaps.size() && pitStopLaps.get(nextStop) == lap) {
+                fuel = raceCar.getFuelTankCapacity();
+                tyreWear = 0.0;
+                raceTime += PIT_STOP_TIME_PENALTY_SECONDS;
+                lastPitLap = lap;
+                nextStop++;
+            }
+        }
+        if (nextStop < pitStopLaps.size()) {
+            Integer pitLap = pitStopLaps.get(nextStop);
+            throw new IllegalArgumentException("Pit stop lap " + pitLap + " is not after lap " + lastPitLap + " and before lap " + totalLaps + ".");
+        }
+        return raceTime;
     }
 
     /**
-     * Checks if a pit stop is necessary after a lap and performs it if needed.
-     * This should be called after simulateLap for the current lap.
-     * @param currentLapNumber The lap number that has just been completed.
+     * Checks if a pit stop is necessary after a lap.
+     * This should be called with the state returned by simulateLap for the lap just completed;
+     * use pitStop to take the stop.
+     * @param state The car's state at the end of the lap, whose lap number is the lap just completed.
      * @param totalLaps The total number of laps in the race.
-     * @return The reason for the pit stop ("Fuel", "Tyres", "Fuel & Tyres"), or null if no pit stop was taken.
+     * @return The reason for the pit stop ("Fuel", "Tyres", "Fuel & Tyres"), or null if no pit stop is needed.
      */
-    public String checkAndPerformPitStop(int currentLapNumber, int totalLaps) {
-        if (currentLapNumber >= totalLaps) {
+    public String pitStopReason(CarState state, int totalLaps) {
+        if (state.getLap() >= totalLaps) {
             return null; // No pit stop decisions after the final lap
         }
 
-        // Use the same temperature factor as in simulateLap for consistent fuel calculation
-        double temperatureFuelFactor = 1.0;
-        if (this.raceConditions.getAirTemperature() < 10) {
-            temperatureFuelFactor = 1.05;
-        } else if (this.raceConditions.getAirTemperature() > 30) {
-            temperatureFuelFactor = 0.98;
-        }
-        double fuelNeededForNextLap = this.raceCar.getBaseFuelConsumptionPerLap() * this.raceTrack.getFuelConsumptionFactor() * temperatureFuelFactor;
+        // Use the same lap cost model as simulateLap for consistency
+        double fuelNeededForNextLap = lapCostModel.getFuelPerLap();
 
-        boolean pitForFuel = this.raceCar.getCurrentFuel() < fuelNeededForNextLap;
-        boolean pitForTyres = this.raceCar.getCurrentTyreWear() >= MAX_TYRE_WEAR_THRESHOLD;
+        boolean pitForFuel = !hasFuelForLap(state.getFuel(), fuelNeededForNextLap);
+        boolean pitForTyres = state.getTyreWear() >= MAX_TYRE_WEAR_THRESHOLD;
 
         String reason = null;
         if (pitForFuel && pitForTyres) {
@@ -110,28 +152,102 @@ class RaceStrategyOptimiser {
         } else if (pitForTyres) {
             reason = "Tyres";
         }
+        return reason;
+    }
+
+    /**
+     * @param fuel       The fuel on board in liters.
+     * @param fuelPerLap The fuel the next lap burns in liters.
+     * @return Whether the fuel covers the lap, within FUEL_TOLERANCE_LITERS.
+     */
+    static boolean hasFuelForLap(double fuel, double fuelPerLap) {
+        return fuel >= fuelPerLap - FUEL_TOLERANCE_LITERS;
+    }
+
+    /**
+     * @param state The car's state when it comes into the pits.
+     * @return The car's state when it leaves: a full tank and fresh tyres, on the same lap.
+     */
+    public CarState pitStop(CarState state) {
+        return state.afterPitStop(raceCar.getFuelTankCapacity());
+    }
 
-        if (reason != null) {
-            // Perform pit stop actions
-            this.raceCar.setCurrentFuel(this.raceCar.getFuelTankCapacity());
-            this.raceCar.setCurrentTyreWear(0.0);
+    /**
+     * Steps the race lap by lap under a pit stop plan, as calculateRaceTime does, to find the car's state
+     * at the chequered flag. The car starts on a full tank and fresh tyres and is refuelled and re-tyred
+     * at every stop.
+     *
+     * @param pitStopLaps The lap numbers at the end of which a pit stop is made, in ascending order.
+     * @return The car's state at the end of the race.
+     */
+    public CarState finalState(List<Integer> pitStopLaps) {
+        if (pitStopLaps == null) {
+            throw new IllegalArgumentException("Pit stop laps cannot be null.");
         }
+        int totalLaps = Math.max(0, raceTrack.getNumberOfLaps());
+        double fuelPerLap = lapCostModel.getFuelPerLap();
+        double tyreWearPerLap = lapCostModel.getTyreWearPerLap();
 
-        return reason;
+        // Stepped on primitives with CarState's clamping: C2 does not scalar-replace a state carried
+        // around a loop, so stepping CarState here would allocate one per lap
+        double fuel = raceCar.getFuelTankCapacity();
+        double tyreWear = 0.0;
+        int nextStop = 0;
+        int lastPitLap = 0;
+        for (int lap = 1; lap <= totalLaps; lap++) {
+            fuel = Math.max(0, fuel - fuelPerLap);
+            tyreWear = Math.min(1.0, Math.max(0, tyreWear + tyreWearPerLap));
+            if (lap < totalLaps && nextStop < pitStopLaps.size() && pitStopLaps.get(nextStop) == lap) {
+                fuel = raceCar.getFuelTankCapacity();
+                tyreWear = 0.0;
+                lastPitLap = lap;
+                nextStop++;
+            }
+        }
+        if (nextStop < pitStopLaps.size()) {
+            Integer pitLap = pitStopLaps.get(nextStop);
+            throw new IllegalArgumentException("Pit stop lap " + pitLap + " is not after lap " + lastPitLap + " and before lap " + totalLaps + ".");
+        }
+        return new CarState(fuel, tyreWear, totalLaps);
     }
 
     /**
-     * Plans a pit stop strategy based on fuel and tyre wear.
-     * This method simulates the race lap by lap and decides when to pit.
-     * The RaceCar's state (currentFuel, currentTyreWear) will be modified by this simulation.
-     * It's assumed the raceCar is in its initial state (full fuel, zero wear) when this method is called,
-     * or it should be reset externally if this method is called multiple times on the same optimiser instance
-     * with the intent of a fresh simulation.
-     * For robustness, this method will internally reset the car's state at the beginning of planning.
+     * Plans the pit stop strategy with the least total race time, as calculateRaceTime times it: every lap
+     * timed by the lap time model from the fuel load and tyre wear at its start, plus the pit stop penalty
+     * for every stop. The car starts on a full tank and fresh tyres and is refuelled and re-tyred at every
+     * stop, and no stint may run past the point where fuel or tyres force a stop.
+     * Fuel use and tyre wear per lap are constant for a given car, track and conditions, so the
+     * (lap, fuel, wear) state of the car is fully determined by the lap and the number of laps since
+     * the last stop, and every stint of the same length takes the same time. The planner steps one fresh
+     * stint with the lap cost model to time each stint length up to the longest the car can run, then runs
+     * a dynamic programme over the pit laps in O(laps x stint length).
+     * The plan may stop earlier than fuel or tyres force, e.g. to avoid carrying a full tank over the last
+     * few laps, so its stops can differ from the ones RaceEngine's threshold rule takes.
+     * When several plans take the same time, the one with the latest stops is returned.
+     * Use finalState for the car's state at the end of the race under the returned plan.
      *
      * @return A list of lap numbers at the END of which a pit stop is made.
+     * @throws IllegalStateException if the car cannot complete a single lap on a full tank.
      */
     public List<Integer> planPitStops() {
+        SimulationEvents.PlanComputed event = new SimulationEvents.PlanComputed();
+        event.begin();
+        long startNanos = SimulationMetrics.ENABLED ? System.nanoTime() : 0L;
+        List<Integer> pitStopLaps = computePitStops();
+        if (SimulationMetrics.ENABLED) {
+            SimulationMetrics.SHARED.recordPlan(System.nanoTime() - startNanos);
+        }
+        if (event.shouldCommit()) {
+            event.setRace(raceCar, raceTrack, raceConditions);
+            event.totalLaps = raceTrack.getNumberOfLaps();
+            event.pitStops = pitStopLaps.size();
+            event.pitStopLaps = pitStopLaps.toString();
+            event.commit();
+        }
+        return pitStopLaps;
+    }
+
+    private List<Integer> computePitStops() {
         List<Integer> pitStopLaps = new ArrayList<>();
         int totalLaps = raceTrack.getNumberOfLaps();
 
@@ -139,41 +255,76 @@ class RaceStrategyOptimiser {
             return pitStopLaps; // No laps to simulate, no pit stops.
         }
 
-        // Reset car to initial state for this planning simulation
-        this.raceCar.setCurrentFuel(this.raceCar.getFuelTankCapacity());
-        this.raceCar.setCurrentTyreWear(0.0);
-
-        for (int completedLap = 0; completedLap < totalLaps; completedLap++) {
-            int currentLapNumber = completedLap + 1;
+        double fuelNeededPerLap = lapCostModel.getFuelPerLap();
+        double tyreWearPerLap = lapCostModel.getTyreWearPerLap();
+        if (this.raceCar.getFuelTankCapacity() < fuelNeededPerLap) {
+            throw new IllegalStateException("RaceCar cannot complete a single lap on a full tank.");
+        }
 
-            // Before simulating, ensure car can actually complete it (basic check)
-            double fuelNeededForThisLap = this.raceCar.getBaseFuelConsumptionPerLap() * this.raceTrack.getFuelConsumptionFactor();
-            if (this.raceCar.getCurrentFuel() < fuelNeededForThisLap && currentLapNumber > 1) {
-                // This implies a miscalculation or an extreme scenario where the car couldn't even start the previous lap without pitting.
-                // The logic below should ideally prevent this by pitting earlier.
-                // If this happens, it means the car ran out of fuel. For now, we'll assume the pit logic handles it.
+        // Time a fresh stint lap by lap until a pit stop is forced; the clamping matches CarState.
+        // stintTime[laps]: the time of the first 'laps' laps of a stint, which every stint shares
+        double[] stintTime = new double[totalLaps + 1];
+        double fuel = this.raceCar.getFuelTankCapacity();
+        double tyreWear = 0.0;
+        int maxStintLaps = 0;
+        while (maxStintLaps < totalLaps) {
+            stintTime[maxStintLaps + 1] = stintTime[maxStintLaps] + lapTimeModel.lapTime(fuel, tyreWear);
+            fuel = Math.max(0, fuel - fuelNeededPerLap);
+            tyreWear = Math.min(1.0, Math.max(0, tyreWear + tyreWearPerLap));
+            maxStintLaps++;
+            if (!hasFuelForLap(fuel, fuelNeededPerLap) || tyreWear >= MAX_TYRE_WEAR_THRESHOLD) {
+                break; // The car must pit at the end of this lap
             }
+        }
 
-            simulateLap(this.raceCar, this.raceTrack, this.raceConditions);
-
-            // Decision point: After completing 'currentLapNumber', decide if a pit stop is needed before the next lap
-            // No pit stop decision after the final lap
-            if (currentLapNumber < totalLaps) {
-                double fuelNeededForNextLap = this.raceCar.getBaseFuelConsumptionPerLap() * this.raceTrack.getFuelConsumptionFactor();
-                boolean pitForFuel = this.raceCar.getCurrentFuel() < fuelNeededForNextLap;
-                boolean pitForTyres = this.raceCar.getCurrentTyreWear() >= MAX_TYRE_WEAR_THRESHOLD;
-
-                if (pitForFuel || pitForTyres) {
-                    pitStopLaps.add(currentLapNumber); // Pit at the end of currentLapNumber
-                    this.raceCar.setCurrentFuel(this.raceCar.getFuelTankCapacity()); // Refuel
-                    this.raceCar.setCurrentTyreWear(0.0); // Change tyres
-                    // System.out.println("Debug: Pit stop planned at end of lap " + currentLapNumber); // Optional debug
+        // bestTime[lap]: least race time to the end of 'lap' with a stint ending there (lap 0 = race start)
+        double[] bestTime = new double[totalLaps + 1];
+        int[] previousPitLap = new int[totalLaps + 1];
+        for (int end = 1; end <= totalLaps; end++) {
+            bestTime[end] = Double.POSITIVE_INFINITY;
+            for (int start = end - 1; start >= Math.max(0, end - maxStintLaps); start--) {
+                double time = bestTime[start] + (start > 0 ? PIT_STOP_TIME_PENALTY_SECONDS : 0.0)
+                        + stintTime[end - start];
+                if (time < bestTime[end] - EPSILON) {
+                    bestTime[end] = time;
+                    previousPitLap[end] = start;
                 }
             }
         }
+
+        int lastPitLap = previousPitLap[totalLaps]; // The final stint reaches the chequered flag
+        for (int pitLap = lastPitLap; pitLap > 0; pitLap = previousPitLap[pitLap]) {
+            pitStopLaps.add(0, pitLap); // Pit at the end of pitLap
+        }
         return pitStopLaps;
     }
 
+    /**
+     * Plans the fastest strategy when each pit stop may add any amount of fuel and fit any of the given
+     * compounds, rather than filling the tank and refitting the same tyres as planPitStops does.
+     *
+     * @param compounds The tyre compounds that may be fitted at a pit stop; the car's own tyres are always allowed.
+     * @return The strategy with the least total race time, pit stops included.
+     * @throws IllegalStateException if the car cannot complete a single lap on a full tank.
+     * @see PitStrategyPlanner
+     */
+    public PitStrategy optimiseStrategy(List<Tyres> compounds) {
+        return new PitStrategyPlanner(raceCar, raceTrack, raceConditions, compounds).plan();
+    }
+
+    /**
+     * Plans the fastest strategy, as optimiseStrategy(compounds) does, for a race whose conditions change
+     * from lap to lap. This optimiser's own RaceConditions are not used.
+     *
+     * @param compounds The tyre compounds that may be fitted at a pit stop; the car's own tyres are always allowed.
+     * @param timeline  The RaceConditions of each lap of the race.
+     * @return The strategy with the least total race time, pit stops included.
+     * @throws IllegalStateException if the car cannot complete a lap on a full tank.
+     */
+    public PitStrategy optimiseStrategy(List<Tyres> compounds, ConditionsTimeline timeline) {
+        return new PitStrategyPlanner(raceCar, raceTrack, timeline, compounds).plan();
+    }
+
     // Getters for the main components if needed externally
     public RaceCar getRaceCar() {
         return raceCar;
@@ -2,11 +2,11 @@ package racesimulation;
 
 // RaceTrack class (from Prompt 4)
 class RaceTrack {
-    private String name;
-    private double length_km;
-    private int numberOfLaps;
-    private double tyreWearFactor;
-    private double fuelConsumptionFactor;
+    private final String name;
+    private final double length_km;
+    private final int numberOfLaps;
+    private final double tyreWearFactor;
+    private final double fuelConsumptionFactor;
 
     public RaceTrack(String name, double length_km, int numberOfLaps, double tyreWearFactor, double fuelConsumptionFactor) {
         this.name = name;
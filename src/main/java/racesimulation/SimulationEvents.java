@@ -0,0 +1,145 @@
+package racesimulation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events of the simulator, shown under "Race Simulation" in JDK Mission Control.
+ * Record them with -XX:StartFlightRecording or jcmd JFR.start. While no recording has them enabled,
+ * begin, shouldCommit and commit do nothing and the JIT removes the unused event objects, so the
+ * instrumented code only fills in the fields once shouldCommit() returns true.
+ */
+final class SimulationEvents {
+    static final String CATEGORY = "Race Simulation";
+
+    private SimulationEvents() {
+    }
+
+    /**
+     * Fields shared by the events about one car on one track in one set of conditions.
+     */
+    @Category(CATEGORY)
+    @StackTrace(false)
+    abstract static class RaceEvent extends Event {
+        @Label("Track")
+        String track;
+
+        @Label("Conditions")
+        String conditions;
+
+        @Label("Engine")
+        String engine;
+
+        @Label("Tyres")
+        String tyres;
+
+        @Label("Aero Kit")
+        String aeroKit;
+
+        @Label("Car Weight")
+        @Description("The car's weight in kg")
+        double carWeight;
+
+        @Label("Fuel Tank Capacity")
+        @Description("The car's fuel tank capacity in litres")
+        double fuelTankCapacity;
+
+        void setRace(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions) {
+            track = raceTrack.getName();
+            conditions = raceConditions.getName();
+            engine = raceCar.getEngine().getName();
+            tyres = raceCar.getTyres().getCompound();
+            aeroKit = raceCar.getAeroKit().getKitName();
+            carWeight = raceCar.getCarWeight();
+            fuelTankCapacity = raceCar.getFuelTankCapacity();
+        }
+    }
+
+    @Name("racesimulation.LapSimulated")
+    @Label("Lap Simulated")
+    @Description("A lap run by a RaceEngine, including the pit stop decision and the listeners")
+    static final class LapSimulated extends RaceEvent {
+        @Label("Lap")
+        int lap;
+
+        @Label("Total Laps")
+        int totalLaps;
+
+        @Label("Fuel After Lap")
+        @Description("Fuel left at the end of the lap in litres, before any pit stop")
+        double fuelAfterLap;
+
+        @Label("Tyre Wear After Lap")
+        @Percentage
+        double tyreWearAfterLap;
+    }
+
+    @Name("racesimulation.PitStopTaken")
+    @Label("Pit Stop Taken")
+    @Description("A pit stop taken by a RaceEngine at the end of a lap")
+    static final class PitStopTaken extends RaceEvent {
+        @Label("Lap")
+        int lap;
+
+        @Label("Reason")
+        String reason;
+
+        @Label("Fuel Before")
+        @Description("Fuel on board when the car came in, in litres")
+        double fuelBefore;
+
+        @Label("Fuel After")
+        @Description("Fuel on board when the car left, in litres")
+        double fuelAfter;
+
+        @Label("Tyre Wear Before")
+        @Percentage
+        double tyreWearBefore;
+    }
+
+    @Name("racesimulation.PlanComputed")
+    @Label("Plan Computed")
+    @Description("A pit stop plan computed by RaceStrategyOptimiser.planPitStops; cache hits are not recorded")
+    static final class PlanComputed extends RaceEvent {
+        @Label("Total Laps")
+        int totalLaps;
+
+        @Label("Pit Stops")
+        int pitStops;
+
+        @Label("Pit Stop Laps")
+        String pitStopLaps;
+    }
+
+    @Name("racesimulation.SweepShardFinished")
+    @Label("Sweep Shard Finished")
+    @Description("A contiguous range of configurations evaluated by one ConfigurationSweep worker")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class SweepShardFinished extends Event {
+        @Label("Track")
+        String track;
+
+        @Label("Conditions")
+        String conditions;
+
+        @Label("First Configuration")
+        int firstConfiguration;
+
+        @Label("Configurations")
+        int configurations;
+
+        @Label("Completed")
+        @Description("Configurations that can complete the race")
+        int completed;
+
+        @Label("Best Race Time")
+        @Description("The best total race time in the shard in seconds, or 0 if none completes the race")
+        double bestRaceTime;
+    }
+}
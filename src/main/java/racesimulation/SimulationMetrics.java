@@ -0,0 +1,220 @@
+package racesimulation;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of the simulation's hot-path metrics: laps simulated and their rate, pit stop planning
+ * latency, lap latency, the lag from a lap being published to the UI applying it and the hit rates
+ * of the shared caches.
+ * <p>
+ * Metrics are off unless the JVM is started with -Dracesimulation.metrics=true. The instrumented code
+ * checks the static final ENABLED flag before reading the clock, so when disabled the JIT removes the
+ * checks and nothing is recorded. Once started, the registry is published over JMX and, unless
+ * -Dracesimulation.metrics.dumpSeconds=0, dumped as text to standard error at that interval.
+ * This class is thread-safe.
+ */
+class SimulationMetrics implements SimulationMetricsMXBean {
+    static final String ENABLED_PROPERTY = "racesimulation.metrics";
+    static final String DUMP_SECONDS_PROPERTY = "racesimulation.metrics.dumpSeconds";
+    static final String OBJECT_NAME = "racesimulation:type=SimulationMetrics";
+    static final int DEFAULT_DUMP_SECONDS = 10;
+
+    /** Whether the instrumented code records into SHARED. */
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /** The registry recorded into by the application, the batch runner and the engine. */
+    static final SimulationMetrics SHARED = new SimulationMetrics(StrategyCache.SHARED, RaceCarMetricsCache.SHARED);
+
+    private final StrategyCache strategyCache;
+    private final RaceCarMetricsCache carMetricsCache;
+
+    private final LongAdder lapsSimulated = new LongAdder();
+    private final LatencyHistogram planLatency = new LatencyHistogram();
+    private final LatencyHistogram lapLatency = new LatencyHistogram();
+    private final LatencyHistogram uiQueueLag = new LatencyHistogram();
+
+    // Lap rate over the last sampling interval
+    private long sampledLaps;
+    private long sampledAtNanos;
+    private volatile double lapsPerSecond;
+
+    private ScheduledExecutorService sampler;
+
+    /**
+     * @param strategyCache   The pit stop plan cache whose hit rate is reported.
+     * @param carMetricsCache The car metrics cache whose hit rate is reported.
+     */
+    SimulationMetrics(StrategyCache strategyCache, RaceCarMetricsCache carMetricsCache) {
+        if (strategyCache == null) {
+            throw new IllegalArgumentException("StrategyCache cannot be null.");
+        }
+        if (carMetricsCache == null) {
+            throw new IllegalArgumentException("RaceCarMetricsCache cannot be null.");
+        }
+        this.strategyCache = strategyCache;
+        this.carMetricsCache = carMetricsCache;
+        this.sampledAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts the shared registry if metrics are enabled: registers it over JMX, then samples the lap rate
+     * every second and dumps every metric at the configured interval on a daemon thread.
+     * Further calls do nothing.
+     */
+    static void startIfEnabled() {
+        if (ENABLED) {
+            SHARED.start(Integer.getInteger(DUMP_SECONDS_PROPERTY, DEFAULT_DUMP_SECONDS), System.err);
+        }
+    }
+
+    /**
+     * Registers this registry over JMX and starts sampling the lap rate every second.
+     * Further calls do nothing.
+     *
+     * @param dumpSeconds The interval between text dumps in seconds, or 0 for none.
+     * @param out         Where the text dumps are written.
+     */
+    synchronized void start(int dumpSeconds, PrintStream out) {
+        if (dumpSeconds < 0) {
+            throw new IllegalArgumentException("dumpSeconds cannot be negative.");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("Output stream cannot be null.");
+        }
+        if (sampler != null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            out.println("Simulation metrics are not available over JMX: " + e.getMessage());
+        }
+
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulation-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(() -> sampleLapRate(System.nanoTime()), 1, 1, TimeUnit.SECONDS);
+        if (dumpSeconds > 0) {
+            sampler.scheduleAtFixedRate(() -> out.print(dump()), dumpSeconds, dumpSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Records a completed pit stop plan.
+     *
+     * @param nanos How long planning took.
+     */
+    void recordPlan(long nanos) {
+        planLatency.record(nanos);
+    }
+
+    /**
+     * Records a completed lap.
+     *
+     * @param nanos How long the lap took to simulate.
+     */
+    void recordLap(long nanos) {
+        lapsSimulated.increment();
+        lapLatency.record(nanos);
+    }
+
+    /**
+     * Records how long published laps waited before the UI applied them.
+     *
+     * @param nanos The time from the oldest lap of a snapshot being published to the UI applying it.
+     */
+    void recordUiQueueLag(long nanos) {
+        uiQueueLag.record(nanos);
+    }
+
+    /**
+     * Updates the lap rate to the laps simulated since the previous sample.
+     *
+     * @param nowNanos The current System.nanoTime().
+     */
+    synchronized void sampleLapRate(long nowNanos) {
+        long laps = lapsSimulated.sum();
+        long elapsed = nowNanos - sampledAtNanos;
+        if (elapsed > 0) {
+            lapsPerSecond = (laps - sampledLaps) * 1e9 / elapsed;
+            sampledLaps = laps;
+            sampledAtNanos = nowNanos;
+        }
+    }
+
+    @Override
+    public long getLapsSimulated() {
+        return lapsSimulated.sum();
+    }
+
+    @Override
+    public double getLapsPerSecond() {
+        return lapsPerSecond;
+    }
+
+    @Override
+    public LatencySummary getPlanLatency() {
+        return LatencySummary.of(planLatency);
+    }
+
+    @Override
+    public LatencySummary getLapLatency() {
+        return LatencySummary.of(lapLatency);
+    }
+
+    @Override
+    public LatencySummary getUiQueueLag() {
+        return LatencySummary.of(uiQueueLag);
+    }
+
+    @Override
+    public double getStrategyCacheHitRate() {
+        return strategyCache.getHitRate();
+    }
+
+    @Override
+    public double getCarMetricsCacheHitRate() {
+        long hits = carMetricsCache.getHitCount();
+        long lookups = hits + carMetricsCache.getMissCount();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String dump() {
+        StringBuilder text = new StringBuilder("Simulation metrics\n");
+        text.append(String.format("  laps simulated     %d (%.1f laps/s)\n", getLapsSimulated(), getLapsPerSecond()));
+        text.append("  plan latency       ").append(getPlanLatency()).append('\n');
+        text.append("  lap latency        ").append(getLapLatency()).append('\n');
+        text.append("  UI queue lag       ").append(getUiQueueLag()).append('\n');
+        text.append(String.format("  strategy cache     %.1f%% hits of %d lookups\n", getStrategyCacheHitRate() * 100,
+                strategyCache.getHitCount() + strategyCache.getMissCount()));
+        text.append(String.format("  car metrics cache  %.1f%% hits of %d lookups\n", getCarMetricsCacheHitRate() * 100,
+                carMetricsCache.getHitCount() + carMetricsCache.getMissCount()));
+        return text.toString();
+    }
+
+    @Override
+    public synchronized void reset() {
+        lapsSimulated.reset();
+        planLatency.reset();
+        lapLatency.reset();
+        uiQueueLag.reset();
+        sampledLaps = 0;
+        sampledAtNanos = System.nanoTime();
+        lapsPerSecond = 0.0;
+    }
+}
@@ -0,0 +1,76 @@
+package racesimulation;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Management interface of the SimulationMetrics registry, registered with the platform MBean server
+ * as racesimulation:type=SimulationMetrics when metrics are enabled.
+ */
+public interface SimulationMetricsMXBean {
+
+    long getLapsSimulated();
+
+    /** @return The laps simulated per second over the last sampling interval. */
+    double getLapsPerSecond();
+
+    /** @return The time taken by RaceStrategyOptimiser.planPitStops, cache hits excluded. */
+    LatencySummary getPlanLatency();
+
+    /** @return The time taken by each lap of a RaceEngine, listeners included. */
+    LatencySummary getLapLatency();
+
+    /** @return The time from a lap being published to the UI applying it, once per applied snapshot. */
+    LatencySummary getUiQueueLag();
+
+    double getStrategyCacheHitRate();
+
+    double getCarMetricsCacheHitRate();
+
+    /** @return The text dump of every metric. */
+    String dump();
+
+    /** Resets the counters and histograms; the caches keep their own counts. */
+    void reset();
+
+    /**
+     * A histogram summarised in microseconds.
+     */
+    final class LatencySummary {
+        private final long count;
+        private final double meanMicros;
+        private final double p50Micros;
+        private final double p90Micros;
+        private final double p99Micros;
+        private final double maxMicros;
+
+        @ConstructorParameters({"count", "meanMicros", "p50Micros", "p90Micros", "p99Micros", "maxMicros"})
+        public LatencySummary(long count, double meanMicros, double p50Micros, double p90Micros,
+                              double p99Micros, double maxMicros) {
+            this.count = count;
+            this.meanMicros = meanMicros;
+            this.p50Micros = p50Micros;
+            this.p90Micros = p90Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+        }
+
+        static LatencySummary of(LatencyHistogram histogram) {
+            return new LatencySummary(histogram.getCount(), histogram.getMeanNanos() / 1e3,
+                    histogram.getPercentileNanos(0.50) / 1e3, histogram.getPercentileNanos(0.90) / 1e3,
+                    histogram.getPercentileNanos(0.99) / 1e3, histogram.getMaxNanos() / 1e3);
+        }
+
+        public long getCount() { return count; }
+        public double getMeanMicros() { return meanMicros; }
+        public double getP50Micros() { return p50Micros; }
+        public double getP90Micros() { return p90Micros; }
+        public double getP99Micros() { return p99Micros; }
+        public double getMaxMicros() { return maxMicros; }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d mean=%.1f us p50=%.1f us p90=%.1f us p99=%.1f us max=%.1f us",
+                    count, meanMicros, p50Micros, p90Micros, p99Micros, maxMicros);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package racesimulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the threshold-driven pit stop laps arithmetically instead of stepping the race lap by lap.
+ * Fuel use and tyre wear per lap are constant for a car, track and conditions, so the number of laps
+ * until a fuel or tyre stop is forced follows directly from the tank size, the wear threshold and the
+ * per-lap deltas. Planning then costs O(stops) rather than O(laps), which matters for very long
+ * endurance races. The pit laps are the ones the live simulation's threshold rule takes;
+ * RaceStrategyOptimiser.planPitStops may stop earlier when that saves race time.
+ * planPitStopsVerified cross-checks the arithmetic against stepping the whole race.
+ */
+class StintCalculator {
+    private static final double WHOLE_NUMBER_TOLERANCE = 1e-9;
+
+    private final RaceCar raceCar;
+    private final RaceTrack raceTrack;
+    private final RaceConditions raceConditions;
+    private final int totalLaps;
+    private final double fuelTankCapacity;
+    private final double fuelPerLap;
+    private final double tyreWearPerLap;
+    private final int maxStintLaps;
+
+    /**
+     * Constructs a StintCalculator. The car is only read, never modified.
+     *
+     * @param raceCar        The RaceCar to plan for.
+     * @param raceTrack      The RaceTrack to plan for.
+     * @param raceConditions The RaceConditions to plan for.
+     * @throws IllegalStateException if the car cannot complete a single lap on a full tank.
+     */
+    public StintCalculator(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions) {
+        if (raceCar == null) {
+            throw new IllegalArgumentException("RaceCar cannot be null.");
+        }
+        if (raceTrack == null) {
+            throw new IllegalArgumentException("RaceTrack cannot be null.");
+        }
+        if (raceConditions == null) {
+            throw new IllegalArgumentException("RaceConditions cannot be null.");
+        }
+        this.raceCar = raceCar;
+        this.raceTrack = raceTrack;
+        this.raceConditions = raceConditions;
+        this.totalLaps = raceTrack.getNumberOfLaps();
+        this.fuelTankCapacity = raceCar.getFuelTankCapacity();
+        LapCostModel lapCostModel = new LapCostModel(raceCar, raceTrack, raceConditions);
+        this.fuelPerLap = lapCostModel.getFuelPerLap();
+        this.tyreWearPerLap = lapCostModel.getTyreWearPerLap();
+
+        if (totalLaps > 0 && fuelTankCapacity < fuelPerLap) {
+            throw new IllegalStateException("RaceCar cannot complete a single lap on a full tank.");
+        }
+
+        this.maxStintLaps = calculateMaxStintLaps();
+    }
+
+    /**
+     * Works out how many laps a fresh stint lasts. A fuel stop is forced after k laps once the k-th lap
+     * leaves less than one lap of fuel, k = floor(capacity / fuelPerLap); a tyre stop is forced after
+     * the first lap that takes wear to the threshold, k = ceil(threshold / wearPerLap).
+     * When either ratio lands on a whole number, the outcome depends on the rounding of the lap-by-lap
+     * sums, so that one stint is stepped exactly as simulateLap would.
+     */
+    private int calculateMaxStintLaps() {
+        int raceLaps = Math.max(totalLaps, 1);
+        double fuelRatio = fuelPerLap > 0 ? fuelTankCapacity / fuelPerLap : Double.POSITIVE_INFINITY;
+        double tyreRatio = tyreWearPerLap > 0 ? RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD / tyreWearPerLap : Double.POSITIVE_INFINITY;
+        if (isNearWholeNumber(fuelRatio) || isNearWholeNumber(tyreRatio)) {
+            return stepStint(raceLaps);
+        }
+        double stintLaps = Math.min(Math.floor(fuelRatio), Math.ceil(tyreRatio));
+        return (int) Math.max(1, Math.min(raceLaps, stintLaps));
+    }
+
+    private static boolean isNearWholeNumber(double ratio) {
+        return !Double.isInfinite(ratio) && Math.abs(ratio - Math.rint(ratio)) < WHOLE_NUMBER_TOLERANCE * Math.max(1.0, ratio);
+    }
+
+    /**
+     * Steps one fresh stint with the same arithmetic and clamping as simulateLap and the RaceCar setters.
+     */
+    private int stepStint(int raceLaps) {
+        double fuel = fuelTankCapacity;
+        double tyreWear = 0.0;
+        for (int lap = 1; lap < raceLaps; lap++) {
+            fuel = Math.max(0.0, fuel - fuelPerLap);
+            tyreWear = Math.min(1.0, Math.max(0.0, tyreWear + tyreWearPerLap));
+            if (!RaceStrategyOptimiser.hasFuelForLap(fuel, fuelPerLap) || tyreWear >= RaceStrategyOptimiser.MAX_TYRE_WEAR_THRESHOLD) {
+                return lap;
+            }
+        }
+        return raceLaps;
+    }
+
+    /**
+     * @return The number of laps the car can run on a full tank and fresh tyres before it must pit.
+     */
+    public int getMaxStintLaps() {
+        return maxStintLaps;
+    }
+
+    /**
+     * @return The number of pit stops the race needs.
+     */
+    public int countPitStops() {
+        return totalLaps <= 0 ? 0 : (totalLaps - 1) / maxStintLaps;
+    }
+
+    /**
+     * @return The lap numbers at the END of which a pit stop is made.
+     */
+    public List<Integer> planPitStops() {
+        int pitStopCount = countPitStops();
+        List<Integer> pitStopLaps = new ArrayList<>(pitStopCount);
+        for (int stop = 1; stop <= pitStopCount; stop++) {
+            pitStopLaps.add(stop * maxStintLaps);
+        }
+        return pitStopLaps;
+    }
+
+    /**
+     * @return The fuel left at the end of the race in liters.
+     */
+    public double calculateFinalFuel() {
+        return Math.max(0.0, fuelTankCapacity - finalStintLaps() * fuelPerLap);
+    }
+
+    /**
+     * @return The tyre wear at the end of the race (0.0 to 1.0).
+     */
+    public double calculateFinalTyreWear() {
+        return Math.min(1.0, finalStintLaps() * tyreWearPerLap);
+    }
+
+    /**
+     * Plans the pit stops arithmetically and cross-checks them against stepping the race lap by lap
+     * with RaceStrategyOptimiser.simulateLap, pitStopReason and pitStop.
+     * This costs O(laps) and is meant for testing and diagnostics.
+     *
+     * @return The lap numbers at the END of which a pit stop is made.
+     * @throws IllegalStateException if the two methods disagree.
+     */
+    public List<Integer> planPitStopsVerified() {
+        List<Integer> calculated = planPitStops();
+
+        RaceStrategyOptimiser optimiser = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
+        List<Integer> stepped = new ArrayList<>();
+        CarState state = CarState.start(raceCar);
+        while (state.getLap() < totalLaps) {
+            state = optimiser.simulateLap(state);
+            if (optimiser.pitStopReason(state, totalLaps) != null) {
+                state = optimiser.pitStop(state);
+                stepped.add(state.getLap());
+            }
+        }
+
+        if (!calculated.equals(stepped)) {
+            throw new IllegalStateException("Calculated pit stops " + calculated + " differ from stepped pit stops " + stepped + ".");
+        }
+        return calculated;
+    }
+
+    private int finalStintLaps() {
+        return totalLaps - countPitStops() * maxStintLaps;
+    }
+}
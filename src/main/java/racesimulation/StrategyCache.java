@@ -0,0 +1,241 @@
+package racesimulation;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of RaceStrategyOptimiser.planPitStops results.
+ * Entries are keyed by the values of the car, track and conditions inputs rather than by instance,
+ * so re-selecting a combination already evaluated, from any session or sweep, reuses its plan.
+ * Names are not part of the key since they do not affect the plan.
+ * <p>
+ * The cache is split into segments, each an access-ordered LinkedHashMap behind its own lock,
+ * so concurrent callers only contend when their keys land in the same segment. Each segment evicts
+ * its least recently used entries once it holds more than its share of the entry or memory limit.
+ * Plans are computed outside the locks; two callers missing on the same key at once both compute it.
+ * This class is thread-safe.
+ */
+class StrategyCache {
+    static final int DEFAULT_MAX_ENTRIES = 4096;
+    static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+    private static final int SEGMENT_COUNT = 16;
+
+    // Rough heap footprint of an entry: key, value, list and map node, plus each boxed pit lap in the list
+    private static final long ENTRY_OVERHEAD_BYTES = 320;
+    private static final long BYTES_PER_PIT_LAP = 20;
+
+    /** The cache used by the application and by configuration sweeps. */
+    static final StrategyCache SHARED = new StrategyCache(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+
+    private final Segment[] segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param maxEntries The maximum number of plans kept.
+     * @param maxBytes   The maximum estimated memory used by the kept plans.
+     */
+    public StrategyCache(int maxEntries, long maxBytes) {
+        if (maxEntries < SEGMENT_COUNT) {
+            throw new IllegalArgumentException("maxEntries must be at least " + SEGMENT_COUNT + ".");
+        }
+        if (maxBytes < SEGMENT_COUNT * ENTRY_OVERHEAD_BYTES) {
+            throw new IllegalArgumentException("maxBytes must be at least " + SEGMENT_COUNT * ENTRY_OVERHEAD_BYTES + ".");
+        }
+        this.segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(maxEntries / SEGMENT_COUNT, maxBytes / SEGMENT_COUNT);
+        }
+    }
+
+    /**
+     * Returns the optimiser's pit stop plan, from the cache if the same inputs were planned before.
+     *
+     * @param raceOptimiser The optimiser to plan with.
+     * @return The lap numbers at which pit stops are planned.
+     * @throws IllegalStateException if the car cannot complete a single lap; such results are not cached.
+     */
+    public List<Integer> planPitStops(RaceStrategyOptimiser raceOptimiser) {
+        if (raceOptimiser == null) {
+            throw new IllegalArgumentException("RaceStrategyOptimiser cannot be null.");
+        }
+        Key key = new Key(raceOptimiser.getRaceCar(), raceOptimiser.getRaceTrack(), raceOptimiser.getRaceConditions());
+        Segment segment = segmentFor(key);
+
+        Plan plan = segment.get(key);
+        if (plan != null) {
+            hitCount.increment();
+            return plan.pitStopLaps;
+        }
+        missCount.increment();
+        List<Integer> pitStopLaps = List.copyOf(raceOptimiser.planPitStops());
+        segment.put(key, new Plan(pitStopLaps));
+        return pitStopLaps;
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return The fraction of lookups served from the cache, or 0 if there were none.
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long lookups = hits + missCount.sum();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return The estimated memory used by the kept plans in bytes.
+     */
+    public long getEstimatedBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.bytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Removes all plans and resets the counters.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    private class Segment {
+        private final int maxEntries;
+        private final long maxBytes;
+        private final LinkedHashMap<Key, Plan> plans = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+
+        Segment(int maxEntries, long maxBytes) {
+            this.maxEntries = maxEntries;
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized Plan get(Key key) {
+            return plans.get(key);
+        }
+
+        synchronized void put(Key key, Plan plan) {
+            Plan previous = plans.put(key, plan);
+            if (previous != null) {
+                bytes -= previous.estimatedBytes;
+            }
+            bytes += plan.estimatedBytes;
+
+            // Evict least recently used plans, but always keep the one just added
+            Iterator<Map.Entry<Key, Plan>> eldest = plans.entrySet().iterator();
+            while ((plans.size() > maxEntries || bytes > maxBytes) && plans.size() > 1) {
+                Plan evicted = eldest.next().getValue();
+                eldest.remove();
+                bytes -= evicted.estimatedBytes;
+                evictionCount.increment();
+            }
+        }
+
+        synchronized int size() {
+            return plans.size();
+        }
+
+        synchronized long bytes() {
+            return bytes;
+        }
+
+        synchronized void clear() {
+            plans.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * A cached plan and its estimated footprint.
+     */
+    private static final class Plan {
+        private final List<Integer> pitStopLaps;
+        private final long estimatedBytes;
+
+        Plan(List<Integer> pitStopLaps) {
+            this.pitStopLaps = pitStopLaps;
+            this.estimatedBytes = ENTRY_OVERHEAD_BYTES + BYTES_PER_PIT_LAP * pitStopLaps.size();
+        }
+    }
+
+    /**
+     * The planning inputs by value.
+     */
+    private static final class Key {
+        private final double[] values;
+        private final RaceConditions.Weather weather;
+        private final int hash;
+
+        Key(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions) {
+            Engine engine = raceCar.getEngine();
+            Tyres tyres = raceCar.getTyres();
+            AerodynamicKit aeroKit = raceCar.getAeroKit();
+            this.values = new double[] {
+                    engine.getPowerRating(), engine.getFuelEfficiency(), engine.getReliability(),
+                    tyres.getGripLevel(), tyres.getWearRate(),
+                    tyres.getOptimalTempRange().getMinTemp(), tyres.getOptimalTempRange().getMaxTemp(),
+                    aeroKit.getDragCoefficient(), aeroKit.getDownforceValue(), aeroKit.getTopSpeed(),
+                    aeroKit.getFuelEfficiency(), aeroKit.getCorneringAbility(),
+                    raceCar.getCarWeight(), raceCar.getFuelTankCapacity(),
+                    raceTrack.getLength_km(), raceTrack.getNumberOfLaps(),
+                    raceTrack.getTyreWearFactor(), raceTrack.getFuelConsumptionFactor(),
+                    raceConditions.getAirTemperature(), raceConditions.getTrackTemperature(), raceConditions.getHumidity()
+            };
+            this.weather = raceConditions.getWeather();
+            this.hash = 31 * Arrays.hashCode(values) + (weather != null ? weather.ordinal() + 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return weather == other.weather && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
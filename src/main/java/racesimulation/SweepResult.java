@@ -0,0 +1,56 @@
+package racesimulation;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The planned strategy for one car configuration evaluated by a ConfigurationSweep.
+ */
+class SweepResult {
+
+    /**
+     * Orders results from best to worst: shortest total race time, then least time spent in the pits,
+     * then highest top speed, then quickest 0-100 km/h time. Remaining ties are broken by component names, weight and capacity
+     * so that rankings are reproducible however the sweep is split.
+     */
+    public static final Comparator<SweepResult> BEST_FIRST = Comparator
+            .comparingDouble(SweepResult::getTotalRaceTime)
+            .thenComparingDouble(SweepResult::getTotalPitStopTime)
+            .thenComparing(Comparator.comparingDouble((SweepResult result) -> result.getRaceCar().getTopSpeed()).reversed())
+            .thenComparingDouble((SweepResult result) -> result.getRaceCar().getAccelerationTime0To100())
+            .thenComparing(result -> result.getRaceCar().getEngine().getName())
+            .thenComparing(result -> result.getRaceCar().getTyres().getCompound())
+            .thenComparing(result -> result.getRaceCar().getAeroKit().getKitName())
+            .thenComparingDouble(result -> result.getRaceCar().getCarWeight())
+            .thenComparingDouble(result -> result.getRaceCar().getFuelTankCapacity());
+
+    private final RaceCar raceCar;
+    private final List<Integer> pitStopLaps;
+    private final double totalPitStopTime; // seconds
+    private final double totalRaceTime;    // seconds, including the pit stops
+
+    public SweepResult(RaceCar raceCar, List<Integer> pitStopLaps, double totalRaceTime) {
+        this.raceCar = raceCar;
+        this.pitStopLaps = List.copyOf(pitStopLaps);
+        this.totalPitStopTime = this.pitStopLaps.size() * RaceStrategyOptimiser.PIT_STOP_TIME_PENALTY_SECONDS;
+        this.totalRaceTime = totalRaceTime;
+    }
+
+    public RaceCar getRaceCar() { return raceCar; }
+    public List<Integer> getPitStopLaps() { return pitStopLaps; }
+    public double getTotalPitStopTime() { return totalPitStopTime; }
+    public double getTotalRaceTime() { return totalRaceTime; }
+
+    @Override
+    public String toString() {
+        return "SweepResult{" +
+                "engine='" + raceCar.getEngine().getName() + '\'' +
+                ", tyres='" + raceCar.getTyres().getCompound() + '\'' +
+                ", aeroKit='" + raceCar.getAeroKit().getKitName() + '\'' +
+                ", carWeight=" + String.format("%.1f", raceCar.getCarWeight()) + " kg" +
+                ", fuelTankCapacity=" + String.format("%.1f", raceCar.getFuelTankCapacity()) + " L" +
+                ", pitStopLaps=" + pitStopLaps +
+                ", totalRaceTime=" + String.format("%.3f", totalRaceTime) + " s" +
+                '}';
+    }
+}
@@ -0,0 +1,117 @@
+package racesimulation;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Random-access reader for telemetry files written by TelemetryRecorder.
+ * The file is mapped read-only in chunks; the primitive getters read a single field
+ * without allocating, while getLap builds a full LapResult.
+ * Only laps counted in the file header are visible. This class is thread-safe once constructed.
+ */
+class TelemetryReader {
+    private final long lapCount;
+    private final MappedByteBuffer[] chunks;
+
+    /**
+     * Opens and maps a telemetry file.
+     *
+     * @param path The telemetry file.
+     * @throws IOException If the file cannot be read or is not a telemetry file.
+     */
+    public TelemetryReader(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null.");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < TelemetryRecorder.HEADER_SIZE) {
+                throw new IOException("Not a telemetry file: " + path);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, TelemetryRecorder.HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != TelemetryRecorder.MAGIC) {
+                throw new IOException("Not a telemetry file: " + path);
+            }
+            if (header.getInt(4) != TelemetryRecorder.VERSION) {
+                throw new IOException("Unsupported telemetry version " + header.getInt(4) + ": " + path);
+            }
+            long count = header.getLong(8);
+            long available = (fileSize - TelemetryRecorder.HEADER_SIZE) / TelemetryRecorder.RECORD_SIZE;
+            this.lapCount = Math.min(count, available);
+
+            // The mappings stay valid after the channel is closed
+            int chunkCount = (int) ((lapCount + TelemetryRecorder.CHUNK_RECORDS - 1) / TelemetryRecorder.CHUNK_RECORDS);
+            this.chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long firstRecord = (long) i * TelemetryRecorder.CHUNK_RECORDS;
+                long records = Math.min(TelemetryRecorder.CHUNK_RECORDS, lapCount - firstRecord);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        TelemetryRecorder.HEADER_SIZE + firstRecord * TelemetryRecorder.RECORD_SIZE,
+                        records * TelemetryRecorder.RECORD_SIZE);
+                chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+    }
+
+    /**
+     * @return The number of laps in the file.
+     */
+    public long getLapCount() {
+        return lapCount;
+    }
+
+    /**
+     * Reads a full lap record.
+     *
+     * @param index The record index (0-based, in recording order).
+     * @return The recorded LapResult.
+     */
+    public LapResult getLap(long index) {
+        MappedByteBuffer chunk = chunkFor(index);
+        int offset = offsetFor(index);
+        return new LapResult(chunk.getInt(offset), chunk.getInt(offset + 4),
+                chunk.getDouble(offset + 16), chunk.getDouble(offset + 24),
+                TelemetryRecorder.decodePitReason(chunk.get(offset + 8)),
+                chunk.getDouble(offset + 32), chunk.getDouble(offset + 40));
+    }
+
+    public int getLapNumber(long index) {
+        return chunkFor(index).getInt(offsetFor(index));
+    }
+
+    public boolean isPitStop(long index) {
+        return chunkFor(index).get(offsetFor(index) + 8) != TelemetryRecorder.PIT_NONE;
+    }
+
+    public double getFuelAfterLap(long index) {
+        return chunkFor(index).getDouble(offsetFor(index) + 16);
+    }
+
+    public double getTyreWearAfterLap(long index) {
+        return chunkFor(index).getDouble(offsetFor(index) + 24);
+    }
+
+    public double getFuelAfterPit(long index) {
+        return chunkFor(index).getDouble(offsetFor(index) + 32);
+    }
+
+    public double getTyreWearAfterPit(long index) {
+        return chunkFor(index).getDouble(offsetFor(index) + 40);
+    }
+
+    private MappedByteBuffer chunkFor(long index) {
+        if (index < 0 || index >= lapCount) {
+            throw new IndexOutOfBoundsException("Lap index " + index + " out of range for " + lapCount + " laps.");
+        }
+        return chunks[(int) (index / TelemetryRecorder.CHUNK_RECORDS)];
+    }
+
+    private static int offsetFor(long index) {
+        return (int) (index % TelemetryRecorder.CHUNK_RECORDS) * TelemetryRecorder.RECORD_SIZE;
+    }
+}
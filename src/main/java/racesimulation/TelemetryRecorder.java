@@ -0,0 +1,183 @@
+package racesimulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Records lap telemetry to an append-only binary file through memory-mapped chunks.
+ * Each lap is one fixed-width record, so a TelemetryReader can access any lap by index.
+ * Records are written straight into the mapped file; nothing is allocated per lap,
+ * which keeps batch runs of millions of laps free of GC pressure.
+ * <p>
+ * File layout (little-endian): a header of magic, version and record count, followed by the records.
+ * Each record holds the lap number, total laps, pit reason code, and the fuel and tyre wear
+ * before and after the pit stop. The record count in the header is updated after every record,
+ * so a file that was not closed cleanly can still be read up to the last complete lap.
+ * <p>
+ * This class is not thread-safe; use one recorder per race thread.
+ */
+class TelemetryRecorder implements RaceListener, Closeable {
+    static final int MAGIC = 0x544C4D31; // "TLM1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;   // magic (4), version (4), record count (8)
+    static final int RECORD_SIZE = 48;   // lap (4), total laps (4), pit reason (1), padding (7), 4 doubles (32)
+    static final int CHUNK_RECORDS = 1 << 16; // Records per mapped chunk (3 MB)
+
+    // Pit reason codes as stored in a record
+    static final byte PIT_NONE = 0;
+    static final byte PIT_FUEL = 1;
+    static final byte PIT_TYRES = 2;
+    static final byte PIT_FUEL_AND_TYRES = 3;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer chunk;
+    private long recordCount;
+    private boolean closed;
+
+    /**
+     * Creates a new telemetry file, replacing any existing file at the path.
+     *
+     * @param path The file to record to.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    public TelemetryRecorder(Path path) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("Path cannot be null.");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        } catch (IOException | RuntimeException ex) {
+            try {
+                channel.close(); // The caller never gets a recorder to close
+            } catch (IOException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            throw ex;
+        }
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0, MAGIC);
+        header.putInt(4, VERSION);
+        header.putLong(8, 0L);
+    }
+
+    @Override
+    public void lapCompleted(LapResult result) {
+        record(result.getLapNumber(), result.getTotalLaps(), result.getFuelAfterLap(), result.getTyreWearAfterLap(),
+                result.getPitReason(), result.getFuelAfterPit(), result.getTyreWearAfterPit());
+    }
+
+    /**
+     * Appends one lap record. Headless loops that do not build LapResults can call this directly.
+     *
+     * @param lapNumber        The lap just completed (1-based).
+     * @param totalLaps        The total laps in the race.
+     * @param fuelAfterLap     Fuel in liters at the end of the lap, before any pit stop.
+     * @param tyreWearAfterLap Tyre wear at the end of the lap, before any pit stop (0.0 to 1.0).
+     * @param pitReason        "Fuel", "Tyres", "Fuel & Tyres", or null if no pit stop was taken.
+     * @param fuelAfterPit     Fuel in liters after the pit stop.
+     * @param tyreWearAfterPit Tyre wear after the pit stop (0.0 to 1.0).
+     */
+    public void record(int lapNumber, int totalLaps, double fuelAfterLap, double tyreWearAfterLap,
+                       String pitReason, double fuelAfterPit, double tyreWearAfterPit) {
+        if (closed) {
+            throw new IllegalStateException("TelemetryRecorder is closed.");
+        }
+        int slot = (int) (recordCount % CHUNK_RECORDS);
+        if (slot == 0) {
+            mapChunk(recordCount / CHUNK_RECORDS);
+        }
+        int offset = slot * RECORD_SIZE;
+        chunk.putInt(offset, lapNumber);
+        chunk.putInt(offset + 4, totalLaps);
+        chunk.put(offset + 8, encodePitReason(pitReason));
+        chunk.putDouble(offset + 16, fuelAfterLap);
+        chunk.putDouble(offset + 24, tyreWearAfterLap);
+        chunk.putDouble(offset + 32, fuelAfterPit);
+        chunk.putDouble(offset + 40, tyreWearAfterPit);
+        recordCount++;
+        header.putLong(8, recordCount);
+    }
+
+    /**
+     * @return The number of laps recorded so far.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Flushes the records to disk and trims the file to the recorded laps.
+     *
+     * @throws IOException If the file cannot be trimmed or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (chunk != null) {
+            chunk.force();
+        }
+        header.force();
+        chunk = null;
+        channel.truncate(HEADER_SIZE + recordCount * RECORD_SIZE);
+        channel.close();
+    }
+
+    /**
+     * Maps the next chunk of the file, growing it by CHUNK_RECORDS records.
+     */
+    private void mapChunk(long chunkIndex) {
+        try {
+            if (chunk != null) {
+                chunk.force();
+            }
+            long position = HEADER_SIZE + chunkIndex * CHUNK_RECORDS * RECORD_SIZE;
+            chunk = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) CHUNK_RECORDS * RECORD_SIZE);
+            chunk.order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not map telemetry chunk " + chunkIndex + ".", ex);
+        }
+    }
+
+    static byte encodePitReason(String pitReason) {
+        if (pitReason == null) {
+            return PIT_NONE;
+        }
+        switch (pitReason) {
+            case "Fuel":
+                return PIT_FUEL;
+            case "Tyres":
+                return PIT_TYRES;
+            case "Fuel & Tyres":
+                return PIT_FUEL_AND_TYRES;
+            default:
+                throw new IllegalArgumentException("Unknown pit reason: " + pitReason);
+        }
+    }
+
+    static String decodePitReason(byte code) {
+        switch (code) {
+            case PIT_NONE:
+                return null;
+            case PIT_FUEL:
+                return "Fuel";
+            case PIT_TYRES:
+                return "Tyres";
+            case PIT_FUEL_AND_TYRES:
+                return "Fuel & Tyres";
+            default:
+                throw new IllegalArgumentException("Unknown pit reason code: " + code);
+        }
+    }
+}
@@ -3,8 +3,8 @@ package racesimulation;
 // Re-including helper and component classes for completeness and context
 // TemperatureRange class (from Prompt 2)
 class TemperatureRange {
-    private double minTemp;
-    private double maxTemp;
+    private final double minTemp;
+    private final double maxTemp;
 
     public TemperatureRange(double minTemp, double maxTemp) {
         this.minTemp = minTemp;
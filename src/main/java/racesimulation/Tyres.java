@@ -2,10 +2,10 @@ package racesimulation;
 
 // Tyres class (from Prompt 2)
 class Tyres {
-    private String compound;
-    private int gripLevel;             // Base integer level
-    private double wearRate;           // higher means wears faster
-    private TemperatureRange optimalTempRange;
+    private final String compound;
+    private final int gripLevel;             // Base integer level
+    private final double wearRate;           // higher means wears faster
+    private final TemperatureRange optimalTempRange;
 
     public Tyres(String compound, int gripLevel, double wearRate, double minOptimalTemp, double maxOptimalTemp) {
         this.compound = compound;
@@ -0,0 +1,158 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_CAT]: Test for AssetCatalog class")
+class AssetCatalogTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path catalogFile;
+    GameAssetProvider builtIn;
+
+    @BeforeEach
+    void setUp() {
+        catalogFile = tempDir.resolve("assets.cat");
+        builtIn = new GameAssetProvider();
+    }
+
+    @DisplayName("[WB_CAT_01 - Critical]: Test the built-in assets are read back in order with all their fields")
+    @Test
+    void builtInAssetsRoundTrip() throws IOException {
+        AssetCatalog.write(catalogFile, builtIn);
+        AssetCatalog catalog = AssetCatalog.open(catalogFile);
+        GameAssetProvider fromCatalog = new GameAssetProvider(catalog);
+        Tyres medium = catalog.getTyres(1);
+        AerodynamicKit groundEffect = catalog.getAeroKit(4);
+
+        assertAll(
+                () -> assertEquals(3, catalog.size(AssetCatalog.ENGINE)),
+                () -> assertEquals(9, catalog.size(AssetCatalog.AERO_KIT)),
+                () -> assertEquals(builtIn.getEngineVariations().toString(), fromCatalog.getEngineVariations().toString()),
+                () -> assertEquals(builtIn.getTyreVariations().toString(), fromCatalog.getTyreVariations().toString()),
+                () -> assertEquals(builtIn.getAeroKitVariations().toString(), fromCatalog.getAeroKitVariations().toString()),
+                () -> assertEquals(builtIn.getTrackVariations().toString(), fromCatalog.getTrackVariations().toString()),
+                () -> assertEquals(builtIn.getConditionVariations().toString(), fromCatalog.getConditionVariations().toString()),
+                () -> assertEquals(80, medium.getGripLevel()),
+                () -> assertEquals(110.0, medium.getOptimalTempRange().getMaxTemp()),
+                () -> assertEquals(0.27, groundEffect.getDragCoefficient()),
+                () -> assertEquals(8, groundEffect.getCorneringAbility()),
+                () -> assertEquals(RaceConditions.Weather.DAMP, catalog.getConditions(2).getWeather()),
+                () -> assertEquals(0.6, catalog.getConditions(2).getHumidity())
+        );
+    }
+
+    @DisplayName("[WB_CAT_02 - Critical]: Test name lookups in a large catalog return interned instances")
+    @Test
+    void lookupsInLargeCatalog() throws IOException {
+        List<Engine> engines = new ArrayList<>();
+        List<RaceTrack> tracks = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            engines.add(new Engine("Engine " + i, 100 + i, 5.0 + i % 10, 0.9));
+            tracks.add(new RaceTrack("Circuit " + i, 3.0 + i % 4, 40 + i % 40, 1.0, 1.0));
+        }
+        AssetCatalog.write(catalogFile, engines, builtIn.getTyreVariations(), builtIn.getAeroKitVariations(),
+                tracks, builtIn.getConditionVariations());
+        AssetCatalog catalog = AssetCatalog.open(catalogFile);
+
+        Engine engine = catalog.findEngine("Engine 12345");
+        assertAll(
+                () -> assertEquals(20000, catalog.size(AssetCatalog.ENGINE)),
+                () -> assertEquals(12445, engine.getPowerRating()),
+                () -> assertSame(engine, catalog.findEngine("Engine 12345")),
+                () -> assertSame(engine, catalog.getEngine(12345)),
+                () -> assertEquals(40 + 19999 % 40, catalog.findTrack("Circuit 19999").getNumberOfLaps()),
+                () -> assertSame(catalog.getTrack(0), catalog.findTrack("Circuit 0")),
+                () -> assertNull(catalog.findEngine("Engine 20000")),
+                () -> assertNull(catalog.findEngine("engine 1")),
+                () -> assertNull(catalog.findEngine(null)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> catalog.getEngine(20000))
+        );
+        for (int i = 0; i < 20000; i += 997) {
+            assertEquals("Engine " + i, catalog.findEngine("Engine " + i).getName());
+        }
+    }
+
+    @DisplayName("[WB_CAT_03 - Core]: Test an empty kind of asset")
+    @Test
+    void emptyKind() throws IOException {
+        AssetCatalog.write(catalogFile, List.of(), builtIn.getTyreVariations(), builtIn.getAeroKitVariations(),
+                builtIn.getTrackVariations(), builtIn.getConditionVariations());
+        AssetCatalog catalog = AssetCatalog.open(catalogFile);
+
+        assertAll(
+                () -> assertEquals(0, catalog.size(AssetCatalog.ENGINE)),
+                () -> assertNull(catalog.findEngine("Standard V6")),
+                () -> assertTrue(new GameAssetProvider(catalog).getEngineVariations().isEmpty())
+        );
+    }
+
+    @DisplayName("[WB_CAT_04 - Additional]: Test invalid catalogs and arguments")
+    @Test
+    void invalidCatalogsAndArguments() throws IOException {
+        Path notACatalog = tempDir.resolve("not.cat");
+        Files.write(notACatalog, new byte[AssetCatalog.HEADER_SIZE]);
+        List<Engine> duplicates = List.of(new Engine("V6", 300, 7.5, 0.95), new Engine("V6", 310, 7.0, 0.95));
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> AssetCatalog.open(notACatalog)),
+                () -> assertThrows(IOException.class, () -> AssetCatalog.open(tempDir.resolve("missing.cat"))),
+                () -> assertThrows(IllegalArgumentException.class, () -> AssetCatalog.open(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> AssetCatalog.write(catalogFile, duplicates,
+                        List.of(), List.of(), List.of(), List.of())),
+                () -> assertThrows(IllegalArgumentException.class, () -> AssetCatalog.write(catalogFile,
+                        List.of(new Engine(null, 300, 7.5, 0.95)), List.of(), List.of(), List.of(), List.of())),
+                () -> assertThrows(IllegalArgumentException.class, () -> AssetCatalog.write(catalogFile, (GameAssetProvider) null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> AssetCatalog.write(null, builtIn))
+        );
+    }
+
+    @DisplayName("[WB_CAT_05 - Additional]: Test corrupt hash tables are rejected")
+    @Test
+    void corruptHashTables() throws IOException {
+        AssetCatalog.write(catalogFile, List.of(new Engine("V6", 300, 7.5, 0.95), new Engine("V8", 310, 7.0, 0.95)),
+                List.of(), List.of(), List.of(), List.of());
+        byte[] valid = Files.readAllBytes(catalogFile);
+        ByteBuffer header = ByteBuffer.wrap(valid).order(ByteOrder.LITTLE_ENDIAN);
+        int engineSection = 8 + AssetCatalog.ENGINE * AssetCatalog.SECTION_SIZE;
+        int slotCount = header.getInt(engineSection + 4);
+        int slotTable = (int) header.getLong(engineSection + 16);
+
+        // As many slots as engines leaves no empty slot to end a search
+        Path fullTable = tempDir.resolve("full.cat");
+        byte[] full = valid.clone();
+        ByteBuffer.wrap(full).order(ByteOrder.LITTLE_ENDIAN).putInt(engineSection + 4, 2);
+        Files.write(fullTable, full);
+
+        // Every slot points past the two entries
+        Path badEntry = tempDir.resolve("entry.cat");
+        byte[] entries = valid.clone();
+        ByteBuffer slots = ByteBuffer.wrap(entries).order(ByteOrder.LITTLE_ENDIAN);
+        for (int slot = 0; slot < slotCount; slot++) {
+            slots.putInt(slotTable + 4 * slot, 3);
+        }
+        Files.write(badEntry, entries);
+        AssetCatalog catalog = AssetCatalog.open(badEntry);
+
+        assertAll(
+                () -> assertThrows(IOException.class, () -> AssetCatalog.open(fullTable)),
+                () -> assertThrows(IllegalStateException.class, () -> catalog.findEngine("V10")),
+                () -> assertNotNull(AssetCatalog.open(catalogFile).findEngine("V8")),
+                () -> assertNull(AssetCatalog.open(catalogFile).findEngine("V10"))
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_BRN]: Test for BatchRunner class")
+class BatchRunnerTest {
+
+    GameAssetProvider assetProvider;
+
+    @BeforeEach
+    void setUp() {
+        assetProvider = new GameAssetProvider();
+    }
+
+    private List<String> runLines(BatchRunner runner) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        runner.run(out);
+        return bytes.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @DisplayName("[WB_BRN_01 - Critical]: Test a single plan matches the optimiser")
+    @Test
+    void singlePlanMatchesOptimiser() {
+        BatchRunner runner = new BatchRunner(assetProvider, new String[]{
+                "--track", "monaco", "--conditions", "Dry", "--engine", "Turbocharged V8",
+                "--tyres", "Soft Compound", "--aero-kit", "Standard Kit", "--weight", "900", "--fuel-capacity", "60"});
+        List<String> lines = runLines(runner);
+
+        RaceCar raceCar = new RaceCar(assetProvider.getEngineVariations().get(1), assetProvider.getTyreVariations().get(0),
+                AerodynamicKit.getAllSpecKits().get("Standard Kit"), 900, 60);
+        RaceStrategyOptimiser raceOptimiser = new RaceStrategyOptimiser(raceCar,
+                assetProvider.getTrackVariations().get(0), assetProvider.getConditionVariations().get(0));
+        List<Integer> pitStopLaps = raceOptimiser.planPitStops();
+        String[] fields = lines.get(1).split(",");
+
+        assertAll(
+                () -> assertEquals(1, runner.getRunCount()),
+                () -> assertEquals(2, lines.size()),
+                () -> assertEquals(BatchRunner.CSV_HEADER, lines.get(0)),
+                () -> assertEquals("Monaco", fields[0]),
+                () -> assertEquals("Turbocharged V8", fields[2]),
+                () -> assertEquals("plan", fields[7]),
+                () -> assertEquals("true", fields[8]),
+                () -> assertEquals(pitStopLaps.size(), Integer.parseInt(fields[9])),
+                () -> assertEquals(raceOptimiser.calculateRaceTime(pitStopLaps), Double.parseDouble(fields[11]), 1e-9)
+        );
+    }
+
+    @DisplayName("[WB_BRN_02 - Critical]: Test a parallel batch writes every combination in order")
+    @Test
+    void parallelBatchIsOrdered() {
+        String[] args = {"--track", "Monza,Silverstone", "--conditions", "all", "--engine", "all",
+                "--tyres", "all", "--aero-kit", "Standard Kit", "--weight", "1000", "--fuel-capacity", "all",
+                "--mode", "simulate", "--format", "jsonl"};
+        List<String> parallel = runLines(new BatchRunner(assetProvider, args));
+        String[] sequentialArgs = Arrays.copyOf(args, args.length + 2);
+        sequentialArgs[args.length] = "--threads";
+        sequentialArgs[args.length + 1] = "1";
+        List<String> sequential = runLines(new BatchRunner(assetProvider, sequentialArgs));
+
+        assertAll(
+                () -> assertEquals(2 * 3 * 3 * 3 * 3, parallel.size()),
+                () -> assertEquals(sequential, parallel),
+                () -> assertTrue(parallel.get(0).startsWith("{\"track\":\"Monza\",\"conditions\":\"Dry\"")),
+                () -> assertTrue(parallel.get(parallel.size() - 1).startsWith("{\"track\":\"Silverstone\",\"conditions\":\"Damp\"")),
+                () -> assertTrue(parallel.stream().allMatch(line -> line.contains("\"mode\":\"simulate\"")))
+        );
+    }
+
+    @DisplayName("[WB_BRN_03 - Core]: Test simulating takes the threshold pit stops and is no faster than the plan")
+    @Test
+    void simulationMatchesThresholdStops() {
+        String[] args = {"--track", "Silverstone", "--conditions", "Wet", "--engine", "Standard V6",
+                "--tyres", "Medium Compound", "--aero-kit", "Hybrid Kit", "--weight", "1100", "--fuel-capacity", "70"};
+        String planned = runLines(new BatchRunner(assetProvider, args)).get(1);
+        String[] simulateArgs = Arrays.copyOf(args, args.length + 2);
+        simulateArgs[args.length] = "--mode";
+        simulateArgs[args.length + 1] = "simulate";
+        String simulated = runLines(new BatchRunner(assetProvider, simulateArgs)).get(1);
+
+        RaceCar car = new RaceCar(assetProvider.findEngine("Standard V6"), assetProvider.findTyres("Medium Compound"),
+                assetProvider.findAeroKit("Hybrid Kit"), 1100, 70);
+        List<Integer> thresholdStops = new StintCalculator(car, assetProvider.findTrack("Silverstone"),
+                assetProvider.findConditions("Wet")).planPitStops();
+        String[] plannedFields = planned.split(",");
+        String[] simulatedFields = simulated.split(",");
+
+        assertAll(
+                () -> assertEquals(thresholdStops.stream().map(String::valueOf).collect(Collectors.joining(";")), simulatedFields[10]),
+                () -> assertTrue(Double.parseDouble(plannedFields[11]) <= Double.parseDouble(simulatedFields[11]))
+        );
+    }
+
+    @DisplayName("[WB_BRN_04 - Additional]: Test invalid arguments are reported with the usage")
+    @Test
+    void invalidArguments() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = BatchRunner.run(new String[]{"--track", "Spa"}, new PrintStream(new ByteArrayOutputStream()),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertEquals(BatchRunner.EXIT_USAGE, exitCode),
+                () -> assertTrue(err.toString(StandardCharsets.UTF_8).contains("Unknown track 'Spa'")),
+                () -> assertEquals(BatchRunner.EXIT_ERROR, BatchRunner.run(new String[]{"--catalog", "missing.cat"},
+                        new PrintStream(new ByteArrayOutputStream()), new PrintStream(new ByteArrayOutputStream()))),
+                () -> assertEquals(BatchRunner.EXIT_OK, BatchRunner.run(new String[]{"--help"},
+                        new PrintStream(new ByteArrayOutputStream()), new PrintStream(new ByteArrayOutputStream()))),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BatchRunner(assetProvider, new String[]{"--mode", "race"})),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BatchRunner(assetProvider, new String[]{"--weight", "950"})),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BatchRunner(assetProvider, new String[]{"--threads", "0"})),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BatchRunner(assetProvider, new String[]{"--format"})),
+                () -> assertThrows(IllegalArgumentException.class, () -> new BatchRunner(null, new String[0]))
+        );
+    }
+
+    @DisplayName("[WB_BRN_05 - Core]: Test a batch with more combinations than an int can index is a usage error")
+    @Test
+    void oversizeBatchRejected() {
+        GameAssetProvider largeCatalog = new GameAssetProvider() {
+            @Override
+            public List<Engine> getEngineVariations() {
+                return Collections.nCopies(50_000, super.getEngineVariations().get(0));
+            }
+
+            @Override
+            public List<Tyres> getTyreVariations() {
+                return Collections.nCopies(50_000, super.getTyreVariations().get(0));
+            }
+        };
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> new BatchRunner(largeCatalog, new String[0]));
+        BatchRunner narrowed = new BatchRunner(largeCatalog, new String[]{"--track", "monaco", "--conditions", "Dry",
+                "--tyres", "Soft Compound", "--aero-kit", "Standard Kit", "--weight", "900", "--fuel-capacity", "60"});
+
+        assertAll(
+                () -> assertTrue(ex.getMessage().contains(String.valueOf(Integer.MAX_VALUE))),
+                () -> assertEquals(50_000, narrowed.getRunCount())
+        );
+    }
+}
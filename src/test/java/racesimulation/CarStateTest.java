@@ -0,0 +1,95 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_CST]: Test for CarState class")
+class CarStateTest {
+
+    RaceCar raceCar;
+    LapCostModel lapCostModel;
+
+    @BeforeEach
+    void setUp() {
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                80
+        );
+        lapCostModel = new LapCostModel(raceCar, new RaceTrack("raceTrack", 4, 50, 1.0, 1.0),
+                new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0));
+    }
+
+    @DisplayName("[WB_CST_01 - Critical]: Test the start state and stepping laps and pit stops")
+    @Test
+    void startLapsAndPitStops() {
+        CarState start = CarState.start(raceCar);
+        CarState afterLap = start.afterLap(lapCostModel);
+        CarState afterPitStop = afterLap.afterPitStop(50.0);
+
+        assertAll(
+                () -> assertEquals(80.0, start.getFuel()),
+                () -> assertEquals(0.0, start.getTyreWear()),
+                () -> assertEquals(0, start.getLap()),
+                () -> assertEquals(80.0 - lapCostModel.getFuelPerLap(), afterLap.getFuel()),
+                () -> assertEquals(lapCostModel.getTyreWearPerLap(), afterLap.getTyreWear()),
+                () -> assertEquals(1, afterLap.getLap()),
+                () -> assertEquals(50.0, afterPitStop.getFuel()),
+                () -> assertEquals(0.0, afterPitStop.getTyreWear()),
+                () -> assertEquals(1, afterPitStop.getLap()),
+                () -> assertEquals(new CarState(80.0, 0.0, 0), start),
+                () -> assertThrows(IllegalArgumentException.class, () -> CarState.start(null))
+        );
+    }
+
+    @ParameterizedTest(name = "[WB_CST_02 - Critical]: Testing fuel is kept at or above 0, fuel: {0}")
+    @CsvSource({"80.0", "60.0", "40.0", "20.0", "0.1", "-0.1", "-1.0"})
+    void fuelClamped(double fuel) {
+        CarState state = new CarState(fuel, 0.0, 0);
+        if (fuel > 0) {
+            assertEquals(fuel, state.getFuel());
+        } else {
+            assertEquals(0, state.getFuel());
+        }
+    }
+
+    @ParameterizedTest(name = "[WB_CST_03 - Critical]: Testing tyre wear is clamped between 0 and 1, tyreWear: {0}")
+    @CsvSource({"80.0", "1.1", "0.9", "0.5", "0.1", "-0.1", "-1.0"})
+    void tyreWearClamped(double tyreWear) {
+        CarState state = new CarState(80.0, tyreWear, 0);
+        if (tyreWear > 0 && tyreWear < 1) {
+            assertEquals(tyreWear, state.getTyreWear());
+        } else if (tyreWear > 1) {
+            assertEquals(1, state.getTyreWear());
+        } else {
+            assertEquals(0, state.getTyreWear());
+        }
+    }
+
+    @DisplayName("[WB_CST_04 - Additional]: Test stepping leaves the earlier states unchanged")
+    @Test
+    void steppingIsImmutable() {
+        CarState start = CarState.start(raceCar);
+        CarState state = start;
+        for (int lap = 0; lap < 60; lap++) {
+            state = state.afterLap(lapCostModel);
+        }
+        CarState finished = state;
+
+        assertAll(
+                () -> assertEquals(new CarState(80.0, 0.0, 0), start),
+                () -> assertEquals(0.0, finished.getFuel()),
+                () -> assertEquals(1.0, finished.getTyreWear()),
+                () -> assertEquals(60, finished.getLap()),
+                () -> assertNotEquals(start, finished),
+                () -> assertEquals("Lap 60: Fuel 0.00 L, Tyre Wear 100.00%", finished.toString())
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_CTL]: Test for ConditionsTimeline class")
+class ConditionsTimelineTest {
+
+    RaceConditions dry;
+    RaceConditions damp;
+    RaceConditions wet;
+
+    @BeforeEach
+    void setUp() {
+        dry = new RaceConditions("Dry", RaceConditions.Weather.DRY, 25.0, 35.0, 0.3);
+        damp = new RaceConditions("Damp", RaceConditions.Weather.DAMP, 20.0, 25.0, 0.6);
+        wet = new RaceConditions("Wet", RaceConditions.Weather.WET, 15.0, 18.0, 0.9);
+    }
+
+    @DisplayName("[WB_CTL_01 - Critical]: Test the conditions of each lap")
+    @Test
+    void conditionsOfEachLap() {
+        ConditionsTimeline timeline = ConditionsTimeline.constant(dry, 10)
+                .withConditionsFrom(4, damp)
+                .withConditionsFrom(8, wet);
+
+        assertAll(
+                () -> assertEquals(10, timeline.getNumberOfLaps()),
+                () -> assertSame(dry, timeline.getConditions(1)),
+                () -> assertSame(dry, timeline.getConditions(3)),
+                () -> assertSame(damp, timeline.getConditions(4)),
+                () -> assertSame(damp, timeline.getConditions(7)),
+                () -> assertSame(wet, timeline.getConditions(8)),
+                () -> assertSame(wet, timeline.getConditions(10)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> timeline.getConditions(0)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> timeline.getConditions(11))
+        );
+    }
+
+    @DisplayName("[WB_CTL_02 - Critical]: Test changing the forecast leaves the original timeline unchanged")
+    @Test
+    void withConditionsFromCopies() {
+        ConditionsTimeline original = new ConditionsTimeline(Arrays.asList(dry, dry, damp, damp));
+        ConditionsTimeline changed = original.withConditionsFrom(2, wet);
+
+        assertAll(
+                () -> assertSame(damp, original.getConditions(3)),
+                () -> assertSame(dry, changed.getConditions(1)),
+                () -> assertSame(wet, changed.getConditions(2)),
+                () -> assertSame(wet, changed.getConditions(4))
+        );
+    }
+
+    @DisplayName("[WB_CTL_03 - Core]: Test the first lap where two timelines differ")
+    @Test
+    void firstDifferentLap() {
+        ConditionsTimeline timeline = ConditionsTimeline.constant(dry, 10);
+        RaceConditions renamedDry = new RaceConditions("Sunny", RaceConditions.Weather.DRY, 25.0, 35.0, 0.3);
+        RaceConditions warmerDry = new RaceConditions("Dry", RaceConditions.Weather.DRY, 31.0, 35.0, 0.3);
+
+        assertAll(
+                () -> assertEquals(11, timeline.firstDifferentLap(timeline)),
+                () -> assertEquals(11, timeline.firstDifferentLap(ConditionsTimeline.constant(renamedDry, 10))),
+                () -> assertEquals(6, timeline.firstDifferentLap(timeline.withConditionsFrom(6, wet))),
+                () -> assertEquals(1, timeline.firstDifferentLap(timeline.withConditionsFrom(1, warmerDry))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> timeline.firstDifferentLap(ConditionsTimeline.constant(dry, 9))),
+                () -> assertThrows(IllegalArgumentException.class, () -> timeline.firstDifferentLap(null))
+        );
+    }
+
+    @DisplayName("[WB_CTL_04 - Additional]: Test invalid arguments and toString")
+    @Test
+    void invalidArgumentsAndToString() {
+        ConditionsTimeline timeline = ConditionsTimeline.constant(dry, 5).withConditionsFrom(3, wet);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new ConditionsTimeline(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ConditionsTimeline(Arrays.asList(dry, null))),
+                () -> assertThrows(IllegalArgumentException.class, () -> ConditionsTimeline.constant(null, 5)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ConditionsTimeline.constant(dry, -1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> timeline.withConditionsFrom(0, wet)),
+                () -> assertThrows(IllegalArgumentException.class, () -> timeline.withConditionsFrom(6, wet)),
+                () -> assertThrows(IllegalArgumentException.class, () -> timeline.withConditionsFrom(2, null)),
+                () -> assertEquals(0, new ConditionsTimeline(List.of()).getNumberOfLaps()),
+                () -> assertTrue(timeline.toString().contains("laps 1-2: Dry")),
+                () -> assertTrue(timeline.toString().contains("laps 3-5: Wet"))
+        );
+    }
+}
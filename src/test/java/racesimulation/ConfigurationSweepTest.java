@@ -0,0 +1,103 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_CFS]: Test for ConfigurationSweep class")
+class ConfigurationSweepTest {
+
+    GameAssetProvider assetProvider;
+    ConfigurationSweep sweep;
+    RaceTrack monaco;
+    RaceConditions dry;
+
+    @BeforeEach
+    void setUp() {
+        assetProvider = new GameAssetProvider();
+        sweep = new ConfigurationSweep(assetProvider);
+        monaco = assetProvider.getTrackVariations().get(0);
+        dry = assetProvider.getConditionVariations().get(0);
+    }
+
+    @DisplayName("[WB_CFS_01 - Critical]: Test the sweep covers the whole catalog")
+    @Test
+    void configurationCount() {
+        assertEquals(729, sweep.getConfigurationCount());
+    }
+
+    @DisplayName("[WB_CFS_02 - Critical]: Test the leaderboard is bounded and ordered best first")
+    @ParameterizedTest(name="Test: {index}/3, topN: {0}")
+    @ValueSource(ints = {1, 10, 50})
+    void leaderboardBoundedAndOrdered(int topN) {
+        List<SweepResult> results = sweep.run(monaco, dry, topN);
+
+        assertEquals(topN, results.size());
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(SweepResult.BEST_FIRST.compare(results.get(i - 1), results.get(i)) <= 0);
+        }
+    }
+
+    @DisplayName("[WB_CFS_03 - Critical]: Test the leaderboard holds the best of all configurations")
+    @Test
+    void leaderboardHoldsBestConfigurations() {
+        List<SweepResult> all = sweep.run(monaco, dry, sweep.getConfigurationCount());
+        List<SweepResult> top = sweep.run(monaco, dry, 5);
+
+        assertEquals(729, all.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(0, SweepResult.BEST_FIRST.compare(all.get(i), top.get(i)));
+        }
+    }
+
+    @DisplayName("[WB_CFS_04 - Core]: Test a single-threaded pool gives the same leaderboard")
+    @Test
+    void singleThreadedPoolMatches() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            List<SweepResult> parallel = sweep.run(monaco, dry, 20);
+            List<SweepResult> sequential = sweep.run(monaco, dry, 20, pool);
+
+            assertEquals(parallel.size(), sequential.size());
+            for (int i = 0; i < parallel.size(); i++) {
+                assertEquals(0, SweepResult.BEST_FIRST.compare(parallel.get(i), sequential.get(i)));
+                assertEquals(parallel.get(i).getPitStopLaps(), sequential.get(i).getPitStopLaps());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @DisplayName("[WB_CFS_05 - Core]: Test run with invalid topN")
+    @ParameterizedTest(name="Test: {index}/2, topN: {0}")
+    @ValueSource(ints = {0, -1})
+    void runWithInvalidTopN(int topN) {
+        assertThrows(IllegalArgumentException.class, () -> sweep.run(monaco, dry, topN));
+    }
+
+    @DisplayName("[WB_CFS_06 - Additional]: Test a catalog with more configurations than an int can index")
+    @Test
+    void oversizeCatalogRejected() {
+        GameAssetProvider largeCatalog = new GameAssetProvider() {
+            @Override
+            public List<Engine> getEngineVariations() {
+                return Collections.nCopies(50_000, super.getEngineVariations().get(0));
+            }
+
+            @Override
+            public List<Tyres> getTyreVariations() {
+                return Collections.nCopies(50_000, super.getTyreVariations().get(0));
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> new ConfigurationSweep(largeCatalog));
+    }
+}
@@ -0,0 +1,76 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_FLS]: Test for FleetState class")
+class FleetStateTest {
+
+    GameAssetProvider assetProvider;
+    List<RaceCar> cars;
+    FleetState fleet;
+
+    @BeforeEach
+    void setUp() {
+        assetProvider = new GameAssetProvider();
+        cars = new ArrayList<>();
+        for (Engine engine : assetProvider.getEngineVariations()) {
+            for (Tyres tyres : assetProvider.getTyreVariations()) {
+                cars.add(new RaceCar(engine, tyres, assetProvider.getAeroKitVariations().get(0), 1000.0, 70.0));
+            }
+        }
+        fleet = new FleetState(cars.size());
+        for (RaceCar car : cars) {
+            fleet.add(car);
+        }
+    }
+
+    @DisplayName("[WB_FLS_01 - Critical]: Test a fleet race matches the RaceEngine for every car and track")
+    @Test
+    void runRaceMatchesRaceEngine() {
+        for (RaceTrack track : assetProvider.getTrackVariations()) {
+            for (RaceConditions conditions : assetProvider.getConditionVariations()) {
+                fleet.reset();
+                fleet.runRace(track, conditions);
+
+                for (int i = 0; i < cars.size(); i++) {
+                    RaceCar car = cars.get(i);
+                    RaceStrategyOptimiser optimiser = new RaceStrategyOptimiser(car, track, conditions);
+                    RaceEngine raceEngine = new RaceEngine(car, track, conditions, optimiser, result -> { });
+                    int pitStops = raceEngine.run();
+
+                    int index = i;
+                    assertAll(
+                            () -> assertEquals(raceEngine.getState().getFuel(), fleet.getFuel(index)),
+                            () -> assertEquals(raceEngine.getState().getTyreWear(), fleet.getTyreWear(index)),
+                            () -> assertEquals(pitStops, fleet.getPitStopCount(index))
+                    );
+                }
+            }
+        }
+    }
+
+    @DisplayName("[WB_FLS_02 - Critical]: Test advanceLap before prepare")
+    @Test
+    void advanceLapBeforePrepare() {
+        assertThrows(IllegalStateException.class, fleet::advanceLap);
+    }
+
+    @DisplayName("[WB_FLS_03 - Core]: Test adding a car to a full fleet")
+    @Test
+    void addToFullFleet() {
+        assertThrows(IllegalStateException.class, () -> fleet.add(cars.get(0)));
+    }
+
+    @DisplayName("[WB_FLS_04 - Core]: Test reading a car outside the fleet")
+    @Test
+    void getOutsideFleet() {
+        assertThrows(IndexOutOfBoundsException.class, () -> fleet.getFuel(cars.size()));
+    }
+}
@@ -3,7 +3,10 @@ package racesimulation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -328,4 +331,25 @@ class GameAssetProviderTest {
         String expected = "[Dry (Air: 25°C, Track: 35°C), Wet (Air: 15°C, Track: 18°C), Damp (Air: 20°C, Track: 25°C)]";
         assertEquals(expected, testGameAssetProvider.getConditionVariations().toString());
     }
-}
\ No newline at end of file
+
+    @DisplayName("[WB_GAP_14 - Core]: Testing a provider backed by an AssetCatalog serves the same assets.")
+    @Test
+    public void testCatalogBackedProvider(@TempDir Path tempDir) throws IOException {
+        Path catalogFile = tempDir.resolve("assets.cat");
+        AssetCatalog.write(catalogFile, testGameAssetProvider);
+        GameAssetProvider catalogProvider = new GameAssetProvider(AssetCatalog.open(catalogFile));
+
+        assertAll(
+                () -> assertEquals(testGameAssetProvider.getTrackVariations().toString(),
+                        catalogProvider.getTrackVariations().toString()),
+                () -> assertSame(catalogProvider.getEngineVariations().get(1), catalogProvider.findEngine("Turbocharged V8")),
+                () -> assertSame(testEngine.get(1), testGameAssetProvider.findEngine("Turbocharged V8")),
+                () -> assertSame(testAerodynamicKit.get(7), testGameAssetProvider.findAeroKit("Hybrid Kit")),
+                () -> assertNull(testGameAssetProvider.findTrack("Spa")),
+                () -> assertNull(catalogProvider.findTrack("Spa")),
+                () -> assertThrows(UnsupportedOperationException.class,
+                        () -> catalogProvider.getTyreVariations().add(testTyres.get(0))),
+                () -> assertThrows(IllegalArgumentException.class, () -> new GameAssetProvider(null))
+        );
+    }
+}
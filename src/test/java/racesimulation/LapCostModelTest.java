@@ -0,0 +1,68 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_LCM]: Test for LapCostModel class")
+class LapCostModelTest {
+
+    RaceCar raceCar;
+    RaceTrack raceTrack;
+
+    @BeforeEach
+    void setUp() {
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                80
+        );
+        raceTrack = new RaceTrack("raceTrack", 4, 50, 1.2, 1.1);
+    }
+
+    @DisplayName("[WB_LCM_01 - Critical]: Test per-lap deltas for weather and air temperature")
+    @ParameterizedTest(name="Test: {index}/4, weather: {0}, airTemperature: {1}")
+    @CsvSource({
+            "DRY, 25.0, 16.5, 0.024",
+            "DAMP, 25.0, 16.5, 0.0216",
+            "WET, 5.0, 17.325, 0.018",
+            "DRY, 35.0, 16.17, 0.024"
+    })
+    void deltasForConditions(RaceConditions.Weather weather, double airTemperature, double fuelPerLap, double tyreWearPerLap) {
+        RaceConditions conditions = new RaceConditions("conditions", weather, airTemperature, 30.0, 0.5);
+        LapCostModel model = new LapCostModel(raceCar, raceTrack, conditions);
+
+        assertAll(
+                () -> assertEquals(fuelPerLap, model.getFuelPerLap(), 1e-9),
+                () -> assertEquals(tyreWearPerLap, model.getTyreWearPerLap(), 1e-9)
+        );
+    }
+
+    @DisplayName("[WB_LCM_02 - Critical]: Test simulateLap applies exactly the model's deltas")
+    @Test
+    void simulateLapUsesModel() {
+        RaceConditions conditions = new RaceConditions("cold", RaceConditions.Weather.WET, 5.0, 8.0, 0.9);
+        RaceStrategyOptimiser optimiser = new RaceStrategyOptimiser(raceCar, raceTrack, conditions);
+        LapCostModel model = optimiser.getLapCostModel();
+
+        CarState state = optimiser.simulateLap(CarState.start(raceCar), raceCar, raceTrack, conditions);
+
+        assertAll(
+                () -> assertEquals(80.0 - model.getFuelPerLap(), state.getFuel()),
+                () -> assertEquals(model.getTyreWearPerLap(), state.getTyreWear())
+        );
+    }
+
+    @DisplayName("[WB_LCM_03 - Core]: Test constructor with null conditions")
+    @Test
+    void constructorWithNullConditions() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> new LapCostModel(raceCar, raceTrack, null));
+        assertEquals("RaceConditions cannot be null.", error.getMessage());
+    }
+}
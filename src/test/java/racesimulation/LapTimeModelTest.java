@@ -0,0 +1,76 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_LTM]: Test for LapTimeModel class")
+class LapTimeModelTest {
+
+    RaceCar raceCar;
+    RaceTrack raceTrack;
+
+    @BeforeEach
+    void setUp() {
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                80
+        );
+        raceTrack = new RaceTrack("raceTrack", 4, 50, 1.0, 1.0);
+    }
+
+    @DisplayName("[WB_LTM_01 - Critical]: Test the clean lap time from straights, corners and acceleration")
+    @Test
+    void cleanLapTime() {
+        LapTimeModel model = new LapTimeModel(raceCar, raceTrack);
+
+        // Top speed 305 km/h, cornering rating 100, 0-100 km/h in 9 s
+        double straights = 4 * 0.6 / 305.0 * 3600.0;
+        double corners = 4 * 0.4 / (305.0 * 0.8) * 3600.0;
+        double acceleration = 4 * 3.0 * 0.1 * 9.0;
+        assertEquals(straights + corners + acceleration, model.getCleanLapTime(), 1e-9);
+    }
+
+    @DisplayName("[WB_LTM_02 - Critical]: Test fuel load and tyre wear slow the lap")
+    @Test
+    void fuelAndWearSlowTheLap() {
+        LapTimeModel model = new LapTimeModel(raceCar, raceTrack);
+        double clean = model.getCleanLapTime();
+
+        assertAll(
+                () -> assertEquals(clean, model.lapTime(0.0, 0.0), 1e-12),
+                () -> assertEquals(clean + 80 * 4 * 0.006, model.lapTime(80.0, 0.0), 1e-9),
+                () -> assertEquals(clean * 1.05, model.lapTime(0.0, 1.0), 1e-9),
+                () -> assertTrue(model.lapTime(40.0, 0.5) > model.lapTime(20.0, 0.5)),
+                () -> assertTrue(model.lapTime(40.0, 0.5) > model.lapTime(40.0, 0.2))
+        );
+    }
+
+    @DisplayName("[WB_LTM_03 - Core]: Test faster cars lap quicker")
+    @Test
+    void fasterCarsLapQuicker() {
+        RaceCar slowCornering = new RaceCar(raceCar.getEngine(), new Tyres("hard", 1, 0.02, 15.0, 20.0),
+                new AerodynamicKit("lowDownforce", 600, 600, 300, 2.0, 2), 900, 80);
+        RaceCar heavy = new RaceCar(raceCar.getEngine(), raceCar.getTyres(), raceCar.getAeroKit(), 1000, 80);
+        double lapTime = new LapTimeModel(raceCar, raceTrack).getCleanLapTime();
+
+        assertAll(
+                () -> assertTrue(new LapTimeModel(slowCornering, raceTrack).getCleanLapTime() > lapTime),
+                () -> assertTrue(new LapTimeModel(heavy, raceTrack).getCleanLapTime() > lapTime)
+        );
+    }
+
+    @DisplayName("[WB_LTM_04 - Additional]: Test constructor with null params")
+    @Test
+    void constructorWithNullParams() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new LapTimeModel(null, raceTrack)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new LapTimeModel(raceCar, null))
+        );
+    }
+}
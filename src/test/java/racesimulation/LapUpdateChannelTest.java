@@ -0,0 +1,75 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_LUC]: Test for LapUpdateChannel class")
+class LapUpdateChannelTest {
+
+    LapUpdateChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        channel = new LapUpdateChannel(3);
+    }
+
+    private static LapResult lap(int lapNumber, String pitReason) {
+        return new LapResult(lapNumber, 10, 50.0 - lapNumber, lapNumber / 10.0, pitReason,
+                pitReason != null ? 80.0 : 50.0 - lapNumber, pitReason != null ? 0.0 : lapNumber / 10.0);
+    }
+
+    @DisplayName("[WB_LUC_01 - Critical]: Test drain with nothing published")
+    @Test
+    void drainEmpty() {
+        assertNull(channel.drain());
+    }
+
+    @DisplayName("[WB_LUC_02 - Critical]: Test drain merges laps and keeps the latest state")
+    @Test
+    void drainMergesLaps() {
+        long before = System.nanoTime();
+        channel.publish(lap(1, null));
+        long afterFirst = System.nanoTime();
+        channel.publish(lap(2, null));
+
+        LapUpdateChannel.Snapshot snapshot = channel.drain();
+
+        assertAll(
+                () -> assertTrue(snapshot.getFirstPublishedNanos() - before >= 0),
+                () -> assertTrue(afterFirst - snapshot.getFirstPublishedNanos() >= 0),
+                () -> assertEquals(2, snapshot.getLaps().size()),
+                () -> assertEquals(2, snapshot.getLatestLap().getLapNumber()),
+                () -> assertEquals(0, snapshot.getDroppedLaps()),
+                () -> assertNull(channel.drain())
+        );
+    }
+
+    @DisplayName("[WB_LUC_03 - Critical]: Test the log is bounded but pit stops are kept")
+    @Test
+    void boundedLogKeepsPitStops() {
+        channel.publish(lap(1, "Fuel"));
+        for (int lap = 2; lap <= 6; lap++) {
+            channel.publish(lap(lap, null));
+        }
+
+        LapUpdateChannel.Snapshot snapshot = channel.drain();
+
+        assertAll(
+                () -> assertEquals(3, snapshot.getLaps().size()),
+                () -> assertEquals(4, snapshot.getLaps().get(0).getLapNumber()),
+                () -> assertEquals(3, snapshot.getDroppedLaps()),
+                () -> assertEquals(1, snapshot.getPitStops().size()),
+                () -> assertEquals("Fuel", snapshot.getPitStops().get(0).getPitReason()),
+                () -> assertEquals(6, snapshot.getLatestLap().getLapNumber())
+        );
+    }
+
+    @DisplayName("[WB_LUC_04 - Core]: Test constructor with non-positive capacity")
+    @Test
+    void constructorWithInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LapUpdateChannel(0));
+    }
+}
@@ -0,0 +1,109 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_LHG]: Test for LatencyHistogram class")
+class LatencyHistogramTest {
+
+    LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @DisplayName("[WB_LHG_01 - Critical]: Test percentiles are within the bucket precision")
+    @Test
+    void percentilesWithinPrecision() {
+        for (long micros = 1; micros <= 10000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        assertAll(
+                () -> assertEquals(10000, histogram.getCount()),
+                () -> assertEquals(5000.5e3, histogram.getMeanNanos(), 1e-6),
+                () -> assertEquals(10_000_000, histogram.getMaxNanos()),
+                () -> assertEquals(5_000_000, histogram.getPercentileNanos(0.50), 5_000_000 / 32.0),
+                () -> assertEquals(9_900_000, histogram.getPercentileNanos(0.99), 9_900_000 / 32.0),
+                () -> assertTrue(histogram.getPercentileNanos(0.50) >= 5_000_000),
+                () -> assertEquals(1000, histogram.getPercentileNanos(0.0), 1000 / 32.0),
+                () -> assertEquals(10_000_000, histogram.getPercentileNanos(1.0))
+        );
+    }
+
+    @DisplayName("[WB_LHG_02 - Critical]: Test bucket indices are contiguous and cover their values")
+    @Test
+    void bucketsAreContiguous() {
+        long[] values = {0, 1, 63, 64, 65, 127, 128, 1000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(value <= LatencyHistogram.bucketUpperBound(index), "value " + value);
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.bucketUpperBound(index - 1), "value " + value);
+            }
+        }
+        for (int index = 1; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            assertEquals(index, LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(index - 1) + 1));
+        }
+        assertAll(
+                () -> assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE)),
+                () -> assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1))
+        );
+    }
+
+    @DisplayName("[WB_LHG_03 - Core]: Test concurrent recording keeps every value")
+    @Test
+    void concurrentRecording() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 25000; i++) {
+                        histogram.record(i % 100);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertAll(
+                () -> assertEquals(100000, histogram.getCount()),
+                () -> assertEquals(49.5, histogram.getMeanNanos(), 1e-9),
+                () -> assertEquals(99, histogram.getMaxNanos())
+        );
+    }
+
+    @DisplayName("[WB_LHG_04 - Additional]: Test an empty or reset histogram and invalid fractions")
+    @Test
+    void emptyResetAndInvalid() {
+        histogram.record(-5);
+        histogram.record(2000);
+        long zeroPercentile = histogram.getPercentileNanos(0.0);
+        histogram.reset();
+
+        assertAll(
+                () -> assertEquals(0, zeroPercentile),
+                () -> assertEquals(0, histogram.getCount()),
+                () -> assertEquals(0.0, histogram.getMeanNanos()),
+                () -> assertEquals(0, histogram.getMaxNanos()),
+                () -> assertEquals(0, histogram.getPercentileNanos(0.99)),
+                () -> assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(1.5)),
+                () -> assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(Double.NaN))
+        );
+    }
+}
@@ -0,0 +1,353 @@
+package racesimulation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_LSP]: Test for LiveStrategyPlanner class")
+class LiveStrategyPlannerTest {
+
+    RaceCar raceCar;
+    RaceTrack raceTrack;
+    RaceConditions raceConditions;
+    ExecutorService worker;
+
+    @BeforeEach
+    void setUp() {
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("soft", 95, 0.15, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 8.0, 2),
+                900,
+                60
+        );
+        raceTrack = new RaceTrack("raceTrack", 4, 40, 1.0, 1.0);
+        raceConditions = new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0);
+        worker = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Runs every task on the calling thread, so each lap's plan is ready before the next lap.
+     */
+    private static class DirectExecutor extends AbstractExecutorService {
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    private static class RecordingListener implements RaceListener {
+        final List<LapResult> laps = new ArrayList<>();
+
+        @Override
+        public void lapCompleted(LapResult result) {
+            laps.add(result);
+        }
+    }
+
+    /**
+     * Holds the computation from the race start until its worker is interrupted, then lets it plan,
+     * recording whether the planner gave up. Computations from later laps run straight through.
+     */
+    private static class HeldLiveStrategyPlanner extends LiveStrategyPlanner {
+        final CountDownLatch held = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+
+        HeldLiveStrategyPlanner(PitStrategyPlanner planner, ExecutorService worker) {
+            super(planner, worker);
+        }
+
+        HeldLiveStrategyPlanner(PitStrategyPlanner planner) {
+            super(planner);
+        }
+
+        @Override
+        PitStrategy plan(int completedLaps, double fuel, double tyreWear, Tyres tyres) {
+            if (completedLaps > 0) {
+                return super.plan(completedLaps, fuel, tyreWear, tyres);
+            }
+            held.countDown();
+            try {
+                new CountDownLatch(1).await(5, TimeUnit.SECONDS); // Only an interrupt ends this early
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt(); // Keep the status for the planner to see
+            }
+            try {
+                return super.plan(completedLaps, fuel, tyreWear, tyres);
+            } catch (CancellationException ex) {
+                cancelled.countDown();
+                throw ex;
+            }
+        }
+    }
+
+    @DisplayName("[WB_LSP_01 - Critical]: Test the engine takes its pit stops from the live plan")
+    @Test
+    void engineFollowsLivePlan() {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of());
+        PitStrategy initialPlan = planner.planFrom(0, 60, 0.0, raceCar.getTyres());
+        LiveStrategyPlanner liveStrategy = new LiveStrategyPlanner(planner, new DirectExecutor());
+        RecordingListener listener = new RecordingListener();
+        RaceEngine raceEngine = new RaceEngine(raceCar, raceTrack, raceConditions,
+                new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions), listener);
+        raceEngine.setLiveStrategy(liveStrategy);
+
+        int pitStops = raceEngine.run();
+
+        // The same race on the threshold rule alone refills to a full tank at every stop
+        RaceCar thresholdCar = new RaceCar(raceCar.getEngine(), raceCar.getTyres(), raceCar.getAeroKit(), 900, 60);
+        RaceEngine thresholdEngine = new RaceEngine(thresholdCar, raceTrack, raceConditions,
+                new RaceStrategyOptimiser(thresholdCar, raceTrack, raceConditions), new RecordingListener());
+        thresholdEngine.run();
+
+        assertAll(
+                () -> assertEquals(initialPlan.getPitStops().size(), pitStops),
+                () -> assertEquals(40, liveStrategy.getCurrentPlan().getCompletedLaps() + 1),
+                () -> assertEquals(0.0, raceEngine.getState().getFuel(), 1e-3),
+                () -> assertTrue(thresholdEngine.getState().getFuel() > raceEngine.getState().getFuel()),
+                () -> assertTrue(listener.laps.stream().filter(LapResult::isPitStop)
+                        .allMatch(lap -> lap.getFuelAfterPit() <= 60))
+        );
+    }
+
+    @DisplayName("[WB_LSP_02 - Critical]: Test a newer lap state supersedes a stale computation")
+    @Test
+    void newerLapSupersedesStaleComputation() throws Exception {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of());
+        LiveStrategyPlanner liveStrategy = new LiveStrategyPlanner(planner, worker);
+
+        // Hold the worker so both requests queue up behind it
+        CountDownLatch release = new CountDownLatch(1);
+        worker.submit(() -> {
+            release.await();
+            return null;
+        });
+        liveStrategy.lapCompleted(new LapResult(1, 40, 54, 0.15, null, 54, 0.15));
+        liveStrategy.lapCompleted(new LapResult(2, 40, 48, 0.30, null, 48, 0.30));
+        release.countDown();
+        worker.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+        LiveStrategyPlanner.LivePlan plan = liveStrategy.getCurrentPlan();
+        assertAll(
+                () -> assertEquals(2, plan.getCompletedLaps()),
+                () -> assertEquals(48, plan.getStrategy().getStartingFuel()),
+                () -> assertEquals(planner.planFrom(2, 48, 0.30, raceCar.getTyres()).getTotalRaceTime(),
+                        plan.getStrategy().getTotalRaceTime(), 1e-9)
+        );
+    }
+
+    @DisplayName("[WB_LSP_03 - Core]: Test plans made before an unplanned stop are not followed")
+    @Test
+    void unplannedStopInvalidatesPlan() throws Exception {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of());
+        LiveStrategyPlanner liveStrategy = new LiveStrategyPlanner(planner, worker);
+        liveStrategy.raceStarted(raceCar, raceTrack, raceConditions);
+        worker.submit(() -> null).get(5, TimeUnit.SECONDS);
+        int firstStopLap = liveStrategy.getCurrentPlan().getNextPitStop().getLap();
+
+        // A stop the plan did not make, while the worker is still busy
+        CountDownLatch release = new CountDownLatch(1);
+        worker.submit(() -> {
+            release.await();
+            return null;
+        });
+        liveStrategy.lapCompleted(new LapResult(1, 40, 54, 0.15, "Tyres", 54, 0.0));
+        PitStop staleStop = liveStrategy.takePlannedStop(firstStopLap);
+        release.countDown();
+        worker.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+        LiveStrategyPlanner.LivePlan plan = liveStrategy.getCurrentPlan();
+        assertAll(
+                () -> assertNull(staleStop),
+                () -> assertEquals(1, plan.getCompletedLaps()),
+                () -> assertNotNull(liveStrategy.takePlannedStop(plan.getNextPitStop().getLap())),
+                () -> assertNull(liveStrategy.takePlannedStop(1))
+        );
+    }
+
+    @DisplayName("[WB_LSP_04 - Additional]: Test invalid arguments")
+    @Test
+    void invalidArguments() {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of());
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new LiveStrategyPlanner(null, worker)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new LiveStrategyPlanner(planner, null)),
+                () -> assertNull(new LiveStrategyPlanner(planner, worker).getCurrentPlan())
+        );
+    }
+
+    @DisplayName("[WB_LSP_05 - Critical]: Test the engine fits the compounds of a multi-compound plan")
+    @Test
+    void engineFitsPlannedCompounds() {
+        Tyres hardTyres = new Tyres("hard", 90, 0.05, 15.0, 20.0); // Nearly as quick, lasts three times as long
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of(hardTyres));
+        PitStrategy initialPlan = planner.planFrom(0, 60, 0.0, raceCar.getTyres());
+        LiveStrategyPlanner liveStrategy = new LiveStrategyPlanner(planner, new DirectExecutor());
+        RecordingListener listener = new RecordingListener();
+        RaceEngine raceEngine = new RaceEngine(raceCar, raceTrack, raceConditions,
+                new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions), listener);
+        raceEngine.setLiveStrategy(liveStrategy);
+
+        int pitStops = raceEngine.run();
+
+        List<Integer> plannedLaps = new ArrayList<>();
+        for (PitStop pitStop : initialPlan.getPitStops()) {
+            plannedLaps.add(pitStop.getLap());
+        }
+        List<Integer> takenLaps = new ArrayList<>();
+        for (LapResult lap : listener.laps) {
+            if (lap.isPitStop()) {
+                takenLaps.add(lap.getLapNumber());
+            }
+        }
+        RaceCar hardCar = new RaceCar(raceCar.getEngine(), hardTyres, raceCar.getAeroKit(), 900, 60);
+        double hardWearPerLap = new LapCostModel(hardCar, raceTrack, raceConditions).getTyreWearPerLap();
+        int lastStintLaps = 40 - takenLaps.get(takenLaps.size() - 1);
+        assertAll(
+                () -> assertTrue(initialPlan.getPitStops().stream().allMatch(stop -> stop.getTyres() == hardTyres)),
+                () -> assertEquals(plannedLaps, takenLaps),
+                () -> assertEquals(initialPlan.getPitStops().size(), pitStops),
+                () -> assertSame(hardTyres, raceEngine.getFittedTyres()),
+                () -> assertEquals(lastStintLaps * hardWearPerLap, listener.laps.get(39).getTyreWearAfterLap(), 1e-9),
+                () -> assertSame(hardTyres, liveStrategy.getCurrentPlan().getStrategy().getStartingTyres())
+        );
+    }
+
+    @DisplayName("[WB_LSP_06 - Core]: Test a newer lap state interrupts a computation already running")
+    @Test
+    void newerLapInterruptsRunningComputation() throws Exception {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of());
+        HeldLiveStrategyPlanner liveStrategy = new HeldLiveStrategyPlanner(planner, worker);
+
+        // Hold the worker inside the plan from the start, then supersede it
+        liveStrategy.raceStarted(raceCar, raceTrack, raceConditions);
+        assertTrue(liveStrategy.held.await(5, TimeUnit.SECONDS));
+        liveStrategy.lapCompleted(new LapResult(1, 40, 54, 0.15, null, 54, 0.15));
+        worker.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertEquals(0, liveStrategy.cancelled.getCount()),
+                () -> assertEquals(1, liveStrategy.getCurrentPlan().getCompletedLaps())
+        );
+    }
+
+    @DisplayName("[WB_LSP_07 - Core]: Test each session re-plans on its own worker")
+    @Test
+    void sessionsPlanOnTheirOwnWorkers() throws Exception {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of());
+        HeldLiveStrategyPlanner heldSession = new HeldLiveStrategyPlanner(planner);
+        CountDownLatch planned = new CountDownLatch(1);
+        LiveStrategyPlanner otherSession = new LiveStrategyPlanner(planner) {
+            @Override
+            PitStrategy plan(int completedLaps, double fuel, double tyreWear, Tyres tyres) {
+                PitStrategy strategy = super.plan(completedLaps, fuel, tyreWear, tyres);
+                planned.countDown();
+                return strategy;
+            }
+        };
+        try {
+            // One session's computation is held; the other's must still run
+            heldSession.raceStarted(raceCar, raceTrack, raceConditions);
+            assertTrue(heldSession.held.await(5, TimeUnit.SECONDS));
+            otherSession.raceStarted(raceCar, raceTrack, raceConditions);
+
+            assertAll(
+                    () -> assertTrue(planned.await(5, TimeUnit.SECONDS)),
+                    () -> assertEquals(1, heldSession.cancelled.getCount())
+            );
+        } finally {
+            heldSession.close();
+            otherSession.close();
+        }
+        // Closing stops the held computation as well
+        assertTrue(heldSession.cancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("[WB_LSP_08 - Critical]: Test a planned short fill is never followed by a forced fuel stop")
+    @Test
+    void plannedShortFillIsNotOverridden() {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        List<String> overridden = new ArrayList<>();
+        int shortFills = 0;
+        for (Engine engine : assetProvider.getEngineVariations()) {
+            for (Tyres tyres : assetProvider.getTyreVariations()) {
+                for (RaceTrack track : assetProvider.getTrackVariations()) {
+                    for (RaceConditions conditions : assetProvider.getConditionVariations()) {
+                        RaceCar car = new RaceCar(engine, tyres, assetProvider.getAeroKitVariations().get(0), 1000.0, 70.0);
+                        PitStrategyPlanner planner = new PitStrategyPlanner(car, track, conditions, List.of());
+                        RecordingListener listener = new RecordingListener();
+                        RaceEngine raceEngine = new RaceEngine(car, track, conditions,
+                                new RaceStrategyOptimiser(car, track, conditions), listener);
+                        raceEngine.setLiveStrategy(new LiveStrategyPlanner(planner, new DirectExecutor()));
+                        raceEngine.run();
+
+                        for (LapResult lap : listener.laps) {
+                            if (!lap.isPitStop()) {
+                                continue;
+                            }
+                            if (lap.getFuelAfterPit() < 70.0) {
+                                shortFills++;
+                            }
+                            // A planned stop fits fresh tyres, so a fuel-only reason means the threshold rule stopped
+                            if ("Fuel".equals(lap.getPitReason()) || lap.getFuelAfterPit() == 70.0) {
+                                overridden.add(engine.getName() + "/" + tyres.getCompound() + "/" + track.getName()
+                                        + "/" + conditions.getName() + " lap " + lap.getLapNumber());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        int plannedShortFills = shortFills;
+        assertAll(
+                () -> assertTrue(plannedShortFills > 0),
+                () -> assertEquals(List.of(), overridden)
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_MCS]: Test for MonteCarloSimulator class")
+class MonteCarloSimulatorTest {
+
+    RaceTrack raceTrack;
+    Tyres tyres;
+    AerodynamicKit aeroKit;
+
+    @BeforeEach
+    void setUp() {
+        raceTrack = new RaceTrack("raceTrack", 4, 50, 1.0, 1.0);
+        tyres = new Tyres("medium", 85, 0.02, 15.0, 20.0);
+        aeroKit = new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8);
+    }
+
+    private RaceCar carWithReliability(double reliability) {
+        return new RaceCar(new Engine("engine", 500, 2.0, reliability), tyres, aeroKit, 900, 80);
+    }
+
+    @DisplayName("[WB_MCS_01 - Critical]: Test a perfectly reliable car in dry conditions is deterministic")
+    @Test
+    void deterministicWithoutRandomness() {
+        RaceConditions still = new RaceConditions("still", RaceConditions.Weather.DRY, 25, 30.0, 0.0);
+        RaceCar raceCar = carWithReliability(1.0);
+        MonteCarloSimulator simulator = new MonteCarloSimulator(raceCar, raceTrack, still);
+
+        RaceOutcomeStatistics statistics = simulator.run(1000, 42L);
+
+        // The planned strategy timed by the lap time model, including its 9 pit stops
+        RaceStrategyOptimiser raceOptimiser = new RaceStrategyOptimiser(carWithReliability(1.0), raceTrack, still);
+        List<Integer> pitStopLaps = raceOptimiser.planPitStops();
+        double expected = raceOptimiser.calculateRaceTime(pitStopLaps);
+        assertAll(
+                () -> assertEquals(0, statistics.getDnfCount()),
+                () -> assertEquals(9, pitStopLaps.size()),
+                () -> assertEquals(expected, statistics.getMeanFinishTime(), 1e-6),
+                () -> assertEquals(expected, statistics.getP50FinishTime(), 1e-6),
+                () -> assertEquals(expected, statistics.getP95FinishTime(), 1e-6)
+        );
+    }
+
+    @DisplayName("[WB_MCS_02 - Critical]: Test the DNF rate follows the engine reliability")
+    @ParameterizedTest(name="Test: {index}/3, reliability: {0}")
+    @ValueSource(doubles = {0.99, 0.88, 0.5})
+    void dnfRateFollowsReliability(double reliability) {
+        RaceConditions dry = new RaceConditions("dry", RaceConditions.Weather.DRY, 25, 30.0, 0.3);
+        MonteCarloSimulator simulator = new MonteCarloSimulator(carWithReliability(reliability), raceTrack, dry);
+
+        RaceOutcomeStatistics statistics = simulator.run(100_000, 7L);
+
+        assertEquals(1.0 - reliability, statistics.getDnfRate(), 0.01);
+    }
+
+    @DisplayName("[WB_MCS_03 - Critical]: Test humidity spreads the finish times")
+    @Test
+    void humiditySpreadsFinishTimes() {
+        RaceConditions wet = new RaceConditions("wet", RaceConditions.Weather.WET, 15, 18.0, 0.9);
+        MonteCarloSimulator simulator = new MonteCarloSimulator(carWithReliability(1.0), raceTrack, wet);
+
+        RaceOutcomeStatistics statistics = simulator.run(10_000, 3L);
+
+        assertAll(
+                () -> assertTrue(statistics.getP95FinishTime() > statistics.getP50FinishTime()),
+                () -> assertEquals(statistics.getP50FinishTime(), statistics.getMeanFinishTime(), statistics.getMeanFinishTime() * 0.01)
+        );
+    }
+
+    @DisplayName("[WB_MCS_04 - Core]: Test the same seed gives the same statistics")
+    @Test
+    void sameSeedSameResult() {
+        RaceConditions damp = new RaceConditions("damp", RaceConditions.Weather.DAMP, 20, 25.0, 0.6);
+        MonteCarloSimulator simulator = new MonteCarloSimulator(carWithReliability(0.9), raceTrack, damp);
+
+        RaceOutcomeStatistics first = simulator.run(20_000, 11L);
+        RaceOutcomeStatistics second = simulator.run(20_000, 11L);
+
+        assertAll(
+                () -> assertEquals(first.getDnfCount(), second.getDnfCount()),
+                () -> assertEquals(first.getMeanFinishTime(), second.getMeanFinishTime()),
+                () -> assertEquals(first.getP95FinishTime(), second.getP95FinishTime())
+        );
+    }
+
+    @DisplayName("[WB_MCS_05 - Core]: Test run with non-positive race count")
+    @Test
+    void runWithInvalidRaceCount() {
+        RaceConditions dry = new RaceConditions("dry", RaceConditions.Weather.DRY, 25, 30.0, 0.3);
+        MonteCarloSimulator simulator = new MonteCarloSimulator(carWithReliability(1.0), raceTrack, dry);
+
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(0, 1L));
+    }
+}
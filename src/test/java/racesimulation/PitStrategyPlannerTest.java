@@ -0,0 +1,328 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_PSP]: Test for PitStrategyPlanner class")
+class PitStrategyPlannerTest {
+
+    RaceCar raceCar;
+    Tyres softTyres;
+    Tyres hardTyres;
+    RaceTrack raceTrack;
+    RaceConditions raceConditions;
+
+    @BeforeEach
+    void setUp() {
+        // 6 L per lap, so a 60 L tank lasts 10 laps
+        softTyres = new Tyres("soft", 95, 0.15, 15.0, 20.0);   // Quick, lasts 6 laps
+        hardTyres = new Tyres("hard", 1, 0.05, 15.0, 20.0);    // Slow in the corners, lasts 16 laps
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                softTyres,
+                new AerodynamicKit("kitname", 600, 600, 300, 8.0, 2),
+                900,
+                60
+        );
+        raceTrack = new RaceTrack("raceTrack", 4, 12, 1.0, 1.0);
+        raceConditions = new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0);
+    }
+
+    /**
+     * Times every set of pit laps with every compound at every stop, each stint fuelled for exactly its laps,
+     * and returns the fastest feasible race time.
+     */
+    private double exhaustiveBestTime(PitStrategyPlanner planner) {
+        int totalLaps = raceTrack.getNumberOfLaps();
+        double bestTime = Double.POSITIVE_INFINITY;
+        for (int pitMask = 0; pitMask < 1 << (totalLaps - 1); pitMask++) {
+            List<Integer> stintEnds = new ArrayList<>();
+            for (int lap = 1; lap < totalLaps; lap++) {
+                if ((pitMask & 1 << (lap - 1)) != 0) {
+                    stintEnds.add(lap);
+                }
+            }
+            stintEnds.add(totalLaps);
+            double[] stintFuel = new double[stintEnds.size()];
+            for (int i = 0, lap = 1; i < stintEnds.size(); i++) {
+                for (; lap <= stintEnds.get(i); lap++) {
+                    stintFuel[i] += planner.getFuelPerLap(lap);
+                }
+            }
+            for (int compoundMask = 0; compoundMask < 1 << (stintEnds.size() - 1); compoundMask++) {
+                List<PitStop> pitStops = new ArrayList<>();
+                for (int i = 1; i < stintEnds.size(); i++) {
+                    Tyres tyres = (compoundMask & 1 << (i - 1)) != 0 ? hardTyres : softTyres;
+                    pitStops.add(new PitStop(stintEnds.get(i - 1), stintFuel[i], tyres));
+                }
+                try {
+                    bestTime = Math.min(bestTime, planner.calculateRaceTime(new PitStrategy(stintFuel[0], softTyres, pitStops, 0.0)));
+                } catch (IllegalArgumentException infeasible) {
+                    // Runs out of fuel, over-fills the tank or overruns the tyres
+                }
+            }
+        }
+        return bestTime;
+    }
+
+    @DisplayName("[WB_PSP_01 - Critical]: Test the plan matches the fastest of every possible strategy")
+    @Test
+    void planMatchesExhaustiveSearch() {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of(softTyres, hardTyres));
+        PitStrategy strategy = planner.plan();
+
+        assertAll(
+                () -> assertEquals(exhaustiveBestTime(planner), strategy.getTotalRaceTime(), 1e-6),
+                () -> assertEquals(strategy.getTotalRaceTime(), planner.calculateRaceTime(strategy), 1e-6)
+        );
+    }
+
+    @DisplayName("[WB_PSP_02 - Critical]: Test partial refuels and compound choice beat full refills on the same tyres")
+    @Test
+    void beatsFullRefills() {
+        RaceTrack longTrack = new RaceTrack("longTrack", 4, 78, 1.0, 1.0);
+        RaceStrategyOptimiser raceOptimiser = new RaceStrategyOptimiser(raceCar, longTrack, raceConditions);
+        double fullRefillTime = raceOptimiser.calculateRaceTime(raceOptimiser.planPitStops());
+
+        PitStrategy sameTyres = raceOptimiser.optimiseStrategy(List.of());
+        PitStrategy mixed = raceOptimiser.optimiseStrategy(List.of(softTyres, hardTyres));
+
+        assertAll(
+                () -> assertTrue(sameTyres.getTotalRaceTime() < fullRefillTime),
+                () -> assertTrue(mixed.getTotalRaceTime() <= sameTyres.getTotalRaceTime()),
+                () -> assertTrue(sameTyres.getStartingFuel() <= 60),
+                () -> assertTrue(sameTyres.getPitStops().stream().allMatch(stop -> stop.getTyres() == softTyres)),
+                () -> assertTrue(sameTyres.getPitStops().stream().allMatch(stop -> stop.getFuelAdded() <= 60 + 1e-9))
+        );
+    }
+
+    @DisplayName("[WB_PSP_03 - Core]: Test the planned stints fit the tank and the tyres")
+    @Test
+    void stintsAreFeasible() {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        RaceTrack monaco = assetProvider.getTrackVariations().get(0);
+        RaceCar car = new RaceCar(assetProvider.getEngineVariations().get(0), assetProvider.getTyreVariations().get(1),
+                assetProvider.getAeroKitVariations().get(0), 1000.0, 70.0);
+        PitStrategyPlanner planner = new PitStrategyPlanner(car, monaco, assetProvider.getConditionVariations().get(0),
+                assetProvider.getTyreVariations());
+
+        PitStrategy strategy = planner.plan();
+        double totalFuel = strategy.getStartingFuel()
+                + strategy.getPitStops().stream().mapToDouble(PitStop::getFuelAdded).sum();
+
+        assertAll(
+                () -> assertEquals(car.getTyres(), strategy.getStartingTyres()),
+                () -> assertEquals(monaco.getNumberOfLaps() * planner.getFuelPerLap(1), totalFuel, 1e-6),
+                () -> assertEquals(strategy.getTotalRaceTime(), planner.calculateRaceTime(strategy), 1e-6),
+                () -> assertEquals(3, planner.getCompounds().size())
+        );
+    }
+
+    @DisplayName("[WB_PSP_04 - Core]: Test race time checks reject infeasible strategies")
+    @Test
+    void rejectsInfeasibleStrategies() {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of(hardTyres));
+        double fuelPerLap = planner.getFuelPerLap(1);
+        Tyres unknownTyres = new Tyres("wet", 50, 0.05, 15.0, 20.0);
+
+        assertAll(
+                // Not enough fuel for the race
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> planner.calculateRaceTime(new PitStrategy(60, hardTyres, List.of(), 0.0))),
+                // Starting soft tyres overrun the wear threshold
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.calculateRaceTime(new PitStrategy(
+                        60, softTyres, List.of(new PitStop(10, 2 * fuelPerLap, hardTyres)), 0.0))),
+                // Refuel over the tank capacity
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.calculateRaceTime(new PitStrategy(
+                        10 * fuelPerLap, softTyres, List.of(new PitStop(6, 7 * fuelPerLap, hardTyres)), 0.0))),
+                // Pit stop after the last lap
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.calculateRaceTime(new PitStrategy(
+                        6 * fuelPerLap, softTyres, List.of(new PitStop(6, 6 * fuelPerLap, hardTyres),
+                        new PitStop(12, fuelPerLap, hardTyres)), 0.0))),
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.calculateRaceTime(new PitStrategy(
+                        6 * fuelPerLap, softTyres, List.of(new PitStop(6, 6 * fuelPerLap, unknownTyres)), 0.0))),
+                () -> assertDoesNotThrow(() -> planner.calculateRaceTime(new PitStrategy(
+                        6 * fuelPerLap, softTyres, List.of(new PitStop(6, 6 * fuelPerLap, hardTyres)), 0.0)))
+        );
+    }
+
+    @DisplayName("[WB_PSP_05 - Additional]: Test a car that cannot finish a lap and invalid arguments")
+    @Test
+    void cannotFinishAndInvalidArguments() {
+        RaceTrack thirstyTrack = new RaceTrack("raceTrack", 4, 12, 1.0, 1000.0);
+        PitStrategyPlanner emptyRace = new PitStrategyPlanner(raceCar, new RaceTrack("raceTrack", 4, 0, 1.0, 1.0),
+                raceConditions, List.of());
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class,
+                        () -> new PitStrategyPlanner(raceCar, thirstyTrack, raceConditions, List.of()).plan()),
+                () -> assertEquals(0.0, emptyRace.plan().getTotalRaceTime()),
+                () -> assertTrue(emptyRace.plan().getPitStops().isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStrategyPlanner(null, raceTrack, raceConditions, List.of())),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStrategyPlanner(raceCar, null, raceConditions, List.of())),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStrategyPlanner(raceCar, raceTrack, (RaceConditions) null, List.of())),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStrategyPlanner(raceCar, raceTrack, (ConditionsTimeline) null, List.of())),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStrategyPlanner(raceCar, raceTrack,
+                        ConditionsTimeline.constant(raceConditions, 11), List.of())),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStrategyPlanner(raceCar, raceTrack, raceConditions, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStop(0, 10, hardTyres)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStop(5, -1, hardTyres)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStop(5, 10, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new PitStrategy(10, null, List.of(), 0.0))
+        );
+    }
+
+    @DisplayName("[WB_PSP_06 - Critical]: Test the plan follows conditions that change during the race")
+    @Test
+    void planFollowsChangingConditions() {
+        // Dry start, damp from lap 5, then wet and cold from lap 9: less wear, more fuel per lap
+        ConditionsTimeline timeline = ConditionsTimeline.constant(raceConditions, 12)
+                .withConditionsFrom(5, new RaceConditions("damp", RaceConditions.Weather.DAMP, 15, 20.0, 70.0))
+                .withConditionsFrom(9, new RaceConditions("wet", RaceConditions.Weather.WET, 5, 8.0, 90.0));
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, timeline, List.of(softTyres, hardTyres));
+        PitStrategy strategy = planner.plan();
+        double totalFuel = strategy.getStartingFuel()
+                + strategy.getPitStops().stream().mapToDouble(PitStop::getFuelAdded).sum();
+
+        assertAll(
+                () -> assertEquals(6.0, planner.getFuelPerLap(1), 1e-9),
+                () -> assertEquals(6.0 * 1.05, planner.getFuelPerLap(9), 1e-9),
+                () -> assertEquals(8 * 6.0 + 4 * 6.0 * 1.05, totalFuel, 1e-6),
+                () -> assertEquals(exhaustiveBestTime(planner), strategy.getTotalRaceTime(), 1e-6),
+                () -> assertEquals(strategy.getTotalRaceTime(), planner.calculateRaceTime(strategy), 1e-6),
+                () -> assertSame(timeline, planner.getConditionsTimeline())
+        );
+    }
+
+    @DisplayName("[WB_PSP_07 - Core]: Test re-planning only solves the laps from the first changed lap")
+    @Test
+    void replansFromFirstChangedLap() {
+        RaceTrack longTrack = new RaceTrack("longTrack", 4, 78, 1.0, 1.0);
+        ConditionsTimeline dry = ConditionsTimeline.constant(raceConditions, 78);
+        ConditionsTimeline wetFromLap40 = dry.withConditionsFrom(40,
+                new RaceConditions("wet", RaceConditions.Weather.WET, 15, 18.0, 90.0));
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, longTrack, dry, List.of(softTyres, hardTyres));
+
+        PitStrategyPlanner replanned = planner.withConditions(wetFromLap40);
+        PitStrategy incremental = replanned.plan();
+        PitStrategy full = new PitStrategyPlanner(raceCar, longTrack, wetFromLap40, List.of(softTyres, hardTyres)).plan();
+        // Renamed but identical conditions do not count as a change
+        ConditionsTimeline renamed = ConditionsTimeline.constant(
+                new RaceConditions("renamed", RaceConditions.Weather.DRY, 25, 30.0, 50.0), 78);
+
+        assertAll(
+                () -> assertEquals(78, planner.getSolvedLaps()),
+                () -> assertEquals(39, replanned.getSolvedLaps()),
+                () -> assertEquals(full.getTotalRaceTime(), incremental.getTotalRaceTime(), 1e-9),
+                () -> assertEquals(full.getPitStopLaps(), incremental.getPitStopLaps()),
+                () -> assertEquals(full.getStartingFuel(), incremental.getStartingFuel(), 1e-9),
+                () -> assertNotEquals(planner.plan().getTotalRaceTime(), incremental.getTotalRaceTime()),
+                () -> assertSame(planner, planner.withConditions(renamed)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> planner.withConditions(ConditionsTimeline.constant(raceConditions, 12)))
+        );
+    }
+
+    @DisplayName("[WB_PSP_08 - Critical]: Test planning from a state mid-race matches every possible remaining strategy")
+    @Test
+    void planFromMatchesExhaustiveSearch() {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of(softTyres, hardTyres));
+        int completedLaps = 3;
+        double fuel = 50.0; // More than the next stints need, which cannot be drained
+        double tyreWear = 0.45;
+
+        PitStrategy strategy = planner.planFrom(completedLaps, fuel, tyreWear, softTyres);
+
+        // Every set of remaining pit laps and compounds, each stop topping the fuel up to what its stint burns
+        int totalLaps = raceTrack.getNumberOfLaps();
+        double bestTime = Double.POSITIVE_INFINITY;
+        for (int pitMask = 0; pitMask < 1 << (totalLaps - completedLaps - 1); pitMask++) {
+            List<Integer> stintEnds = new ArrayList<>();
+            for (int lap = completedLaps + 1; lap < totalLaps; lap++) {
+                if ((pitMask & 1 << (lap - completedLaps - 1)) != 0) {
+                    stintEnds.add(lap);
+                }
+            }
+            stintEnds.add(totalLaps);
+            for (int compoundMask = 0; compoundMask < 1 << (stintEnds.size() - 1); compoundMask++) {
+                List<PitStop> pitStops = new ArrayList<>();
+                double fuelLeft = fuel;
+                int lap = completedLaps + 1;
+                for (int i = 0; i < stintEnds.size(); i++) {
+                    double stintFuel = 0.0;
+                    for (; lap <= stintEnds.get(i); lap++) {
+                        stintFuel += planner.getFuelPerLap(lap);
+                    }
+                    if (i > 0) {
+                        Tyres tyres = (compoundMask & 1 << (i - 1)) != 0 ? hardTyres : softTyres;
+                        pitStops.add(new PitStop(stintEnds.get(i - 1), Math.max(0.0, stintFuel - fuelLeft), tyres));
+                        fuelLeft = Math.max(fuelLeft, stintFuel);
+                    }
+                    fuelLeft -= stintFuel;
+                }
+                try {
+                    bestTime = Math.min(bestTime, planner.calculateRaceTimeFrom(completedLaps, tyreWear,
+                            new PitStrategy(fuel, softTyres, pitStops, 0.0)));
+                } catch (IllegalArgumentException infeasible) {
+                    // Runs out of fuel or overruns the tyres
+                }
+            }
+        }
+
+        double exhaustiveBest = bestTime;
+        assertAll(
+                () -> assertEquals(exhaustiveBest, strategy.getTotalRaceTime(), 1e-6),
+                () -> assertEquals(strategy.getTotalRaceTime(), planner.calculateRaceTimeFrom(completedLaps, tyreWear, strategy), 1e-6),
+                () -> assertEquals(fuel, strategy.getStartingFuel()),
+                () -> assertTrue(strategy.getPitStops().get(0).getLap() > completedLaps)
+        );
+    }
+
+    @DisplayName("[WB_PSP_09 - Core]: Test planning from the start with the planned fuel gives the planned strategy")
+    @Test
+    void planFromStartMatchesPlan() {
+        RaceTrack longTrack = new RaceTrack("longTrack", 4, 78, 1.0, 1.0);
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, longTrack, raceConditions, List.of(softTyres, hardTyres));
+        PitStrategy plan = planner.plan();
+
+        PitStrategy fromStart = planner.planFrom(0, plan.getStartingFuel(), 0.0, softTyres);
+        PitStrategy finished = planner.planFrom(78, 10.0, 0.5, softTyres);
+
+        assertAll(
+                () -> assertEquals(plan.getTotalRaceTime(), fromStart.getTotalRaceTime(), 1e-6),
+                () -> assertTrue(planner.planFrom(0, 60.0, 0.0, softTyres).getTotalRaceTime() >= plan.getTotalRaceTime()),
+                () -> assertEquals(0.0, finished.getTotalRaceTime()),
+                () -> assertTrue(finished.getPitStops().isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.planFrom(-1, 10.0, 0.0, softTyres)),
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.planFrom(79, 10.0, 0.0, softTyres)),
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.planFrom(10, 61.0, 0.0, softTyres)),
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.planFrom(10, 10.0, 1.5, softTyres)),
+                () -> assertThrows(IllegalArgumentException.class, () -> planner.planFrom(10, 10.0, 0.0, null))
+        );
+    }
+
+    @DisplayName("[WB_PSP_10 - Core]: Test planning on an interrupted thread stops and keeps the interrupt")
+    @Test
+    void planFromStopsWhenInterrupted() {
+        PitStrategyPlanner planner = new PitStrategyPlanner(raceCar, raceTrack, raceConditions, List.of(hardTyres));
+
+        Thread.currentThread().interrupt();
+        boolean interruptKept;
+        try {
+            assertThrows(CancellationException.class, () -> planner.planFrom(0, 60.0, 0.0, softTyres));
+        } finally {
+            interruptKept = Thread.interrupted(); // Clears it for the next test
+        }
+
+        assertTrue(interruptKept);
+        assertEquals(planner.plan().getPitStops().size(),
+                planner.planFrom(0, planner.plan().getStartingFuel(), 0.0, softTyres).getPitStops().size());
+    }
+}
@@ -0,0 +1,111 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_RMC]: Test for RaceCarMetricsCache class")
+class RaceCarMetricsCacheTest {
+
+    RaceCarMetricsCache cache;
+    Engine engine;
+    Tyres tyres;
+    AerodynamicKit aeroKit;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RaceCarMetricsCache(RaceCarMetricsCache.DEFAULT_MAX_ENTRIES);
+        engine = new Engine("Standard V6", 300, 7.5, 0.95);
+        tyres = new Tyres("Soft Compound", 95, 0.15, 80, 100);
+        aeroKit = new AerodynamicKit("Standard Kit", 0.30, 200, 250, 12, 6);
+    }
+
+    @DisplayName("[WB_RMC_01 - Critical]: Test the same components share one metrics instance")
+    @Test
+    void sameComponentsShareMetrics() {
+        RaceCarMetrics first = cache.get(engine, tyres, aeroKit, 900.0);
+        RaceCarMetrics second = cache.get(engine, tyres, aeroKit, 900.0);
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertEquals(1, cache.getMissCount()),
+                () -> assertEquals(1, cache.getHitCount()),
+                () -> assertEquals(1, cache.size())
+        );
+    }
+
+    @DisplayName("[WB_RMC_02 - Critical]: Test different weights get their own metrics")
+    @Test
+    void differentWeightsMiss() {
+        RaceCarMetrics light = cache.get(engine, tyres, aeroKit, 900.0);
+        RaceCarMetrics heavy = cache.get(engine, tyres, aeroKit, 1100.0);
+
+        assertAll(
+                () -> assertNotSame(light, heavy),
+                () -> assertEquals(2, cache.getMissCount()),
+                () -> assertEquals(0, cache.getHitCount()),
+                () -> assertTrue(light.getAccelerationTime0To100() < heavy.getAccelerationTime0To100())
+        );
+    }
+
+    @DisplayName("[WB_RMC_03 - Critical]: Test cached metrics match a RaceCar's metrics")
+    @Test
+    void metricsMatchRaceCar() {
+        RaceCar raceCar = new RaceCar(engine, tyres, aeroKit, 1000.0, 70.0);
+        RaceCarMetrics metrics = cache.get(engine, tyres, aeroKit, 1000.0);
+
+        assertAll(
+                () -> assertEquals(raceCar.getTopSpeed(), metrics.getTopSpeed()),
+                () -> assertEquals(raceCar.getAccelerationTime0To100(), metrics.getAccelerationTime0To100()),
+                () -> assertEquals(raceCar.getAccelerationProfile(), metrics.getAccelerationProfile()),
+                () -> assertEquals(raceCar.getHandlingRating(), metrics.getHandlingRating()),
+                () -> assertEquals(raceCar.getCorneringAbilityRating(), metrics.getCorneringAbilityRating()),
+                () -> assertEquals(raceCar.getBaseFuelConsumptionPerLap(), metrics.getBaseFuelConsumptionPerLap())
+        );
+    }
+
+    @DisplayName("[WB_RMC_04 - Core]: Test RaceCars with the same components share metrics")
+    @Test
+    void raceCarsShareMetrics() {
+        RaceCar first = new RaceCar(engine, tyres, aeroKit, 900.0, 60.0);
+        RaceCar second = new RaceCar(engine, tyres, aeroKit, 900.0, 80.0);
+
+        assertSame(first.getMetrics(), second.getMetrics());
+    }
+
+    @DisplayName("[WB_RMC_05 - Core]: Test clear resets entries and counts")
+    @Test
+    void clearResets() {
+        cache.get(engine, tyres, aeroKit, 900.0);
+        cache.get(engine, tyres, aeroKit, 900.0);
+        cache.clear();
+
+        assertAll(
+                () -> assertEquals(0, cache.size()),
+                () -> assertEquals(0, cache.getHitCount()),
+                () -> assertEquals(0, cache.getMissCount())
+        );
+    }
+
+    @DisplayName("[WB_RMC_06 - Core]: Test the cache is bounded and keeps recently used metrics")
+    @Test
+    void boundedKeepingRecentlyUsed() {
+        RaceCarMetricsCache smallCache = new RaceCarMetricsCache(32); // Two entries per segment
+        RaceCarMetrics kept = smallCache.get(engine, tyres, aeroKit, 900.0);
+        for (int i = 0; i < 200; i++) {
+            // Touch the first metrics before every insert so they are never the least recently used
+            smallCache.get(engine, tyres, aeroKit, 900.0);
+            smallCache.get(new Engine("Standard V6", 300, 7.5, 0.95), tyres, aeroKit, 900.0);
+        }
+
+        assertAll(
+                () -> assertTrue(smallCache.size() <= 32),
+                () -> assertEquals(201 - smallCache.size(), smallCache.getEvictionCount()),
+                () -> assertEquals(200, smallCache.getHitCount()),
+                () -> assertSame(kept, smallCache.get(engine, tyres, aeroKit, 900.0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new RaceCarMetricsCache(15))
+        );
+    }
+}
@@ -3,8 +3,6 @@ package racesimulation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.CsvSource;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -71,9 +69,7 @@ class RaceCarTest {
     public void testConstructorOtherParameters() {
         assertAll(
                 () -> assertEquals(900.00, raceCarTestOne.getCarWeight()),
-                () -> assertEquals(60.0, raceCarTestOne.getFuelTankCapacity()),
-                () -> assertEquals(60.0, raceCarTestOne.getCurrentFuel()),
-                () -> assertEquals(0.0, raceCarTestOne.getCurrentTyreWear())
+                () -> assertEquals(60.0, raceCarTestOne.getFuelTankCapacity())
         );
     }
 
@@ -93,30 +89,6 @@ class RaceCarTest {
         });
     }
 
-    @ParameterizedTest(name = "[WB_RCT_06 - Critical]: Testing setters for currentFuel method.")
-    @CsvSource({"80.0", "60.0", "40.0", "20.0", "0.1", "-0.1", "-1.0"})
-    public void testSetterCurrentFuel(double testNumbers) {
-        raceCarTestTwo.setCurrentFuel(testNumbers);
-        if (testNumbers > 0) {
-            assertEquals(testNumbers, raceCarTestTwo.getCurrentFuel());
-        } else {
-            assertEquals(0, raceCarTestTwo.getCurrentFuel());
-        }
-    }
-
-    @ParameterizedTest(name = "[WB_RCT_07 - Critical]: Testing setters for currentTyreWear method.")
-    @CsvSource({"80.0", "1.1", "0.9", "0.5", "0.1", "-0.1", "-1.0"})
-    public void testSetterCurrentTyreWear(double testNumbers) {
-        raceCarTestTwo.setCurrentTyreWear(testNumbers);
-        if (testNumbers > 0 && testNumbers < 1) {
-            assertEquals(testNumbers, raceCarTestTwo.getCurrentTyreWear());
-        } else if (testNumbers > 1) {
-            assertEquals(1, raceCarTestTwo.getCurrentTyreWear());
-        } else {
-            assertEquals(0, raceCarTestTwo.getCurrentTyreWear());
-        }
-    }
-
     @DisplayName("[WB_RCT_07 - Critical]: Testing method calculate top speed and subsequent getter method for" +
             "getTopSpeed.")
     @Test
@@ -188,9 +160,6 @@ class RaceCarTest {
                 "  " + testAerodynamicKit + "\n" +
                 "  Car Weight: " + String.format("%.1f", raceCarTestTwo.getCarWeight()) + " kg\n" +
                 "  Fuel Tank Capacity: " + String.format("%.1f", raceCarTestTwo.getFuelTankCapacity()) + " L\n" +
-                "--- Current Status ---" + "\n" +
-                "  Current Fuel: " + String.format("%.2f", raceCarTestTwo.getCurrentFuel()) + " L\n" +
-                "  Current Tyre Wear: " + String.format("%.2f%%", raceCarTestTwo.getCurrentTyreWear() * 100) + "\n" +
                 "--- Performance Metrics ---" + "\n" +
                 "  Top Speed: " + String.format("%.1f", raceCarTestTwo.getTopSpeed()) + " km/h" + "\n" +
                 "  0-100 km/h: " + String.format("%.2f", raceCarTestTwo.getAccelerationTime0To100()) + " s" + "\n" +
@@ -0,0 +1,139 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_RCE]: Test for RaceEngine class")
+class RaceEngineTest {
+
+    RaceCar raceCar;
+    RaceTrack raceTrack;
+    RaceConditions raceConditions;
+    RaceStrategyOptimiser raceStrategyOptimiser;
+    RecordingListener listener;
+
+    @BeforeEach
+    void setup() {
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                80
+        );
+        raceTrack = new RaceTrack("raceTrack", 4, 20, 1.0, 1.0);
+        raceConditions = new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0);
+        raceStrategyOptimiser = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
+        listener = new RecordingListener();
+    }
+
+    @DisplayName("[WB_RCE_01 - Critical]: Test run reports every lap and finishes once")
+    @Test
+    void runReportsEveryLap() {
+        RaceEngine engine = new RaceEngine(raceCar, raceTrack, raceConditions, raceStrategyOptimiser, listener);
+
+        int pitStops = engine.run();
+
+        assertAll(
+                () -> assertEquals(1, listener.started),
+                () -> assertEquals(20, listener.laps.size()),
+                () -> assertEquals(1, listener.finished),
+                () -> assertEquals(3, pitStops),
+                () -> assertEquals(3, listener.finishedPitStops),
+                () -> assertTrue(engine.isFinished())
+        );
+    }
+
+    @DisplayName("[WB_RCE_02 - Critical]: Test run takes the pit stops planned by planPitStops")
+    @Test
+    void runMatchesPlannedPitStops() {
+        RaceEngine engine = new RaceEngine(raceCar, raceTrack, raceConditions, raceStrategyOptimiser, listener);
+        engine.run();
+
+        List<Integer> takenPitLaps = new ArrayList<>();
+        for (LapResult lap : listener.laps) {
+            if (lap.isPitStop()) {
+                takenPitLaps.add(lap.getLapNumber());
+                assertAll(
+                        () -> assertEquals(80.0, lap.getFuelAfterPit()),
+                        () -> assertEquals(0.0, lap.getTyreWearAfterPit())
+                );
+            }
+        }
+
+        assertEquals(raceStrategyOptimiser.planPitStops(), takenPitLaps);
+    }
+
+    @DisplayName("[WB_RCE_03 - Core]: Test nextLap after the race is finished")
+    @Test
+    void nextLapAfterFinish() {
+        RaceEngine engine = new RaceEngine(raceCar, raceTrack, raceConditions, raceStrategyOptimiser, listener);
+        engine.run();
+
+        assertThrows(IllegalStateException.class, engine::nextLap);
+    }
+
+    @DisplayName("[WB_RCE_04 - Core]: Test constructor with null listener")
+    @Test
+    void constructorWithNullListener() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> {
+            new RaceEngine(raceCar, raceTrack, raceConditions, raceStrategyOptimiser, null);
+        });
+        assertEquals("RaceListener cannot be null.", error.getMessage());
+    }
+
+    @DisplayName("[WB_RCE_05 - Critical]: Test engines sharing one car keep their own state")
+    @Test
+    void enginesShareCar() {
+        RaceEngine first = new RaceEngine(raceCar, raceTrack, raceConditions, raceStrategyOptimiser, listener);
+        RaceEngine second = new RaceEngine(raceCar, raceTrack, raceConditions, raceStrategyOptimiser, new RecordingListener());
+        for (int lap = 0; lap < 7; lap++) {
+            first.nextLap();
+        }
+        CarState firstAfterSevenLaps = first.getState();
+        second.nextLap();
+        first.run();
+        second.run();
+        CarState finalState = raceStrategyOptimiser.finalState(raceStrategyOptimiser.planPitStops());
+
+        assertAll(
+                () -> assertEquals(7, firstAfterSevenLaps.getLap()),
+                () -> assertEquals(CarState.start(raceCar), new RaceEngine(raceCar, raceTrack, raceConditions,
+                        raceStrategyOptimiser, listener).getState()),
+                () -> assertEquals(finalState, first.getState()),
+                () -> assertEquals(finalState, second.getState()),
+                () -> assertEquals(first.getState().getFuel(), listener.finishedFuel)
+        );
+    }
+
+    private static class RecordingListener implements RaceListener {
+        int started;
+        int finished;
+        int finishedPitStops;
+        double finishedFuel;
+        final List<LapResult> laps = new ArrayList<>();
+
+        @Override
+        public void raceStarted(RaceCar raceCar, RaceTrack raceTrack, RaceConditions raceConditions) {
+            started++;
+        }
+
+        @Override
+        public void lapCompleted(LapResult result) {
+            laps.add(result);
+        }
+
+        @Override
+        public void raceFinished(int pitStopCount, double finalFuel, double finalTyreWear) {
+            finished++;
+            finishedPitStops = pitStopCount;
+            finishedFuel = finalFuel;
+        }
+    }
+}
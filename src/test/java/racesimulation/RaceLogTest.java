@@ -0,0 +1,107 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_RLG]: Test for RaceLog class")
+class RaceLogTest {
+
+    RaceLog raceLog;
+
+    @BeforeEach
+    void setUp() {
+        raceLog = new RaceLog(4);
+    }
+
+    private static LapResult lap(int lapNumber, String pitReason) {
+        return new LapResult(lapNumber, 10, 50.0 - lapNumber, lapNumber / 10.0, pitReason,
+                pitReason != null ? 80.0 : 50.0 - lapNumber, pitReason != null ? 0.0 : lapNumber / 10.0);
+    }
+
+    @DisplayName("[WB_RLG_01 - Critical]: Test lap lines are formatted like the original log")
+    @Test
+    void formatsLapLines() {
+        raceLog.appendMessage("Simulation starting under sunny conditions...\n");
+        raceLog.appendLap(lap(1, null), RaceConditions.Weather.DRY);
+        raceLog.appendLap(lap(2, "Fuel"), RaceConditions.Weather.WET);
+
+        assertAll(
+                () -> assertEquals(4, raceLog.size()),
+                () -> assertEquals("Simulation starting under sunny conditions...", raceLog.getLine(0)),
+                () -> assertEquals("Lap 1 completed. Fuel: 49.00 L, Tyres: 10.00% wear.", raceLog.getLine(1)),
+                () -> assertEquals("Lap 2 completed. Fuel: 48.00 L, Tyres: 20.00% wear. (Wet track reducing tyre wear)", raceLog.getLine(2)),
+                () -> assertEquals("--- Pit Stop taken at end of lap 2. Reason: Fuel ---", raceLog.getLine(3))
+        );
+    }
+
+    @DisplayName("[WB_RLG_02 - Critical]: Test the oldest lines are overwritten once full")
+    @Test
+    void overwritesOldestLines() {
+        for (int lap = 1; lap <= 6; lap++) {
+            raceLog.appendLap(lap(lap, null), RaceConditions.Weather.DRY);
+        }
+
+        assertAll(
+                () -> assertEquals(4, raceLog.size()),
+                () -> assertEquals(2, raceLog.getDroppedLines()),
+                () -> assertTrue(raceLog.getLine(0).startsWith("Lap 3 ")),
+                () -> assertTrue(raceLog.getLine(3).startsWith("Lap 6 "))
+        );
+    }
+
+    @DisplayName("[WB_RLG_03 - Core]: Test clear empties the log")
+    @Test
+    void clearEmptiesLog() {
+        for (int lap = 1; lap <= 6; lap++) {
+            raceLog.appendLap(lap(lap, null), RaceConditions.Weather.DAMP);
+        }
+        raceLog.clear();
+        raceLog.appendMessage("after clear");
+
+        assertAll(
+                () -> assertEquals(1, raceLog.size()),
+                () -> assertEquals(0, raceLog.getDroppedLines()),
+                () -> assertEquals("after clear", raceLog.getLine(0))
+        );
+    }
+
+    @DisplayName("[WB_RLG_04 - Additional]: Test invalid arguments are rejected")
+    @Test
+    void invalidArguments() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new RaceLog(0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> raceLog.appendMessage(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> raceLog.appendLap(null, RaceConditions.Weather.DRY)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> raceLog.getLine(0))
+        );
+    }
+
+    @DisplayName("[WB_RLG_05 - Core]: Test a snapshot keeps its lines after they are overwritten or cleared")
+    @Test
+    void snapshotOutlivesOverwriteAndClear() {
+        for (int lap = 1; lap <= 4; lap++) {
+            raceLog.appendLap(lap(lap, null), RaceConditions.Weather.WET);
+        }
+        List<String> evicted = raceLog.snapshot(0, 2);
+        List<String> all = raceLog.snapshot(0, raceLog.size());
+        String firstLine = raceLog.getLine(0);
+        raceLog.appendLap(lap(5, "Tyres"), RaceConditions.Weather.DRY);
+        raceLog.clear();
+
+        assertAll(
+                () -> assertEquals(2, evicted.size()),
+                () -> assertEquals(firstLine, evicted.get(0)),
+                () -> assertTrue(evicted.get(1).startsWith("Lap 2 ")),
+                () -> assertEquals(4, all.size()),
+                () -> assertTrue(all.get(3).startsWith("Lap 4 ")),
+                () -> assertTrue(raceLog.snapshot(0, 0).isEmpty()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> evicted.get(2)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> raceLog.snapshot(0, 1))
+        );
+    }
+}
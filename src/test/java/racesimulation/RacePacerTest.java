@@ -0,0 +1,130 @@
+package racesimulation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_RPC]: Test for RacePacer class")
+class RacePacerTest {
+
+    ScheduledExecutorService scheduler;
+    RacePacer racePacer;
+    RaceTrack raceTrack;
+    RaceConditions raceConditions;
+
+    @BeforeEach
+    void setup() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        racePacer = new RacePacer(scheduler);
+        raceTrack = new RaceTrack("raceTrack", 4, 20, 1.0, 1.0);
+        raceConditions = new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private RaceEngine newEngine(RaceListener listener) {
+        RaceCar raceCar = newCar();
+        return new RaceEngine(raceCar, raceTrack, raceConditions,
+                new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions), listener);
+    }
+
+    @DisplayName("[WB_RPC_01 - Critical]: Test a paced race runs every lap")
+    @Test
+    void pacedRaceRunsEveryLap() throws InterruptedException {
+        List<LapResult> laps = new ArrayList<>();
+
+        long start = System.nanoTime();
+        int pitStops = racePacer.start(newEngine(laps::add), RacePacer.Speed.FAST, 60.0).await();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertAll(
+                () -> assertEquals(20, laps.size()),
+                () -> assertEquals(3, pitStops),
+                // 19 pauses of 20 ms between the 20 laps
+                () -> assertTrue(elapsedMillis >= 19 * RacePacer.BASE_LAP_DELAY_MILLIS / 10 - 5, "elapsed " + elapsedMillis)
+        );
+    }
+
+    @DisplayName("[WB_RPC_02 - Critical]: Test one scheduler thread drives many races")
+    @Test
+    void oneThreadDrivesManyRaces() throws InterruptedException {
+        AtomicInteger laps = new AtomicInteger();
+        List<RacePacer.PacedRace> races = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            races.add(racePacer.start(newEngine(result -> laps.incrementAndGet()), RacePacer.Speed.FAST, 60.0));
+        }
+        for (RacePacer.PacedRace race : races) {
+            race.await();
+        }
+
+        assertEquals(50 * 20, laps.get());
+    }
+
+    @DisplayName("[WB_RPC_03 - Core]: Test cancel stops the race and speed changes apply")
+    @Test
+    void cancelAndSpeedChange() throws InterruptedException {
+        AtomicInteger laps = new AtomicInteger();
+        RacePacer.PacedRace slowRace = racePacer.start(newEngine(result -> laps.incrementAndGet()), RacePacer.Speed.REAL_TIME, 60.0);
+        Thread.sleep(50);
+        slowRace.cancel();
+
+        RacePacer.PacedRace fastRace = racePacer.start(newEngine(result -> { }), RacePacer.Speed.REAL_TIME, 60.0);
+        Thread.sleep(50);
+        fastRace.setSpeed(RacePacer.Speed.MAX);
+
+        assertAll(
+                () -> assertEquals(1, laps.get()),
+                () -> assertThrows(CancellationException.class, slowRace::await),
+                () -> assertEquals(3, fastRace.await()),
+                () -> assertEquals(RacePacer.Speed.MAX, fastRace.getSpeed())
+        );
+    }
+
+    @DisplayName("[WB_RPC_04 - Core]: Test lap delay for each speed")
+    @Test
+    void lapDelays() {
+        assertAll(
+                () -> assertEquals(200_000_000L, RacePacer.Speed.NORMAL.lapDelayNanos(90.0)),
+                () -> assertEquals(20_000_000L, RacePacer.Speed.FAST.lapDelayNanos(90.0)),
+                () -> assertEquals(0L, RacePacer.Speed.MAX.lapDelayNanos(90.0)),
+                () -> assertEquals(90_000_000_000L, RacePacer.Speed.REAL_TIME.lapDelayNanos(90.0)),
+                () -> assertEquals(new LapTimeModel(newCar(), raceTrack).getCleanLapTime(), RacePacer.estimateLapTimeSeconds(newCar(), raceTrack), 1e-9)
+        );
+    }
+
+    @DisplayName("[WB_RPC_05 - Additional]: Test invalid arguments are rejected")
+    @Test
+    void invalidArguments() {
+        RaceEngine raceEngine = newEngine(result -> { });
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new RacePacer(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> racePacer.start(null, RacePacer.Speed.MAX, 1.0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> racePacer.start(raceEngine, null, 1.0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> racePacer.start(raceEngine, RacePacer.Speed.MAX, -1.0))
+        );
+    }
+
+    private static RaceCar newCar() {
+        return new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                80
+        );
+    }
+}
@@ -90,11 +90,11 @@ class RaceStrategyOptimiserTest {
     void simulateLapWithDifferentWeatherConditions(RaceConditions.Weather weather, double fuelAfterLap, double tyreWearAfterLap) {
         RaceConditions conditions = new RaceConditions("weather", weather, 25, 30.0, 50.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, raceTrack, conditions);
-        strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+        CarState state = strategy.simulateLap(CarState.start(raceCar), strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
 
         assertAll(
-                () -> assertEquals(fuelAfterLap, strategy.getRaceCar().getCurrentFuel(), 0.00001),
-                () -> assertEquals(tyreWearAfterLap, strategy.getRaceCar().getCurrentTyreWear(), 0.00001)
+                () -> assertEquals(fuelAfterLap, state.getFuel(), 0.00001),
+                () -> assertEquals(tyreWearAfterLap, state.getTyreWear(), 0.00001)
         );
     }
 
@@ -115,11 +115,11 @@ class RaceStrategyOptimiserTest {
     void simulateLapWithDifferentAirTemperature(double airTemperature, double fuelAfterLap, double tyreWearAfterLap) {
         RaceConditions conditions = new RaceConditions("weather", RaceConditions.Weather.DRY, airTemperature, 30.0, 50.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, raceTrack, conditions);
-        strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+        CarState state = strategy.simulateLap(CarState.start(raceCar), strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
 
         assertAll(
-                () -> assertEquals(fuelAfterLap, strategy.getRaceCar().getCurrentFuel()),
-                () -> assertEquals(tyreWearAfterLap, strategy.getRaceCar().getCurrentTyreWear())
+                () -> assertEquals(fuelAfterLap, state.getFuel()),
+                () -> assertEquals(tyreWearAfterLap, state.getTyreWear())
         );
     }
 
@@ -129,11 +129,11 @@ class RaceStrategyOptimiserTest {
     void simulateLapWithExtremeAirTemperature(double airTemp, double fuelAfterLap, double tyreWearAfterLap) {
         RaceConditions conditions = new RaceConditions("weather", RaceConditions.Weather.DRY, airTemp, 30.0, 50.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, raceTrack, conditions);
-        strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+        CarState state = strategy.simulateLap(CarState.start(raceCar), strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
 
         assertAll(
-                () -> assertEquals(fuelAfterLap, strategy.getRaceCar().getCurrentFuel()),
-                () -> assertEquals(tyreWearAfterLap, strategy.getRaceCar().getCurrentTyreWear())
+                () -> assertEquals(fuelAfterLap, state.getFuel()),
+                () -> assertEquals(tyreWearAfterLap, state.getTyreWear())
         );
     }
     private static Stream<Arguments> extremeAirTemperature() {
@@ -158,12 +158,13 @@ class RaceStrategyOptimiserTest {
         RaceTrack track = new RaceTrack("newTrack", 5.2, 12, 1.2, 1.1);
         RaceConditions conditions = new RaceConditions("damp", RaceConditions.Weather.DAMP, 8.0, 27.0, 80.0);
 
-        strategy.simulateLap(car, track, conditions);
+        CarState start = CarState.start(car);
+        CarState state = strategy.simulateLap(start, car, track, conditions);
         assertAll(
-                () -> assertEquals(36.103448275862064, car.getCurrentFuel()),
-                () -> assertEquals(0.0324, car.getCurrentTyreWear()),
-                () -> assertEquals(80.0, raceCar.getCurrentFuel()),
-                () -> assertEquals(0.0, raceCar.getCurrentTyreWear())
+                () -> assertEquals(36.103448275862064, state.getFuel()),
+                () -> assertEquals(0.0324, state.getTyreWear()),
+                () -> assertEquals(60.0, start.getFuel()),
+                () -> assertEquals(0.0, start.getTyreWear())
         );
     }
 
@@ -174,7 +175,7 @@ class RaceStrategyOptimiserTest {
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
 
         IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> {
-            strategy.simulateLap(car, track, conditions);
+            strategy.simulateLap(CarState.start(raceCar), car, track, conditions);
         });
         assertEquals(nullParams + " cannot be null.", error.getMessage());
     }
@@ -192,13 +193,15 @@ class RaceStrategyOptimiserTest {
             "51, 0.0, 1.00"
     })
     void simulateLapForMultipleLaps(int lap, double currentFuel, double currentTyreWear) {
+        CarState state = CarState.start(raceCar);
         for (int i = 0; i < lap; i++) {
-            raceStrategyOptimiser.simulateLap(raceStrategyOptimiser.getRaceCar(), raceStrategyOptimiser.getRaceTrack(), raceStrategyOptimiser.getRaceConditions());
+            state = raceStrategyOptimiser.simulateLap(state);
         }
 
+        CarState finalState = state;
         assertAll(
-                () -> assertEquals(currentFuel, raceStrategyOptimiser.getRaceCar().getCurrentFuel(), 0.000001),
-                () -> assertEquals(currentTyreWear, raceStrategyOptimiser.getRaceCar().getCurrentTyreWear(), 0.000001)
+                () -> assertEquals(currentFuel, finalState.getFuel(), 0.000001),
+                () -> assertEquals(currentTyreWear, finalState.getTyreWear(), 0.000001)
         );
     }
 
@@ -212,11 +215,11 @@ class RaceStrategyOptimiserTest {
     void simulateLapWithDifferentTrackTemperature(double trackTemp, double fuelAfterLap, double tyreWearAfterLap) {
         RaceConditions conditions = new RaceConditions("weather", RaceConditions.Weather.DRY, 10.0, trackTemp, 50.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, raceTrack, conditions);
-        strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+        CarState state = strategy.simulateLap(CarState.start(raceCar), strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
 
         assertAll(
-                () -> assertEquals(fuelAfterLap, strategy.getRaceCar().getCurrentFuel()),
-                () -> assertEquals(tyreWearAfterLap, strategy.getRaceCar().getCurrentTyreWear())
+                () -> assertEquals(fuelAfterLap, state.getFuel()),
+                () -> assertEquals(tyreWearAfterLap, state.getTyreWear())
         );
     }
 
@@ -233,7 +236,8 @@ class RaceStrategyOptimiserTest {
         RaceTrack track = new RaceTrack("testTrack",  4.5, totalLap, 1.0, 1.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
 
-        assertEquals(null, strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps()));
+        CarState state = new CarState(raceCar.getFuelTankCapacity(), 0.0, currentLap);
+        assertEquals(null, strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()));
     }
 
     @DisplayName("[WB_RSO_10 - Core]: Test checkPerformPitStop with negative laps")
@@ -246,7 +250,8 @@ class RaceStrategyOptimiserTest {
         RaceTrack track = new RaceTrack("testTrack",  4.5, totalLap, 1.0, 1.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
 
-        assertThrows(IllegalArgumentException.class, () -> strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps()));
+        CarState state = new CarState(raceCar.getFuelTankCapacity(), 0.0, currentLap);
+        assertThrows(IllegalArgumentException.class, () -> strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()));
     }
 
     @DisplayName("[WB_RSO_11 - Core]: Test checkPerformPitStop with current lap over total laps")
@@ -259,7 +264,8 @@ class RaceStrategyOptimiserTest {
         RaceTrack track = new RaceTrack("testTrack",  4.5, totalLap, 1.0, 1.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
 
-        assertThrows(IllegalArgumentException.class, () -> strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps()));
+        CarState state = new CarState(raceCar.getFuelTankCapacity(), 0.0, currentLap);
+        assertThrows(IllegalArgumentException.class, () -> strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()));
     }
 
     @DisplayName("[WB_RSO_12 - Additional]: Test checkPerformPitStop with extreme current lap and total laps")
@@ -269,7 +275,8 @@ class RaceStrategyOptimiserTest {
         RaceTrack track = new RaceTrack("testTrack",  4.5, totalLap, 1.0, 1.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
 
-        assertEquals(null, strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps()));
+        CarState state = new CarState(raceCar.getFuelTankCapacity(), 0.0, currentLap);
+        assertEquals(null, strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()));
     }
     private static Stream<Arguments> extremeLapValues () {
         return Stream.of(
@@ -284,15 +291,17 @@ class RaceStrategyOptimiserTest {
     void checkAndPerformPitStopFuelAndTyreWearAfterNoPitStop(String reason, double fuelAfter, double tyreWearAfter, int lap) {
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
 
+        CarState state = CarState.start(raceCar);
         for (int i = 0; i < lap; i++) {
-            strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+            state = strategy.simulateLap(state);
         }
-        String actualReason = strategy.checkAndPerformPitStop(lap, strategy.getRaceTrack().getNumberOfLaps());
+        String actualReason = strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps());
 
+        CarState finalState = state;
         assertAll(
                 () -> assertEquals(reason, actualReason),
-                () -> assertEquals(fuelAfter, strategy.getRaceCar().getCurrentFuel()),
-                () -> assertEquals(tyreWearAfter, strategy.getRaceCar().getCurrentTyreWear())
+                () -> assertEquals(fuelAfter, finalState.getFuel()),
+                () -> assertEquals(tyreWearAfter, finalState.getTyreWear())
         );
     }
     private static Stream<Arguments> noPitStop () {
@@ -310,16 +319,21 @@ class RaceStrategyOptimiserTest {
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
 
         String result = "";
+        CarState state = CarState.start(raceCar);
         for (int i = 0; i < lap; i++) {
-            strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
-            result = strategy.checkAndPerformPitStop(lap, strategy.getRaceTrack().getNumberOfLaps());
+            state = strategy.simulateLap(state);
+            result = strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps());
+            if (result != null) {
+                state = strategy.pitStop(state);
+            }
         }
 
         String actualReason = result;
+        CarState finalState = state;
         assertAll(
                 () -> assertEquals(reason, actualReason),
-                () -> assertEquals(fuelAfter, strategy.getRaceCar().getCurrentFuel()),
-                () -> assertEquals(tyreWearAfter, strategy.getRaceCar().getCurrentTyreWear())
+                () -> assertEquals(fuelAfter, finalState.getFuel()),
+                () -> assertEquals(tyreWearAfter, finalState.getTyreWear())
 
         );
     }
@@ -342,11 +356,12 @@ class RaceStrategyOptimiserTest {
         RaceTrack track = new RaceTrack("testTrack",  4.5, totalLap, 1.0, 1.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
 
+        CarState state = CarState.start(strategy.getRaceCar());
         for (int i = 0; i < currentLap; i++) {
-            strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+            state = strategy.simulateLap(state);
         }
 
-        assertEquals("Fuel", strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps()));
+        assertEquals("Fuel", strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()));
     }
 
     @DisplayName("[WB_RSO_16 - Critical]: Test checkPerformPitStop for fuelCapacity after pitStop")
@@ -360,12 +375,15 @@ class RaceStrategyOptimiserTest {
         RaceTrack track = new RaceTrack("testTrack",  4.5, totalLap, 1.0, 1.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
 
+        CarState state = CarState.start(strategy.getRaceCar());
         for (int i = 0; i < currentLap; i++) {
-            strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+            state = strategy.simulateLap(state);
         };
-        strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps());
+        if (strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()) != null) {
+            state = strategy.pitStop(state);
+        }
 
-        assertEquals(fuelAfterPitStop, strategy.getRaceCar().getCurrentFuel());
+        assertEquals(fuelAfterPitStop, state.getFuel());
     }
 
     @DisplayName("[WB_RSO_17 - Critical]: Test checkPerformPitStop for tyres")
@@ -387,14 +405,16 @@ class RaceStrategyOptimiserTest {
 
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(car, track, raceConditions);
 
+        CarState state = CarState.start(strategy.getRaceCar());
         for (int i = 0; i < currentLap; i++) {
-            strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+            state = strategy.simulateLap(state);
         }
 
-        String reason = strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps());
+        String reason = strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps());
+        CarState afterPitStop = reason != null ? strategy.pitStop(state) : state;
         assertAll(
                 () -> assertEquals("Tyres", reason),
-                () -> assertEquals(tyreWear, strategy.getRaceCar().getCurrentTyreWear())
+                () -> assertEquals(tyreWear, afterPitStop.getTyreWear())
         );
     }
 
@@ -417,12 +437,15 @@ class RaceStrategyOptimiserTest {
 
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(car, track, raceConditions);
 
+        CarState state = CarState.start(strategy.getRaceCar());
         for (int i = 0; i < currentLap; i++) {
-            strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+            state = strategy.simulateLap(state);
         };
-        strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps());
+        if (strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()) != null) {
+            state = strategy.pitStop(state);
+        }
 
-        assertEquals(tyreWearAfterPitStop, strategy.getRaceCar().getCurrentTyreWear());
+        assertEquals(tyreWearAfterPitStop, state.getTyreWear());
     }
 
     @DisplayName("[WB_RSO_19 - Critical]: Test checkPerformPitStop for fuel and tyres")
@@ -444,11 +467,12 @@ class RaceStrategyOptimiserTest {
 
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(car, track, raceConditions);
 
+        CarState state = CarState.start(strategy.getRaceCar());
         for (int i = 0; i < currentLap; i++) {
-            strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+            state = strategy.simulateLap(state);
         }
 
-        assertEquals("Fuel & Tyres", strategy.checkAndPerformPitStop(currentLap, strategy.getRaceTrack().getNumberOfLaps()));
+        assertEquals("Fuel & Tyres", strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()));
     }
 
     @DisplayName("[WB_RSO_20 - Core]: Test checkAndPerformPitStop with different airTemperature")
@@ -467,11 +491,12 @@ class RaceStrategyOptimiserTest {
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(car, raceTrack, conditions);
 
         int lapCompleted = 12;
+        CarState state = CarState.start(strategy.getRaceCar());
         for (int i = 0; i < lapCompleted; i++) {
-            strategy.simulateLap(strategy.getRaceCar(), strategy.getRaceTrack(), strategy.getRaceConditions());
+            state = strategy.simulateLap(state);
         }
 
-        assertEquals(reason, strategy.checkAndPerformPitStop(lapCompleted + 1, strategy.getRaceTrack().getNumberOfLaps()));
+        assertEquals(reason, strategy.pitStopReason(state, strategy.getRaceTrack().getNumberOfLaps()));
     }
 
     private static Stream<Arguments> pitStopDifferentTemp() {
@@ -499,7 +524,7 @@ class RaceStrategyOptimiserTest {
         RaceTrack track = new RaceTrack("testTrack", 5.0, raceTrackTotalLap, 1.0, 1.0);
         RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
 
-        assertEquals(null, strategy.checkAndPerformPitStop(2, paramTotalLap));
+        assertEquals(null, strategy.pitStopReason(new CarState(raceCar.getFuelTankCapacity(), 0.0, 2), paramTotalLap));
     }
 
 
@@ -569,7 +594,7 @@ class RaceStrategyOptimiserTest {
 
         assertAll(
                 () -> assertEquals(expected, actual),
-                () -> assertEquals(tyreWear, strategy.getRaceCar().getCurrentTyreWear())
+                () -> assertEquals(tyreWear, strategy.finalState(actual).getTyreWear())
         );
     }
     private static Stream<Arguments> pitStopsListTyres() {
@@ -615,4 +640,166 @@ class RaceStrategyOptimiserTest {
     void getRaceConditions() {
         assertEquals(raceConditions, raceStrategyOptimiser.getRaceConditions());
     }
-}
\ No newline at end of file
+
+    @DisplayName("[WB_RSO_30 - Critical]: Test planPitStops uses the minimum number of pit stops")
+    @ParameterizedTest(name="Test: {index}/4, laps: {0}, pitStopLaps: {1}")
+    @MethodSource("minimumPitStops")
+    void planPitStopsWithMinimumStops(int laps, List<Integer> pitStops) {
+        RaceTrack track = new RaceTrack("raceTrack", 4, laps, 1.0, 1.0);
+        RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
+
+        assertEquals(pitStops, strategy.planPitStops());
+    }
+    private static Stream<Arguments> minimumPitStops() {
+        return Stream.of(
+                Arguments.of(5, List.of()),
+                Arguments.of(6, List.of(5)),
+                Arguments.of(12, Arrays.asList(5, 10)),
+                Arguments.of(16, Arrays.asList(5, 10, 15))
+        );
+    }
+
+    @DisplayName("[WB_RSO_31 - Core]: Test planPitStops with a tank smaller than one lap of fuel")
+    @Test
+    void planPitStopsWithTankSmallerThanOneLap() {
+        RaceCar car = new RaceCar(
+                new Engine("engine", 500, 0.1, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 0.1, 8),
+                900,
+                60
+        );
+        RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(car, raceTrack, raceConditions);
+
+        assertThrows(IllegalStateException.class, strategy::planPitStops);
+    }
+
+    @DisplayName("[WB_RSO_32 - Critical]: Test calculateRaceTime sums the lap times and pit stops")
+    @Test
+    void calculateRaceTime() {
+        RaceTrack track = new RaceTrack("raceTrack", 4, 12, 1.0, 1.0);
+        RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
+        LapTimeModel lapTimeModel = strategy.getLapTimeModel();
+        double fuelPerLap = strategy.getLapCostModel().getFuelPerLap();
+        double tyreWearPerLap = strategy.getLapCostModel().getTyreWearPerLap();
+
+        double lapTimes = 0.0;
+        for (int lap = 0; lap < 12; lap++) {
+            int lapInStint = lap % 5; // Stints of 5, 5 and 2 laps
+            lapTimes += lapTimeModel.lapTime(80 - lapInStint * fuelPerLap, lapInStint * tyreWearPerLap);
+        }
+        double expected = lapTimes + 2 * RaceStrategyOptimiser.PIT_STOP_TIME_PENALTY_SECONDS;
+        double raceTime = strategy.calculateRaceTime(List.of(5, 10));
+
+        assertAll(
+                () -> assertEquals(expected, raceTime, 1e-9),
+                () -> assertEquals(80 - 2 * fuelPerLap, strategy.finalState(List.of(5, 10)).getFuel(), 1e-9),
+                () -> assertTrue(strategy.calculateRaceTime(List.of(2, 5, 10)) > raceTime)
+        );
+    }
+
+    @DisplayName("[WB_RSO_33 - Additional]: Test calculateRaceTime with invalid pit stop laps")
+    @Test
+    void calculateRaceTimeWithInvalidPitStopLaps() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> raceStrategyOptimiser.calculateRaceTime(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> raceStrategyOptimiser.calculateRaceTime(List.of(50))),
+                () -> assertThrows(IllegalArgumentException.class, () -> raceStrategyOptimiser.calculateRaceTime(List.of(10, 5)))
+        );
+    }
+
+    @DisplayName("[WB_RSO_34 - Critical]: Test finalState matches stepping the race with pitStop")
+    @ParameterizedTest(name="Test: {index}/3, laps: {0}")
+    @ValueSource(ints = {0, 5, 16})
+    void finalStateMatchesStepping(int laps) {
+        RaceTrack track = new RaceTrack("raceTrack", 4, laps, 1.0, 1.0);
+        RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(raceCar, track, raceConditions);
+        List<Integer> pitStopLaps = strategy.planPitStops();
+
+        CarState state = CarState.start(raceCar);
+        while (state.getLap() < laps) {
+            state = strategy.simulateLap(state);
+            if (pitStopLaps.contains(state.getLap())) {
+                state = strategy.pitStop(state);
+            }
+        }
+
+        CarState finalState = state;
+        assertAll(
+                () -> assertEquals(finalState, strategy.finalState(pitStopLaps)),
+                () -> assertEquals(laps, strategy.finalState(pitStopLaps).getLap()),
+                () -> assertEquals(new CarState(80.0, 0.0, 3), strategy.pitStop(new CarState(10.0, 0.5, 3))),
+                () -> assertThrows(IllegalArgumentException.class, () -> strategy.finalState(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> strategy.finalState(List.of(laps)))
+        );
+    }
+
+    @DisplayName("[WB_RSO_35 - Critical]: Test planPitStops has the least race time of every feasible plan")
+    @ParameterizedTest(name="Test: {index}/4, laps: {0}, tyre wear: {1}, fuel efficiency: {2}")
+    @CsvSource({"10, 0.1, 8.0", "14, 0.15, 2.0", "12, 0.02, 2.0", "16, 0.02, 2.0"})
+    void planPitStopsHasLeastRaceTime(int laps, double tyreWear, double fuelEfficiency) {
+        RaceCar car = new RaceCar(
+                new Engine("engine", 500, fuelEfficiency, 0.95),
+                new Tyres("medium", 85, tyreWear, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                60
+        );
+        RaceTrack track = new RaceTrack("raceTrack", 4, laps, 1.0, 1.0);
+        RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(car, track, raceConditions);
+
+        // Every subset of laps 1..laps-1 is a plan; it is feasible if no lap off the plan needs a stop
+        double leastRaceTime = Double.POSITIVE_INFINITY;
+        for (int mask = 0; mask < 1 << (laps - 1); mask++) {
+            List<Integer> pitStopLaps = new ArrayList<>();
+            for (int lap = 1; lap < laps; lap++) {
+                if ((mask & 1 << (lap - 1)) != 0) {
+                    pitStopLaps.add(lap);
+                }
+            }
+            if (isFeasible(strategy, pitStopLaps, laps)) {
+                leastRaceTime = Math.min(leastRaceTime, strategy.calculateRaceTime(pitStopLaps));
+            }
+        }
+
+        List<Integer> planned = strategy.planPitStops();
+        double expected = leastRaceTime;
+        assertAll(
+                () -> assertTrue(isFeasible(strategy, planned, laps)),
+                () -> assertEquals(expected, strategy.calculateRaceTime(planned), 1e-6)
+        );
+    }
+    private static boolean isFeasible(RaceStrategyOptimiser strategy, List<Integer> pitStopLaps, int laps) {
+        CarState state = CarState.start(strategy.getRaceCar());
+        while (state.getLap() < laps) {
+            state = strategy.simulateLap(state);
+            if (pitStopLaps.contains(state.getLap())) {
+                state = strategy.pitStop(state);
+            } else if (strategy.pitStopReason(state, laps) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @DisplayName("[WB_RSO_36 - Core]: Test planPitStops stops before the threshold when that is faster")
+    @Test
+    void planPitStopsBeforeThreshold() {
+        RaceCar car = new RaceCar(
+                new Engine("engine", 500, 8.0, 0.95),
+                new Tyres("medium", 85, 0.1, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                60
+        );
+        RaceTrack track = new RaceTrack("raceTrack", 4, 10, 1.0, 1.0);
+        RaceStrategyOptimiser strategy = new RaceStrategyOptimiser(car, track, raceConditions);
+        List<Integer> thresholdStops = new StintCalculator(car, track, raceConditions).planPitStops();
+
+        assertAll(
+                () -> assertEquals(List.of(9), thresholdStops),
+                () -> assertEquals(List.of(5), strategy.planPitStops()),
+                () -> assertTrue(strategy.calculateRaceTime(List.of(5)) < strategy.calculateRaceTime(thresholdStops))
+        );
+    }
+}
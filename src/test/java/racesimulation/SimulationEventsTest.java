@@ -0,0 +1,155 @@
+package racesimulation;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_SEV]: Test for SimulationEvents class")
+class SimulationEventsTest {
+    private static final String LAP_SIMULATED = "racesimulation.LapSimulated";
+    private static final String PIT_STOP_TAKEN = "racesimulation.PitStopTaken";
+    private static final String PLAN_COMPUTED = "racesimulation.PlanComputed";
+    private static final String SWEEP_SHARD_FINISHED = "racesimulation.SweepShardFinished";
+
+    @TempDir
+    Path tempDir;
+
+    RaceCar raceCar;
+    RaceTrack raceTrack;
+    RaceConditions raceConditions;
+    Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                80
+        );
+        raceTrack = new RaceTrack("raceTrack", 4, 20, 1.0, 1.0);
+        raceConditions = new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0);
+        recording = new Recording();
+        for (String name : List.of(LAP_SIMULATED, PIT_STOP_TAKEN, PLAN_COMPUTED, SWEEP_SHARD_FINISHED)) {
+            recording.enable(name);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    private List<RecordedEvent> stopAndRead() throws IOException {
+        recording.stop();
+        Path file = tempDir.resolve("events.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .collect(Collectors.toList());
+    }
+
+    @DisplayName("[WB_SEV_01 - Critical]: Test a race records every lap and pit stop")
+    @Test
+    void raceRecordsLapsAndPitStops() throws IOException {
+        recording.start();
+        RaceStrategyOptimiser raceOptimiser = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions);
+        int pitStops = new RaceEngine(raceCar, raceTrack, raceConditions, raceOptimiser, result -> { }).run();
+        List<RecordedEvent> events = stopAndRead();
+        List<RecordedEvent> laps = named(events, LAP_SIMULATED);
+        List<RecordedEvent> stops = named(events, PIT_STOP_TAKEN);
+
+        assertAll(
+                () -> assertEquals(20, laps.size()),
+                () -> assertEquals(1, laps.get(0).getInt("lap")),
+                () -> assertEquals(20, laps.get(19).getInt("totalLaps")),
+                () -> assertEquals("raceTrack", laps.get(0).getString("track")),
+                () -> assertEquals("sunny", laps.get(0).getString("conditions")),
+                () -> assertEquals("engine", laps.get(0).getString("engine")),
+                () -> assertEquals(900.0, laps.get(0).getDouble("carWeight")),
+                () -> assertFalse(laps.get(0).getDuration().isNegative()),
+                () -> assertEquals(pitStops, stops.size()),
+                () -> assertEquals(80.0, stops.get(0).getDouble("fuelAfter")),
+                () -> assertTrue(stops.get(0).getDouble("fuelBefore") < 80.0),
+                () -> assertNotNull(stops.get(0).getString("reason"))
+        );
+    }
+
+    @DisplayName("[WB_SEV_02 - Critical]: Test a computed plan is recorded with its pit stops")
+    @Test
+    void planIsRecorded() throws IOException {
+        recording.start();
+        List<Integer> pitStopLaps = new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions).planPitStops();
+        List<RecordedEvent> plans = named(stopAndRead(), PLAN_COMPUTED);
+
+        assertAll(
+                () -> assertEquals(1, plans.size()),
+                () -> assertEquals(pitStopLaps.size(), plans.get(0).getInt("pitStops")),
+                () -> assertEquals(pitStopLaps.toString(), plans.get(0).getString("pitStopLaps")),
+                () -> assertEquals(80.0, plans.get(0).getDouble("fuelTankCapacity")),
+                () -> assertEquals("medium", plans.get(0).getString("tyres"))
+        );
+    }
+
+    @DisplayName("[WB_SEV_03 - Core]: Test a sweep records shards covering every configuration")
+    @Test
+    void sweepShardsCoverConfigurations() throws IOException {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        ConfigurationSweep sweep = new ConfigurationSweep(assetProvider, null);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        List<SweepResult> results;
+        recording.start();
+        try {
+            results = sweep.run(assetProvider.getTrackVariations().get(0), assetProvider.getConditionVariations().get(0), 3, pool);
+        } finally {
+            pool.shutdown();
+        }
+        List<RecordedEvent> shards = named(stopAndRead(), SWEEP_SHARD_FINISHED);
+        shards.sort(Comparator.comparingInt(event -> event.getInt("firstConfiguration")));
+
+        int next = 0;
+        for (RecordedEvent shard : shards) {
+            assertEquals(next, shard.getInt("firstConfiguration"));
+            next += shard.getInt("configurations");
+        }
+        double bestRaceTime = shards.stream().filter(shard -> shard.getInt("completed") > 0)
+                .mapToDouble(shard -> shard.getDouble("bestRaceTime")).min().orElse(0.0);
+        int finalNext = next;
+        assertAll(
+                () -> assertEquals(8, shards.size()),
+                () -> assertEquals(sweep.getConfigurationCount(), finalNext),
+                () -> assertEquals(results.get(0).getTotalRaceTime(), bestRaceTime),
+                () -> assertTrue(shards.stream().allMatch(shard -> shard.getString("track").equals("Monaco")))
+        );
+    }
+
+    @DisplayName("[WB_SEV_04 - Additional]: Test disabled events are not recorded")
+    @Test
+    void disabledEventsAreNotRecorded() throws IOException {
+        recording.disable(PLAN_COMPUTED);
+        recording.start();
+        new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions).planPitStops();
+
+        assertTrue(named(stopAndRead(), PLAN_COMPUTED).isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_SMT]: Test for SimulationMetrics class")
+class SimulationMetricsTest {
+
+    StrategyCache strategyCache;
+    RaceCarMetricsCache carMetricsCache;
+    SimulationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        strategyCache = new StrategyCache(StrategyCache.DEFAULT_MAX_ENTRIES, StrategyCache.DEFAULT_MAX_BYTES);
+        carMetricsCache = new RaceCarMetricsCache(RaceCarMetricsCache.DEFAULT_MAX_ENTRIES);
+        metrics = new SimulationMetrics(strategyCache, carMetricsCache);
+    }
+
+    @DisplayName("[WB_SMT_01 - Critical]: Test laps, latencies and the lap rate are recorded")
+    @Test
+    void recordsLapsAndLatencies() {
+        long start = System.nanoTime();
+        metrics.sampleLapRate(start);
+        for (int i = 1; i <= 500; i++) {
+            metrics.recordLap(i * 1000L);
+        }
+        metrics.recordPlan(2_000_000);
+        metrics.recordUiQueueLag(16_000_000);
+        metrics.sampleLapRate(start + 250_000_000);
+
+        assertAll(
+                () -> assertEquals(500, metrics.getLapsSimulated()),
+                () -> assertEquals(2000.0, metrics.getLapsPerSecond(), 1e-9),
+                () -> assertEquals(500, metrics.getLapLatency().getCount()),
+                () -> assertEquals(500.0, metrics.getLapLatency().getMaxMicros(), 1e-9),
+                () -> assertEquals(250.0, metrics.getLapLatency().getP50Micros(), 250.0 / 32),
+                () -> assertEquals(1, metrics.getPlanLatency().getCount()),
+                () -> assertEquals(2000.0, metrics.getPlanLatency().getP99Micros(), 1e-9),
+                () -> assertEquals(16000.0, metrics.getUiQueueLag().getMeanMicros(), 1e-9)
+        );
+    }
+
+    @DisplayName("[WB_SMT_02 - Critical]: Test the cache hit rates follow the caches")
+    @Test
+    void cacheHitRates() {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        Engine engine = assetProvider.getEngineVariations().get(0);
+        Tyres tyres = assetProvider.getTyreVariations().get(0);
+        AerodynamicKit aeroKit = assetProvider.getAeroKitVariations().get(0);
+        for (int i = 0; i < 4; i++) {
+            carMetricsCache.get(engine, tyres, aeroKit, 900);
+        }
+        RaceCar raceCar = new RaceCar(engine, tyres, aeroKit, 900, 60);
+        RaceStrategyOptimiser raceOptimiser = new RaceStrategyOptimiser(raceCar,
+                assetProvider.getTrackVariations().get(0), assetProvider.getConditionVariations().get(0));
+        strategyCache.planPitStops(raceOptimiser);
+        strategyCache.planPitStops(raceOptimiser);
+
+        assertAll(
+                () -> assertEquals(0.75, metrics.getCarMetricsCacheHitRate(), 1e-9),
+                () -> assertEquals(0.5, metrics.getStrategyCacheHitRate(), 1e-9),
+                () -> assertTrue(metrics.dump().contains("75.0% hits of 4 lookups")),
+                () -> assertEquals(0.0, new SimulationMetrics(strategyCache, new RaceCarMetricsCache(RaceCarMetricsCache.DEFAULT_MAX_ENTRIES)).getCarMetricsCacheHitRate())
+        );
+    }
+
+    @DisplayName("[WB_SMT_03 - Core]: Test the registry is published over JMX")
+    @Test
+    void publishedOverJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(SimulationMetrics.OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        metrics.recordLap(3_000_000);
+        metrics.start(0, new PrintStream(new ByteArrayOutputStream()));
+        try {
+            CompositeData lapLatency = (CompositeData) server.getAttribute(name, "LapLatency");
+
+            assertAll(
+                    () -> assertEquals(1L, server.getAttribute(name, "LapsSimulated")),
+                    () -> assertEquals(1L, lapLatency.get("count")),
+                    () -> assertEquals(3000.0, (Double) lapLatency.get("maxMicros"), 1e-9),
+                    () -> assertTrue(((String) server.invoke(name, "dump", null, null)).contains("laps simulated     1"))
+            );
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "LapsSimulated"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @DisplayName("[WB_SMT_04 - Additional]: Test reset and invalid arguments")
+    @Test
+    void resetAndInvalidArguments() {
+        metrics.recordLap(1000);
+        metrics.recordPlan(1000);
+        metrics.reset();
+
+        assertAll(
+                () -> assertEquals(0, metrics.getLapsSimulated()),
+                () -> assertEquals(0.0, metrics.getLapsPerSecond()),
+                () -> assertEquals(0, metrics.getPlanLatency().getCount()),
+                () -> assertFalse(SimulationMetrics.ENABLED),
+                () -> assertThrows(IllegalArgumentException.class, () -> new SimulationMetrics(null, carMetricsCache)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new SimulationMetrics(strategyCache, null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> metrics.start(-1, System.err)),
+                () -> assertThrows(IllegalArgumentException.class, () -> metrics.start(10, null))
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_STC]: Test for StintCalculator class")
+class StintCalculatorTest {
+
+    RaceCar raceCar;
+    RaceConditions raceConditions;
+
+    @BeforeEach
+    void setUp() {
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                80
+        );
+        raceConditions = new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0);
+    }
+
+    @DisplayName("[WB_STC_01 - Critical]: Test the calculated pit stops match the simulated ones across the catalog")
+    @Test
+    void matchesSimulatedPitStopsAcrossCatalog() {
+        GameAssetProvider assetProvider = new GameAssetProvider();
+        List<String> mismatches = new ArrayList<>();
+        for (Engine engine : assetProvider.getEngineVariations()) {
+            for (Tyres tyres : assetProvider.getTyreVariations()) {
+                for (AerodynamicKit aeroKit : assetProvider.getAeroKitVariations()) {
+                    for (RaceTrack track : assetProvider.getTrackVariations()) {
+                        for (RaceConditions conditions : assetProvider.getConditionVariations()) {
+                            RaceCar car = new RaceCar(engine, tyres, aeroKit, 1000.0, 70.0);
+                            List<Integer> calculated = new StintCalculator(car, track, conditions).planPitStops();
+                            List<Integer> simulated = new ArrayList<>();
+                            new RaceEngine(car, track, conditions, new RaceStrategyOptimiser(car, track, conditions), lap -> {
+                                if (lap.isPitStop()) {
+                                    simulated.add(lap.getLapNumber());
+                                }
+                            }).run();
+                            if (!calculated.equals(simulated)) {
+                                mismatches.add(car.getEngine().getName() + "/" + tyres.getCompound() + "/" + aeroKit + "/" + track.getName() + "/" + conditions.getName());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(List.of(), mismatches);
+    }
+
+    @DisplayName("[WB_STC_02 - Critical]: Test verified planning agrees with stepping")
+    @ParameterizedTest(name="Test: {index}/4, laps: {0}")
+    @ValueSource(ints = {1, 5, 6, 50})
+    void verifiedPlanning(int laps) {
+        RaceTrack track = new RaceTrack("raceTrack", 4, laps, 1.0, 1.0);
+        StintCalculator calculator = new StintCalculator(raceCar, track, raceConditions);
+
+        assertEquals(calculator.planPitStops(), calculator.planPitStopsVerified());
+    }
+
+    @DisplayName("[WB_STC_03 - Critical]: Test an endurance race is planned without stepping")
+    @Test
+    void enduranceRace() {
+        RaceTrack track = new RaceTrack("endurance", 4, 100_000, 1.0, 1.0);
+        StintCalculator calculator = new StintCalculator(raceCar, track, raceConditions);
+
+        List<Integer> pitStops = calculator.planPitStops();
+
+        assertAll(
+                () -> assertEquals(5, calculator.getMaxStintLaps()),
+                () -> assertEquals(19_999, pitStops.size()),
+                () -> assertEquals(99_995, pitStops.get(pitStops.size() - 1)),
+                () -> assertEquals(5.0, calculator.calculateFinalFuel(), 1e-9),
+                () -> assertEquals(0.1, calculator.calculateFinalTyreWear(), 1e-9)
+        );
+    }
+
+    @DisplayName("[WB_STC_04 - Core]: Test a tank smaller than one lap of fuel")
+    @Test
+    void tankSmallerThanOneLap() {
+        RaceCar car = new RaceCar(
+                new Engine("engine", 500, 0.1, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 0.1, 8),
+                900,
+                60
+        );
+        RaceTrack track = new RaceTrack("raceTrack", 4, 10, 1.0, 1.0);
+
+        assertThrows(IllegalStateException.class, () -> new StintCalculator(car, track, raceConditions));
+    }
+}
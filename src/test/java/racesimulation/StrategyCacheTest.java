@@ -0,0 +1,150 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("[WB_STC]: Test for StrategyCache class")
+class StrategyCacheTest {
+
+    StrategyCache cache;
+    RaceTrack raceTrack;
+    RaceConditions raceConditions;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StrategyCache(64, 1024 * 1024);
+        raceTrack = new RaceTrack("raceTrack", 4, 20, 1.0, 1.0);
+        raceConditions = new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0);
+    }
+
+    private static RaceTrack newTrack(int laps) {
+        return new RaceTrack("raceTrack", 4, laps, 1.0, 1.0);
+    }
+
+    private static RaceCar newCar(double fuelTankCapacity) {
+        return new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                fuelTankCapacity
+        );
+    }
+
+    @DisplayName("[WB_STC_01 - Critical]: Test equal inputs hit the cache and match a fresh plan")
+    @Test
+    void equalInputsHit() {
+        RaceCar firstCar = newCar(80);
+        List<Integer> first = cache.planPitStops(new RaceStrategyOptimiser(firstCar, raceTrack, raceConditions));
+
+        // Different instances with the same values, even under other names
+        RaceCar secondCar = newCar(80);
+        RaceTrack renamedTrack = new RaceTrack("renamed", 4, 20, 1.0, 1.0);
+        RaceStrategyOptimiser secondOptimiser = new RaceStrategyOptimiser(secondCar, renamedTrack, raceConditions);
+        List<Integer> second = cache.planPitStops(secondOptimiser);
+
+        RaceStrategyOptimiser freshOptimiser = new RaceStrategyOptimiser(newCar(80), raceTrack, raceConditions);
+        List<Integer> fresh = freshOptimiser.planPitStops();
+
+        assertAll(
+                () -> assertEquals(fresh, first),
+                () -> assertEquals(fresh, second),
+                () -> assertEquals(1, cache.getHitCount()),
+                () -> assertEquals(1, cache.getMissCount()),
+                () -> assertEquals(0.5, cache.getHitRate()),
+                () -> assertEquals(freshOptimiser.finalState(fresh), secondOptimiser.finalState(second))
+        );
+    }
+
+    @DisplayName("[WB_STC_02 - Critical]: Test different inputs miss the cache")
+    @Test
+    void differentInputsMiss() {
+        cache.planPitStops(new RaceStrategyOptimiser(newCar(80), raceTrack, raceConditions));
+        cache.planPitStops(new RaceStrategyOptimiser(newCar(60), raceTrack, raceConditions));
+        cache.planPitStops(new RaceStrategyOptimiser(newCar(80), raceTrack,
+                new RaceConditions("sunny", RaceConditions.Weather.WET, 25, 30.0, 50.0)));
+
+        assertAll(
+                () -> assertEquals(0, cache.getHitCount()),
+                () -> assertEquals(3, cache.getMissCount()),
+                () -> assertEquals(3, cache.size())
+        );
+    }
+
+    @DisplayName("[WB_STC_03 - Core]: Test the cache is bounded by entries and memory")
+    @Test
+    void boundedByEntriesAndMemory() {
+        for (int laps = 20; laps < 220; laps++) {
+            cache.planPitStops(new RaceStrategyOptimiser(newCar(80), newTrack(laps), raceConditions));
+        }
+
+        StrategyCache smallCache = new StrategyCache(1024, 16 * 4000);
+        for (int laps = 20; laps < 220; laps++) {
+            smallCache.planPitStops(new RaceStrategyOptimiser(newCar(80), newTrack(laps), raceConditions));
+        }
+
+        assertAll(
+                () -> assertTrue(cache.size() <= 64),
+                () -> assertEquals(200 - cache.size(), cache.getEvictionCount()),
+                () -> assertTrue(smallCache.getEstimatedBytes() <= 16 * 4000, "bytes " + smallCache.getEstimatedBytes() + " size " + smallCache.size()),
+                () -> assertTrue(smallCache.getEvictionCount() > 0, "evictions " + smallCache.getEvictionCount())
+        );
+    }
+
+    @DisplayName("[WB_STC_04 - Core]: Test a recently used plan is not evicted")
+    @Test
+    void keepsRecentlyUsedPlan() {
+        StrategyCache smallCache = new StrategyCache(32, 1024 * 1024); // Two entries per segment
+        smallCache.planPitStops(new RaceStrategyOptimiser(newCar(80), raceTrack, raceConditions));
+        for (int laps = 21; laps < 221; laps++) {
+            // Touch the first plan before every insert so it is never the least recently used
+            smallCache.planPitStops(new RaceStrategyOptimiser(newCar(80), raceTrack, raceConditions));
+            smallCache.planPitStops(new RaceStrategyOptimiser(newCar(80), newTrack(laps), raceConditions));
+        }
+
+        assertAll(
+                () -> assertTrue(smallCache.size() <= 32),
+                () -> assertTrue(smallCache.getEvictionCount() > 0),
+                () -> assertEquals(200, smallCache.getHitCount()),
+                () -> assertEquals(201, smallCache.getMissCount())
+        );
+    }
+
+    @DisplayName("[WB_STC_05 - Core]: Test concurrent callers share the cache")
+    @Test
+    void concurrentCallers() {
+        List<Integer> expected = new RaceStrategyOptimiser(newCar(80), raceTrack, raceConditions).planPitStops();
+
+        boolean allMatch = IntStream.range(0, 1000).parallel()
+                .mapToObj(i -> cache.planPitStops(new RaceStrategyOptimiser(newCar(60 + i % 3 * 10), raceTrack, raceConditions)))
+                .allMatch(plan -> plan != null);
+        List<Integer> cached = cache.planPitStops(new RaceStrategyOptimiser(newCar(80), raceTrack, raceConditions));
+
+        assertAll(
+                () -> assertTrue(allMatch),
+                () -> assertEquals(expected, cached),
+                () -> assertEquals(3, cache.size()),
+                () -> assertEquals(1001, cache.getHitCount() + cache.getMissCount())
+        );
+    }
+
+    @DisplayName("[WB_STC_06 - Additional]: Test failures are not cached and invalid arguments are rejected")
+    @Test
+    void failuresAndInvalidArguments() {
+        RaceStrategyOptimiser cannotFinish = new RaceStrategyOptimiser(newCar(60), new RaceTrack("raceTrack", 4, 20, 1.0, 1000.0), raceConditions);
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> cache.planPitStops(cannotFinish)),
+                () -> assertEquals(0, cache.size()),
+                () -> assertThrows(IllegalArgumentException.class, () -> cache.planPitStops(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new StrategyCache(1, 1024 * 1024)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new StrategyCache(64, 1))
+        );
+    }
+}
@@ -0,0 +1,157 @@
+package racesimulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("[WB_TLM]: Test for TelemetryRecorder class")
+class TelemetryRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path telemetryFile;
+    RaceCar raceCar;
+    RaceTrack raceTrack;
+    RaceConditions raceConditions;
+
+    @BeforeEach
+    void setup() {
+        telemetryFile = tempDir.resolve("race.tlm");
+        raceCar = new RaceCar(
+                new Engine("engine", 500, 2.0, 0.95),
+                new Tyres("medium", 85, 0.02, 15.0, 20.0),
+                new AerodynamicKit("kitname", 600, 600, 300, 2.0, 8),
+                900,
+                80
+        );
+        raceTrack = new RaceTrack("raceTrack", 4, 20, 1.0, 1.0);
+        raceConditions = new RaceConditions("sunny", RaceConditions.Weather.DRY, 25, 30.0, 50.0);
+    }
+
+    @DisplayName("[WB_TLM_01 - Critical]: Test a recorded race reads back lap by lap")
+    @Test
+    void recordedRaceReadsBack() throws IOException {
+        List<LapResult> laps = new ArrayList<>();
+        try (TelemetryRecorder recorder = new TelemetryRecorder(telemetryFile)) {
+            RaceEngine engine = new RaceEngine(raceCar, raceTrack, raceConditions,
+                    new RaceStrategyOptimiser(raceCar, raceTrack, raceConditions), result -> {
+                        laps.add(result);
+                        recorder.lapCompleted(result);
+                    });
+            engine.run();
+        }
+
+        TelemetryReader reader = new TelemetryReader(telemetryFile);
+
+        assertEquals(laps.size(), reader.getLapCount());
+        for (int i = 0; i < laps.size(); i++) {
+            LapResult expected = laps.get(i);
+            LapResult actual = reader.getLap(i);
+            assertAll(
+                    () -> assertEquals(expected.getLapNumber(), actual.getLapNumber()),
+                    () -> assertEquals(expected.getTotalLaps(), actual.getTotalLaps()),
+                    () -> assertEquals(expected.getFuelAfterLap(), actual.getFuelAfterLap()),
+                    () -> assertEquals(expected.getTyreWearAfterLap(), actual.getTyreWearAfterLap()),
+                    () -> assertEquals(expected.getPitReason(), actual.getPitReason()),
+                    () -> assertEquals(expected.getFuelAfterPit(), actual.getFuelAfterPit()),
+                    () -> assertEquals(expected.getTyreWearAfterPit(), actual.getTyreWearAfterPit())
+            );
+        }
+    }
+
+    @DisplayName("[WB_TLM_02 - Critical]: Test random access across mapped chunks")
+    @Test
+    void randomAccessAcrossChunks() throws IOException {
+        int laps = TelemetryRecorder.CHUNK_RECORDS * 2 + 10;
+        try (TelemetryRecorder recorder = new TelemetryRecorder(telemetryFile)) {
+            for (int lap = 1; lap <= laps; lap++) {
+                recorder.record(lap, laps, lap * 0.5, lap * 0.001, lap % 1000 == 0 ? "Tyres" : null, lap * 0.5, lap * 0.001);
+            }
+            assertEquals(laps, recorder.getRecordCount());
+        }
+
+        TelemetryReader reader = new TelemetryReader(telemetryFile);
+
+        assertAll(
+                () -> assertEquals(laps, reader.getLapCount()),
+                () -> assertEquals(TelemetryRecorder.HEADER_SIZE + (long) laps * TelemetryRecorder.RECORD_SIZE, Files.size(telemetryFile)),
+                () -> assertEquals(1, reader.getLapNumber(0)),
+                () -> assertEquals(TelemetryRecorder.CHUNK_RECORDS + 1, reader.getLapNumber(TelemetryRecorder.CHUNK_RECORDS)),
+                () -> assertEquals(laps * 0.5, reader.getFuelAfterLap(laps - 1)),
+                () -> assertTrue(reader.isPitStop(999)),
+                () -> assertEquals("Tyres", reader.getLap(999).getPitReason()),
+                () -> assertFalse(reader.isPitStop(1000))
+        );
+    }
+
+    @DisplayName("[WB_TLM_03 - Core]: Test laps recorded before close are readable")
+    @Test
+    void readableBeforeClose() throws IOException {
+        try (TelemetryRecorder recorder = new TelemetryRecorder(telemetryFile)) {
+            recorder.record(1, 2, 70.0, 0.1, null, 70.0, 0.1);
+            recorder.record(2, 2, 60.0, 0.2, "Fuel", 80.0, 0.2);
+
+            TelemetryReader reader = new TelemetryReader(telemetryFile);
+
+            assertAll(
+                    () -> assertEquals(2, reader.getLapCount()),
+                    () -> assertEquals(80.0, reader.getFuelAfterPit(1)),
+                    () -> assertEquals(0.2, reader.getTyreWearAfterPit(1))
+            );
+        }
+    }
+
+    @DisplayName("[WB_TLM_04 - Core]: Test invalid use is rejected")
+    @Test
+    void invalidUse() throws IOException {
+        TelemetryRecorder recorder = new TelemetryRecorder(telemetryFile);
+        recorder.record(1, 1, 70.0, 0.1, null, 70.0, 0.1);
+        recorder.close();
+
+        TelemetryReader reader = new TelemetryReader(telemetryFile);
+        Path notTelemetry = Files.write(tempDir.resolve("other.bin"), new byte[32]);
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> recorder.record(2, 1, 60.0, 0.2, null, 60.0, 0.2)),
+                () -> assertThrows(IllegalArgumentException.class, () -> TelemetryRecorder.encodePitReason("Wings")),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> reader.getLap(1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> reader.getLap(-1)),
+                () -> assertThrows(IOException.class, () -> new TelemetryReader(notTelemetry)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new TelemetryRecorder(null))
+        );
+    }
+
+    @DisplayName("[WB_TLM_05 - Additional]: Test a file that cannot be mapped is closed again")
+    @Test
+    void unmappableFileClosed() throws IOException {
+        Path devNull = Path.of("/dev/null"); // Opens, but cannot be memory-mapped
+        Path openFiles = Path.of("/proc/self/fd");
+        assumeTrue(Files.exists(devNull) && Files.isDirectory(openFiles));
+
+        long openBefore;
+        try (Stream<Path> files = Files.list(openFiles)) {
+            openBefore = files.count();
+        }
+        for (int i = 0; i < 20; i++) {
+            assertThrows(IOException.class, () -> new TelemetryRecorder(devNull));
+        }
+        long openAfter;
+        try (Stream<Path> files = Files.list(openFiles)) {
+            openAfter = files.count();
+        }
+
+        assertTrue(openAfter < openBefore + 20, "open files before " + openBefore + ", after " + openAfter);
+    }
+}